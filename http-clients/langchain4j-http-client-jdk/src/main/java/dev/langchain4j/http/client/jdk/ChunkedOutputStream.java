@@ -0,0 +1,69 @@
+package dev.langchain4j.http.client.jdk;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects written bytes into a list of chunks that can be published as they are,
+ * unlike {@link java.io.ByteArrayOutputStream}, which copies its whole content into a new array
+ * each time it grows and once more when it is read.
+ * Chunks start small and double in size up to {@link #MAX_CHUNK_SIZE}, so small bodies stay small.
+ */
+class ChunkedOutputStream extends OutputStream {
+
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] current;
+    private int position;
+    private long size;
+
+    @Override
+    public void write(int b) {
+        ensureRemaining();
+        current[position++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            ensureRemaining();
+            int toCopy = Math.min(length, current.length - position);
+            System.arraycopy(bytes, offset, current, position, toCopy);
+            position += toCopy;
+            offset += toCopy;
+            length -= toCopy;
+            size += toCopy;
+        }
+    }
+
+    private void ensureRemaining() {
+        if (current != null && position < current.length) {
+            return;
+        }
+        if (current != null) {
+            chunks.add(current);
+        }
+        current = new byte[current == null ? MIN_CHUNK_SIZE : Math.min(current.length * 2, MAX_CHUNK_SIZE)];
+        position = 0;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * @return the written chunks; the last one is trimmed to the written length.
+     */
+    List<byte[]> chunks() {
+        List<byte[]> result = new ArrayList<>(chunks);
+        if (position > 0) {
+            result.add(position == current.length ? current : Arrays.copyOf(current, position));
+        }
+        return result;
+    }
+}
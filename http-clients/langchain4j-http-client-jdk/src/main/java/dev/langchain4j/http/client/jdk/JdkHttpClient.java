@@ -5,6 +5,7 @@ import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.IncrementalServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
 
@@ -12,21 +13,32 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandler;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
 import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 
 public class JdkHttpClient implements HttpClient {
 
     private final java.net.http.HttpClient delegate;
     private final Duration readTimeout;
+    private final Executor sseExecutor;
 
     public JdkHttpClient(JdkHttpClientBuilder builder) {
         java.net.http.HttpClient.Builder httpClientBuilder =
@@ -36,6 +48,7 @@ public class JdkHttpClient implements HttpClient {
         }
         this.delegate = httpClientBuilder.build();
         this.readTimeout = builder.readTimeout();
+        this.sseExecutor = builder.sseExecutor();
     }
 
     public static JdkHttpClientBuilder builder() {
@@ -63,6 +76,11 @@ public class JdkHttpClient implements HttpClient {
 
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+        if (parser instanceof IncrementalServerSentEventParser incrementalParser) {
+            executeIncrementally(request, incrementalParser, listener);
+            return;
+        }
+
         java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
 
         delegate.sendAsync(jdkRequest, BodyHandlers.ofInputStream())
@@ -85,15 +103,123 @@ public class JdkHttpClient implements HttpClient {
                     }
                 })
                 .exceptionally(throwable -> {
-                    if (throwable.getCause() instanceof HttpTimeoutException) {
-                        ignoringExceptions(() -> listener.onError(new TimeoutException(throwable)));
-                    } else {
-                        ignoringExceptions(() -> listener.onError(throwable));
+                    onError(throwable, listener);
+                    return null;
+                });
+    }
+
+    /**
+     * Parses events as the body buffers arrive, on the threads of the underlying {@link java.net.http.HttpClient}
+     * (or of the {@link #sseExecutor}, if specified), so no thread is blocked waiting for the next event.
+     */
+    private void executeIncrementally(HttpRequest request,
+                                      IncrementalServerSentEventParser parser,
+                                      ServerSentEventListener listener) {
+        java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+        AtomicBoolean errorReported = new AtomicBoolean();
+
+        BodyHandler<Void> bodyHandler = responseInfo -> {
+            if (!isSuccessful(responseInfo.statusCode())) {
+                return BodySubscribers.mapping(BodySubscribers.ofString(UTF_8), body -> {
+                    String errorBody = body.lines().collect(joining(System.lineSeparator()));
+                    HttpException exception = new HttpException(responseInfo.statusCode(), errorBody);
+                    ignoringExceptions(() -> listener.onError(exception));
+                    return null;
+                });
+            }
+
+            SuccessfulHttpResponse response = SuccessfulHttpResponse.builder()
+                    .statusCode(responseInfo.statusCode())
+                    .headers(responseInfo.headers().map())
+                    .build();
+            ignoringExceptions(() -> listener.onOpen(response));
+
+            return BodySubscribers.fromSubscriber(
+                    new ServerSentEventSubscriber(parser.newSession(listener), listener, sseExecutor, errorReported));
+        };
+
+        delegate.sendAsync(jdkRequest, bodyHandler)
+                .exceptionally(throwable -> {
+                    if (!errorReported.get()) {
+                        onError(throwable, listener);
                     }
                     return null;
                 });
     }
 
+    private static void onError(Throwable throwable, ServerSentEventListener listener) {
+        if (throwable instanceof HttpTimeoutException || throwable.getCause() instanceof HttpTimeoutException) {
+            ignoringExceptions(() -> listener.onError(new TimeoutException(throwable)));
+        } else {
+            ignoringExceptions(() -> listener.onError(throwable));
+        }
+    }
+
+    /**
+     * Feeds the body buffers to a {@link IncrementalServerSentEventParser.Session}, requesting the next buffers
+     * only once the previous ones have been parsed.
+     * When an {@link Executor} is specified, the signals are processed on it, one after another.
+     */
+    private static class ServerSentEventSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+        private final IncrementalServerSentEventParser.Session session;
+        private final ServerSentEventListener listener;
+        private final Executor executor;
+        private final AtomicBoolean errorReported;
+
+        private Flow.Subscription subscription;
+        private CompletableFuture<Void> previous = CompletableFuture.completedFuture(null);
+
+        ServerSentEventSubscriber(IncrementalServerSentEventParser.Session session,
+                                  ServerSentEventListener listener,
+                                  Executor executor,
+                                  AtomicBoolean errorReported) {
+            this.session = session;
+            this.listener = listener;
+            this.executor = executor;
+            this.errorReported = errorReported;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            process(() -> {
+                for (ByteBuffer buffer : buffers) {
+                    session.accept(buffer);
+                }
+                subscription.request(1);
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errorReported.set(true);
+            process(() -> JdkHttpClient.onError(throwable, listener));
+        }
+
+        @Override
+        public void onComplete() {
+            process(() -> {
+                session.finish();
+                ignoringExceptions(listener::onClose);
+            });
+        }
+
+        private void process(Runnable signal) {
+            if (executor == null) {
+                signal.run();
+            } else {
+                // signals are delivered one at a time, so chaining them keeps their order on the executor
+                previous = previous.thenRunAsync(signal, executor);
+            }
+        }
+    }
+
     private java.net.http.HttpRequest toJdkRequest(HttpRequest request) {
         java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder()
                 .uri(URI.create(request.url()));
@@ -104,13 +230,7 @@ public class JdkHttpClient implements HttpClient {
             }
         });
 
-        BodyPublisher bodyPublisher;
-        if (request.body() != null) {
-            bodyPublisher = BodyPublishers.ofString(request.body());
-        } else {
-            bodyPublisher = BodyPublishers.noBody();
-        }
-        builder.method(request.method().name(), bodyPublisher);
+        builder.method(request.method().name(), toBodyPublisher(request));
 
         if (readTimeout != null) {
             builder.timeout(readTimeout);
@@ -119,6 +239,31 @@ public class JdkHttpClient implements HttpClient {
         return builder.build();
     }
 
+    /**
+     * A {@link HttpRequest.BodyWriter} is run once on the calling thread and writes into a list of chunks,
+     * which are then published without being copied.
+     * The body is thus buffered in full before it is sent, but never exists as a {@link String}
+     * nor as a single contiguous array.
+     * If the body was already written (e.g., when the request was logged), the written bytes are sent instead.
+     */
+    private static BodyPublisher toBodyPublisher(HttpRequest request) {
+        if (request.hasBodyWriter()) {
+            ChunkedOutputStream outputStream = new ChunkedOutputStream();
+            try {
+                request.bodyWriter().writeTo(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (outputStream.size() == 0) {
+                return BodyPublishers.noBody();
+            }
+            return BodyPublishers.fromPublisher(BodyPublishers.ofByteArrays(outputStream.chunks()), outputStream.size());
+        }
+
+        byte[] body = request.bodyBytes();
+        return body == null ? BodyPublishers.noBody() : BodyPublishers.ofByteArray(body);
+    }
+
     private static SuccessfulHttpResponse fromJdkResponse(java.net.http.HttpResponse<?> response, String body) {
         return SuccessfulHttpResponse.builder()
                 .statusCode(response.statusCode())
@@ -128,7 +273,10 @@ public class JdkHttpClient implements HttpClient {
     }
 
     private static boolean isSuccessful(java.net.http.HttpResponse<?> response) {
-        int statusCode = response.statusCode();
+        return isSuccessful(response.statusCode());
+    }
+
+    private static boolean isSuccessful(int statusCode) {
         return statusCode >= 200 && statusCode < 300;
     }
 
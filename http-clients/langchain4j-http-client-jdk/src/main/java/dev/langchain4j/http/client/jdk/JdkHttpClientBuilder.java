@@ -3,12 +3,14 @@ package dev.langchain4j.http.client.jdk;
 import dev.langchain4j.http.client.HttpClientBuilder;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 public class JdkHttpClientBuilder implements HttpClientBuilder {
 
     private java.net.http.HttpClient.Builder httpClientBuilder;
     private Duration connectTimeout;
     private Duration readTimeout;
+    private Executor sseExecutor;
 
     public java.net.http.HttpClient.Builder httpClientBuilder() {
         return httpClientBuilder;
@@ -41,6 +43,27 @@ public class JdkHttpClientBuilder implements HttpClientBuilder {
         return this;
     }
 
+    public Executor sseExecutor() {
+        return sseExecutor;
+    }
+
+    /**
+     * Sets the {@link Executor} on which server-sent events are parsed and delivered to the listener.
+     * Events of a single stream are always delivered one at a time, in order.
+     * <p>
+     * By default, events are parsed as soon as body buffers arrive, on the threads of the underlying
+     * {@link java.net.http.HttpClient}, so listeners should not block.
+     * If they may block, use a separate executor,
+     * for example {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21+.
+     *
+     * @param sseExecutor the executor
+     * @return {@code this}
+     */
+    public JdkHttpClientBuilder sseExecutor(Executor sseExecutor) {
+        this.sseExecutor = sseExecutor;
+        return this;
+    }
+
     @Override
     public JdkHttpClient build() {
         return new JdkHttpClient(this);
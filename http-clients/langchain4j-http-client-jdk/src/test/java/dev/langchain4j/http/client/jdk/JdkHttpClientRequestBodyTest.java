@@ -0,0 +1,127 @@
+package dev.langchain4j.http.client.jdk;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpMethod;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JdkHttpClientRequestBodyTest {
+
+    private static final String LARGE_BODY = "{\"data\": \"" + "Grüße ".repeat(50_000) + "\"}";
+
+    private static HttpServer server;
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/echo", exchange -> {
+            byte[] body;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                body = inputStream.readAllBytes();
+            }
+            String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+            exchange.getResponseHeaders().add("X-Received-Content-Length", String.valueOf(contentLength));
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        server.stop(0);
+    }
+
+    static Stream<Arguments> should_send_body() {
+        byte[] bytes = LARGE_BODY.getBytes(UTF_8);
+        return Stream.of(
+                Arguments.of(request().body(LARGE_BODY).build()),
+                Arguments.of(request().body(bytes).build()),
+                Arguments.of(request().body(outputStream -> outputStream.write(bytes)).build()),
+                Arguments.of(request().body(outputStream -> {
+                            // written in small pieces and closed, like Jackson does
+                            for (int i = 0; i < bytes.length; i += 1000) {
+                                outputStream.write(bytes, i, Math.min(1000, bytes.length - i));
+                            }
+                            outputStream.close();
+                        })
+                        .build()));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void should_send_body(HttpRequest request) {
+
+        // given
+        HttpClient client = JdkHttpClient.builder().build();
+
+        // when
+        SuccessfulHttpResponse response = client.execute(request);
+
+        // then
+        assertThat(response.body()).isEqualTo(LARGE_BODY);
+        assertThat(response.headers().get("X-received-content-length"))
+                .containsExactly(String.valueOf(LARGE_BODY.getBytes(UTF_8).length));
+    }
+
+    @Test
+    void should_send_empty_body_written_by_writer() {
+
+        // given
+        HttpClient client = JdkHttpClient.builder().build();
+        HttpRequest request = request().body(outputStream -> {}).build();
+
+        // when
+        SuccessfulHttpResponse response = client.execute(request);
+
+        // then
+        assertThat(response.body()).isEmpty();
+    }
+
+    @Test
+    void should_not_write_body_again_when_it_was_already_written() {
+
+        // given
+        HttpClient client = JdkHttpClient.builder().build();
+        byte[] bytes = LARGE_BODY.getBytes(UTF_8);
+        AtomicInteger writes = new AtomicInteger();
+        HttpRequest request = request()
+                .body(outputStream -> {
+                    writes.incrementAndGet();
+                    outputStream.write(bytes);
+                })
+                .build();
+        String logged = request.body();
+
+        // when
+        SuccessfulHttpResponse response = client.execute(request);
+
+        // then
+        assertThat(response.body()).isEqualTo(logged).isEqualTo(LARGE_BODY);
+        assertThat(writes).hasValue(1);
+    }
+
+    private static HttpRequest.Builder request() {
+        return HttpRequest.builder()
+                .method(HttpMethod.POST)
+                .url("http://localhost:" + server.getAddress().getPort() + "/echo");
+    }
+}
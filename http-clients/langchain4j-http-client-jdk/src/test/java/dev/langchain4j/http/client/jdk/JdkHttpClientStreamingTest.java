@@ -0,0 +1,172 @@
+package dev.langchain4j.http.client.jdk;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpMethod;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.http.client.sse.Utf8ServerSentEventParser;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JdkHttpClientStreamingTest {
+
+    private static final List<String> CHUNKS = List.of(
+            "event: message_start\ndata: {\"text\": \"Grü",
+            "ße\"}\n\n",
+            "data: first\r",
+            "\ndata: second\r\n\r\n",
+            "data: [DONE]\n\n");
+
+    private static HttpServer server;
+    private static ExecutorService sseExecutor;
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/stream", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                for (String chunk : CHUNKS) {
+                    outputStream.write(chunk.getBytes(UTF_8));
+                    outputStream.flush();
+                    sleep(20);
+                }
+            }
+        });
+        server.createContext("/error", exchange -> {
+            byte[] body = "{\"error\": \"invalid request\"}".getBytes(UTF_8);
+            exchange.sendResponseHeaders(400, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        sseExecutor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        server.stop(0);
+        sseExecutor.shutdown();
+    }
+
+    static Stream<Arguments> should_stream_events() {
+        return Stream.of(
+                Arguments.of(JdkHttpClient.builder().build(), new Utf8ServerSentEventParser()),
+                Arguments.of(JdkHttpClient.builder().sseExecutor(sseExecutor).build(), new Utf8ServerSentEventParser()),
+                // not an IncrementalServerSentEventParser, so the body is read from a blocking InputStream
+                Arguments.of(JdkHttpClient.builder().build(), nonIncremental(new Utf8ServerSentEventParser())));
+    }
+
+    private static ServerSentEventParser nonIncremental(ServerSentEventParser parser) {
+        return parser::parse;
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void should_stream_events(HttpClient client, ServerSentEventParser parser) throws Exception {
+
+        // given
+        RecordingListener listener = new RecordingListener();
+
+        // when
+        client.execute(request("/stream"), parser, listener);
+
+        // then
+        assertThat(listener.closed.await(10, SECONDS)).isTrue();
+        assertThat(listener.signals).containsExactly(
+                "open 200",
+                new ServerSentEvent("message_start", "{\"text\": \"Grüße\"}").toString(),
+                new ServerSentEvent(null, "first\nsecond").toString(),
+                new ServerSentEvent(null, "[DONE]").toString(),
+                "close");
+    }
+
+    @Test
+    void should_report_error_response() throws Exception {
+
+        // given
+        HttpClient client = JdkHttpClient.builder().build();
+        RecordingListener listener = new RecordingListener();
+
+        // when
+        client.execute(request("/error"), listener);
+
+        // then
+        assertThat(listener.closed.await(10, SECONDS)).isTrue();
+        assertThat(listener.errors).hasSize(1);
+        assertThat(listener.errors.peek())
+                .isExactlyInstanceOf(HttpException.class)
+                .hasMessage("{\"error\": \"invalid request\"}");
+        assertThat(((HttpException) listener.errors.peek()).statusCode()).isEqualTo(400);
+        assertThat(listener.signals).isEmpty();
+    }
+
+    private static HttpRequest request(String path) {
+        return HttpRequest.builder()
+                .method(HttpMethod.GET)
+                .url("http://localhost:" + server.getAddress().getPort() + path)
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingListener implements ServerSentEventListener {
+
+        private final Queue<String> signals = new ConcurrentLinkedQueue<>();
+        private final Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void onOpen(SuccessfulHttpResponse response) {
+            signals.add("open " + response.statusCode());
+        }
+
+        @Override
+        public void onEvent(ServerSentEvent event) {
+            signals.add(event.toString());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+            closed.countDown();
+        }
+
+        @Override
+        public void onClose() {
+            signals.add("close");
+            closed.countDown();
+        }
+    }
+}
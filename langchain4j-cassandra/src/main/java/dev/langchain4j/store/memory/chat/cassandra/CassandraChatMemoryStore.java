@@ -2,6 +2,8 @@ package dev.langchain4j.store.memory.chat.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.uuid.Uuids;
 import com.dtsx.astra.sdk.cassio.CassIO;
 import com.dtsx.astra.sdk.cassio.ClusteredRecord;
@@ -10,6 +12,8 @@ import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ChatMessageDeserializer;
 import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -25,22 +29,41 @@ import static java.util.stream.Collectors.toList;
  * Implementation of {@link ChatMemoryStore} using Astra DB Vector Search.
  * Table contains all chats. (default name is message_store). Each chat with multiple messages
  * is a partition.Message id is a time uuid.
+ * <p>
+ * As an {@link AppendableChatMemoryStore}, new messages are inserted as new rows,
+ * and evicted messages are deleted with a range deletion up to the newest evicted row,
+ * so the rest of the conversation is neither read nor rewritten.
  *
  * @see <a href="https://docs.datastax.com/en/astra-serverless/docs/vector-search/overview.html">Astra Vector Store Documentation</a>
  */
 @Slf4j
-public class CassandraChatMemoryStore implements ChatMemoryStore {
+public class CassandraChatMemoryStore implements AppendableChatMemoryStore {
 
     /**
      * Default message store.
      */
     public static final String DEFAULT_TABLE_NAME = "message_store";
 
+    /**
+     * Columns of the message table (see {@link ClusteredTable}).
+     */
+    private static final String PARTITION_ID = "partition_id";
+    private static final String ROW_ID = "row_id";
+    private static final String BODY_BLOB = "body_blob";
+
     /**
      * Message Table.
      */
     private final ClusteredTable messageTable;
 
+    /**
+     * Statements reading or deleting the oldest rows of a partition, which the table lists last.
+     */
+    private final String findOldestRowsQuery;
+    private final String deleteRowsUpToQuery;
+    private final String deleteRowsBeforeQuery;
+    private final String deleteRowsBetweenQuery;
+
     /**
      * Constructor for message store
      *
@@ -57,7 +80,17 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
      * @param tableName    table name
      */
     public CassandraChatMemoryStore(CqlSession session, String tableName) {
-        messageTable = new ClusteredTable(session, session.getKeyspace().get().asInternal(), tableName);
+        String keyspaceName = session.getKeyspace().get().asInternal();
+        messageTable = new ClusteredTable(session, keyspaceName, tableName);
+        String table = keyspaceName + "." + tableName;
+        findOldestRowsQuery = "SELECT " + ROW_ID + ", " + BODY_BLOB + " FROM " + table
+                + " WHERE " + PARTITION_ID + " = ? ORDER BY " + ROW_ID + " ASC";
+        deleteRowsUpToQuery = "DELETE FROM " + table
+                + " WHERE " + PARTITION_ID + " = ? AND " + ROW_ID + " <= ?";
+        deleteRowsBeforeQuery = "DELETE FROM " + table
+                + " WHERE " + PARTITION_ID + " = ? AND " + ROW_ID + " < ?";
+        deleteRowsBetweenQuery = "DELETE FROM " + table
+                + " WHERE " + PARTITION_ID + " = ? AND " + ROW_ID + " > ? AND " + ROW_ID + " <= ?";
     }
 
     /**
@@ -131,6 +164,82 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
         messageTable.deletePartition(getMemoryId(memoryId));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendMessages(@NonNull Object memoryId, @NonNull List<ChatMessage> messages) {
+        messageTable.upsertPartition(messages.stream()
+                .map(record -> fromChatMessage(getMemoryId(memoryId), record))
+                .collect(toList()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictOldest(@NonNull Object memoryId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        String partitionId = getMemoryId(memoryId);
+        /*
+         * Only the oldest rows are read: the ones to evict, plus the SystemMessage
+         * if it is among them (there is at most one, and it is never evicted).
+         * Then they are deleted by range of clustering keys, around the SystemMessage if needed.
+         */
+        List<Row> oldestRows = messageTable.getCqlSession()
+                .execute(SimpleStatement.newInstance(findOldestRowsQuery + " LIMIT " + (count + 1), partitionId))
+                .all();
+        UUID systemMessageRowId = null;
+        UUID newestEvictedRowId = null;
+        boolean systemMessageAmongEvicted = false;
+        int evicted = 0;
+        for (Row row : oldestRows) {
+            if (evicted == count) {
+                break;
+            }
+            if (toChatMessage(row.getString(BODY_BLOB)) instanceof SystemMessage) {
+                systemMessageRowId = row.getUuid(ROW_ID);
+            } else {
+                newestEvictedRowId = row.getUuid(ROW_ID);
+                systemMessageAmongEvicted = systemMessageRowId != null;
+                evicted++;
+            }
+        }
+        if (newestEvictedRowId == null) {
+            return;
+        }
+        CqlSession session = messageTable.getCqlSession();
+        if (systemMessageAmongEvicted) {
+            session.execute(SimpleStatement.newInstance(deleteRowsBeforeQuery, partitionId, systemMessageRowId));
+            session.execute(SimpleStatement.newInstance(
+                    deleteRowsBetweenQuery, partitionId, systemMessageRowId, newestEvictedRowId));
+        } else {
+            session.execute(SimpleStatement.newInstance(deleteRowsUpToQuery, partitionId, newestEvictedRowId));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceSystemMessage(@NonNull Object memoryId, @NonNull SystemMessage systemMessage) {
+        String partitionId = getMemoryId(memoryId);
+        /*
+         * Rows are read from the oldest one, page by page, only until the current SystemMessage is found:
+         * it is usually one of the first messages of the conversation.
+         */
+        for (Row row : messageTable.getCqlSession()
+                .execute(SimpleStatement.newInstance(findOldestRowsQuery, partitionId))) {
+            if (toChatMessage(row.getString(BODY_BLOB)) instanceof SystemMessage) {
+                messageTable.delete(partitionId, row.getUuid(ROW_ID));
+                break;
+            }
+        }
+        messageTable.upsert(fromChatMessage(partitionId, systemMessage));
+    }
+
     /**
      * Unmarshalling Cassandra row as a Message with proper subtype.
      *
@@ -138,8 +247,18 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
      * @return chat message
      */
     private ChatMessage toChatMessage(@NonNull ClusteredRecord record) {
+        return toChatMessage(record.getBody());
+    }
+
+    /**
+     * Unmarshalling the body of a Cassandra row as a Message with proper subtype.
+     *
+     * @param body body of the cassandra row
+     * @return chat message
+     */
+    private ChatMessage toChatMessage(String body) {
         try {
-            return ChatMessageDeserializer.messageFromJson(record.getBody());
+            return ChatMessageDeserializer.messageFromJson(body);
         } catch (Exception e) {
             throw new IllegalArgumentException("Unable to parse message body", e);
         }
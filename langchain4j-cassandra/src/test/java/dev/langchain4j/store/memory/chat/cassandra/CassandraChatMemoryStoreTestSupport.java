@@ -1,6 +1,7 @@
 package dev.langchain4j.store.memory.chat.cassandra;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
@@ -11,9 +12,11 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.util.List;
 import java.util.UUID;
 
 import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -81,6 +84,33 @@ abstract class CassandraChatMemoryStoreTestSupport {
         assertThat(chatMemory.messages()).containsExactly(userMessage, aiMessage);
     }
 
+    @Test
+    @Order(5)
+    @DisplayName("5. Evict oldest items")
+    void shouldEvictOldestItems() {
+        // Given
+        String chatSessionId = "chat-" + UUID.randomUUID();
+        UserMessage first = userMessage("first");
+        SystemMessage systemMessage = systemMessage("Be polite.");
+        AiMessage second = aiMessage("second");
+        UserMessage third = userMessage("third");
+        chatMemoryStore.appendMessages(chatSessionId, List.of(first, systemMessage, second, third));
+
+        // When
+        chatMemoryStore.evictOldest(chatSessionId, 2);
+
+        // Then
+        assertThat(chatMemoryStore.getMessages(chatSessionId)).containsExactly(systemMessage, third);
+
+        // When
+        SystemMessage anotherSystemMessage = systemMessage("Be concise.");
+        chatMemoryStore.replaceSystemMessage(chatSessionId, anotherSystemMessage);
+        chatMemoryStore.evictOldest(chatSessionId, 1);
+
+        // Then
+        assertThat(chatMemoryStore.getMessages(chatSessionId)).containsExactly(anotherSystemMessage);
+    }
+
     abstract void createDatabase();
 
     abstract CassandraChatMemoryStore createChatMemoryStore();
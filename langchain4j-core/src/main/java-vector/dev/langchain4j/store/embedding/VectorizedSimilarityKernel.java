@@ -0,0 +1,51 @@
+package dev.langchain4j.store.embedding;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of {@link SimilarityKernel} based on the incubating Vector API.
+ * <p>
+ * Must only be loaded when the {@code jdk.incubator.vector} module is present,
+ * see {@link SimilarityKernel#defaultKernel()}.
+ * Accumulates in {@code float} lanes using fused multiply-add,
+ * so results can differ from the {@link SimilarityKernel#scalar()} ones in the last bits.
+ */
+class VectorizedSimilarityKernel implements SimilarityKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public double dotProduct(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            sum = va.fma(vb, sum);
+        }
+        double dotProduct = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            dotProduct += a[aOffset + i] * b[bOffset + i];
+        }
+        return dotProduct;
+    }
+
+    @Override
+    public double squaredEuclideanDistance(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            FloatVector difference = FloatVector.fromArray(SPECIES, a, aOffset + i)
+                    .sub(FloatVector.fromArray(SPECIES, b, bOffset + i));
+            sum = difference.fma(difference, sum);
+        }
+        double distance = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float difference = a[aOffset + i] - b[bOffset + i];
+            distance += difference * difference;
+        }
+        return distance;
+    }
+}
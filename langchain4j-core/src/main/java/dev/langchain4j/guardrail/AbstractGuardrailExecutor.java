@@ -1,16 +1,27 @@
 package dev.langchain4j.guardrail;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.guardrail.GuardrailResult.Failure;
 import dev.langchain4j.guardrail.config.GuardrailsConfig;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 /**
  * Abstract base class for {@link GuardrailExecutor}s.
+ * <p>
+ *     Guardrails are executed in the order in which they are declared, except for consecutive
+ *     {@link Guardrail#isIndependent() independent} guardrails, which are executed concurrently on the
+ *     {@link GuardrailExecutorBuilder#executor(Executor) executor}.
+ * </p>
  * @param <C>
  *            The type of {@link GuardrailsConfig} to use for configuration
  * @param <P>
@@ -33,11 +44,56 @@ public abstract sealed class AbstractGuardrailExecutor<
 
     private final C config;
     private final List<G> guardrails;
+    private final List<List<G>> stages;
+    private final Executor executor;
 
     protected AbstractGuardrailExecutor(C config, List<G> guardrails) {
+        this(config, guardrails, null);
+    }
+
+    /**
+     * @param executor The executor on which consecutive {@link Guardrail#isIndependent() independent} guardrails
+     *                 are executed concurrently. By default, the executor of {@link DefaultExecutorProvider} is used,
+     *                 which uses virtual threads when they are available.
+     */
+    protected AbstractGuardrailExecutor(C config, List<G> guardrails, Executor executor) {
         ensureNotNull(config, "config");
         this.config = config;
         this.guardrails = Optional.ofNullable(guardrails).orElseGet(List::of);
+        this.stages = stages(this.guardrails);
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
+    }
+
+    /**
+     * Groups the guardrails into the stages in which they are executed: consecutive independent guardrails
+     * are grouped into a single stage, and every other guardrail is a stage of its own.
+     */
+    private static <G extends Guardrail<?, ?>> List<List<G>> stages(List<G> guardrails) {
+        var stages = new ArrayList<List<G>>();
+        List<G> independentGuardrails = new ArrayList<>();
+
+        for (var guardrail : guardrails) {
+            if (guardrail == null) {
+                continue;
+            }
+
+            if (guardrail.isIndependent()) {
+                independentGuardrails.add(guardrail);
+                continue;
+            }
+
+            if (!independentGuardrails.isEmpty()) {
+                stages.add(independentGuardrails);
+                independentGuardrails = new ArrayList<>();
+            }
+            stages.add(List.of(guardrail));
+        }
+
+        if (!independentGuardrails.isEmpty()) {
+            stages.add(independentGuardrails);
+        }
+
+        return stages;
     }
 
     /**
@@ -109,10 +165,12 @@ public abstract sealed class AbstractGuardrailExecutor<
         var accumulatedResult = createSuccess();
         var accumulatedParams = params;
 
-        for (var guardrail : this.guardrails) {
-            if (guardrail != null) {
-                var result = validate(accumulatedParams, guardrail);
+        for (var stage : this.stages) {
+            var results = (stage.size() == 1)
+                    ? List.of(validate(accumulatedParams, stage.get(0)))
+                    : validateConcurrently(accumulatedParams, stage);
 
+            for (var result : results) {
                 if (result.isFatal()) {
                     // Fatal result, so stop right here and don't do any more processing
                     return handleFatalResult(accumulatedResult, result);
@@ -129,6 +187,59 @@ public abstract sealed class AbstractGuardrailExecutor<
         return accumulatedResult;
     }
 
+    /**
+     * Validates independent guardrails concurrently against the same params.
+     * <p>
+     *     The outcome is the same as if they were validated one after another:
+     *     results are collected in the order in which the guardrails are declared, up to (and including)
+     *     the first fatal result, or the first exception, which is rethrown.
+     *     Once that outcome is known, the guardrails declared after it are cancelled:
+     *     the ones not started yet are not run, and the running ones are interrupted.
+     * </p>
+     * @param params The {@link GuardrailRequest} to validate
+     * @param guardrails The independent {@link Guardrail}s to evaluate against
+     * @return The results of the validation, in the order in which the guardrails are declared
+     */
+    private List<R> validateConcurrently(P params, List<G> guardrails) {
+        var tasks = new ArrayList<FutureTask<R>>(guardrails.size());
+        var results = new ArrayList<R>(guardrails.size());
+
+        try {
+            for (var guardrail : guardrails) {
+                var task = new FutureTask<>(() -> validate(params, guardrail));
+                tasks.add(task);
+                this.executor.execute(task);
+            }
+
+            for (var task : tasks) {
+                var result = task.get();
+                results.add(result);
+
+                if (result.isFatal()) {
+                    break;
+                }
+            }
+
+            return results;
+        } catch (ExecutionException e) {
+            var cause = Objects.requireNonNullElse(e.getCause(), e);
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw createGuardrailException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createGuardrailException("Interrupted while executing guardrails", e);
+        } finally {
+            // No-op for the tasks that are already done
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
     protected R composeResult(R oldResult, R newResult) {
         if (oldResult.isSuccess()) {
             return newResult;
@@ -175,6 +286,7 @@ public abstract sealed class AbstractGuardrailExecutor<
         private final C defaultConfig;
         private C config;
         private List<G> guardrails = new ArrayList<>();
+        private Executor executor;
 
         protected GuardrailExecutorBuilder(C defaultConfig) {
             this.defaultConfig = ensureNotNull(defaultConfig, "defaultConfig");
@@ -212,6 +324,28 @@ public abstract sealed class AbstractGuardrailExecutor<
             return this.guardrails;
         }
 
+        /**
+         * Retrieves the executor on which independent guardrails are executed concurrently.
+         *
+         * @return The executor set in the builder, or {@code null} if the default one is to be used.
+         */
+        protected Executor executor() {
+            return this.executor;
+        }
+
+        /**
+         * Sets the executor on which consecutive {@link Guardrail#isIndependent() independent} guardrails
+         * are executed concurrently.
+         *
+         * @param executor The executor to use. If {@code null}, the executor of {@link DefaultExecutorProvider}
+         *                 is used, which uses virtual threads when they are available.
+         * @return The updated instance of the builder, allowing for method chaining.
+         */
+        public B executor(Executor executor) {
+            this.executor = executor;
+            return (B) this;
+        }
+
         /**
          * Sets the configuration for the guardrail executor builder.
          *
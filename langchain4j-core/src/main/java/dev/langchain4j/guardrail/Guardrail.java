@@ -19,4 +19,21 @@ public interface Guardrail<P extends GuardrailRequest, R extends GuardrailResult
      * @return The result of the validation
      */
     R validate(P params);
+
+    /**
+     * Whether this guardrail is independent of the other guardrails, i.e., whether it only reads the request
+     * (or the response) to validate, without rewriting it, and does not depend on the rewrites made by the
+     * guardrails that come before it.
+     * <p>
+     * Consecutive independent guardrails (e.g., PII detection, toxicity or prompt-injection classifiers calling a
+     * {@code ModerationModel} or another LLM) are executed concurrently, so that their latency is the one of the
+     * slowest of them instead of the sum of all of them. Other guardrails are executed one after another,
+     * in the order in which they are declared.
+     *
+     * @return {@code true} if this guardrail can be executed concurrently with other independent guardrails,
+     *         {@code false} by default
+     */
+    default boolean isIndependent() {
+        return false;
+    }
 }
@@ -5,6 +5,7 @@ import dev.langchain4j.guardrail.config.InputGuardrailsConfig;
 import dev.langchain4j.spi.guardrail.InputGuardrailExecutorBuilderFactory;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
 
 /**
  * The {@link GuardrailExecutor} for {@link InputGuardrail}s.
@@ -17,6 +18,10 @@ public non-sealed class InputGuardrailExecutor
         super(config, guardrails);
     }
 
+    protected InputGuardrailExecutor(InputGuardrailsConfig config, List<InputGuardrail> guardrails, Executor executor) {
+        super(config, guardrails, executor);
+    }
+
     /**
      * Creates a failure result from some {@link Failure}s.
      * @param failures The failures
@@ -100,7 +105,7 @@ public non-sealed class InputGuardrailExecutor
 
         @Override
         public InputGuardrailExecutor build() {
-            return new InputGuardrailExecutor(config(), guardrails());
+            return new InputGuardrailExecutor(config(), guardrails(), executor());
         }
     }
 }
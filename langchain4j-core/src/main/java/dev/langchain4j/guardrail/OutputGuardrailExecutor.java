@@ -1,5 +1,7 @@
 package dev.langchain4j.guardrail;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.guardrail.OutputGuardrailResult.Failure;
 import dev.langchain4j.guardrail.config.OutputGuardrailsConfig;
@@ -7,8 +9,10 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.spi.guardrail.OutputGuardrailExecutorBuilderFactory;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -31,8 +35,67 @@ public non-sealed class OutputGuardrailExecutor
             %s
             """;
 
+    private final boolean hasStreamingGuardrails;
+    private final boolean hasOnlyStreamingGuardrails;
+
     protected OutputGuardrailExecutor(OutputGuardrailsConfig config, List<OutputGuardrail> guardrails) {
-        super(config, guardrails);
+        this(config, guardrails, null);
+    }
+
+    protected OutputGuardrailExecutor(OutputGuardrailsConfig config, List<OutputGuardrail> guardrails, Executor executor) {
+        super(config, guardrails, executor);
+        this.hasStreamingGuardrails = guardrails().stream().anyMatch(StreamingOutputGuardrail.class::isInstance);
+        this.hasOnlyStreamingGuardrails = guardrails().stream()
+                .filter(Objects::nonNull)
+                .allMatch(StreamingOutputGuardrail.class::isInstance);
+    }
+
+    /**
+     * Whether or not any of the guardrails is a {@link StreamingOutputGuardrail}
+     */
+    public boolean hasStreamingGuardrails() {
+        return hasStreamingGuardrails;
+    }
+
+    /**
+     * Whether or not all the guardrails are {@link StreamingOutputGuardrail}s,
+     * so that a streamed response can be passed on as soon as each of its parts is validated
+     */
+    public boolean hasOnlyStreamingGuardrails() {
+        return hasStreamingGuardrails && hasOnlyStreamingGuardrails;
+    }
+
+    /**
+     * Executes the {@link StreamingOutputGuardrail}s on a completed part of a streamed response.
+     * Other guardrails are skipped.
+     * <p>
+     *     The validation stops at the first guardrail that does not succeed, and its result is returned:
+     *     there are no retries, as the response is still being streamed.
+     * </p>
+     *
+     * @param params The {@link PartialOutputGuardrailRequest} to validate
+     * @throws OutputGuardrailException If any kind of {@link Exception} is thrown during validation
+     * @return The {@link OutputGuardrailResult} of the validation
+     */
+    public OutputGuardrailResult executePartial(PartialOutputGuardrailRequest params) {
+        ensureNotNull(params, "params");
+
+        for (var guardrail : guardrails()) {
+            if (guardrail instanceof StreamingOutputGuardrail streamingGuardrail) {
+                OutputGuardrailResult result;
+                try {
+                    result = streamingGuardrail.validatePartialResponse(params).validatedBy(guardrail.getClass());
+                } catch (Exception e) {
+                    throw createGuardrailException(e.getMessage(), e);
+                }
+
+                if (!result.isSuccess()) {
+                    return result;
+                }
+            }
+        }
+
+        return createSuccess();
     }
 
     /**
@@ -168,7 +231,7 @@ public non-sealed class OutputGuardrailExecutor
 
         @Override
         public OutputGuardrailExecutor build() {
-            return new OutputGuardrailExecutor(config(), guardrails());
+            return new OutputGuardrailExecutor(config(), guardrails(), executor());
         }
     }
 }
@@ -0,0 +1,124 @@
+package dev.langchain4j.guardrail;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Represents the parameter passed to
+ * {@link StreamingOutputGuardrail#validatePartialResponse(PartialOutputGuardrailRequest)}.
+ */
+public final class PartialOutputGuardrailRequest {
+    private final String partialResponse;
+    private final String responseSoFar;
+    private final GuardrailRequestParams requestParams;
+
+    private PartialOutputGuardrailRequest(Builder builder) {
+        this.partialResponse = ensureNotNull(builder.partialResponse, "partialResponse");
+        this.responseSoFar = ensureNotNull(builder.responseSoFar, "responseSoFar");
+        this.requestParams = builder.requestParams;
+    }
+
+    /**
+     * Returns the part of the response to validate, e.g., a sentence, that has just been completed.
+     *
+     * @return the part of the response to validate
+     */
+    public String partialResponse() {
+        return partialResponse;
+    }
+
+    /**
+     * Returns the response streamed so far, ending with {@link #partialResponse()}.
+     *
+     * @return the response streamed so far
+     */
+    public String responseSoFar() {
+        return responseSoFar;
+    }
+
+    /**
+     * Returns a sliding window over the response streamed so far: its last {@code maxLength} characters
+     * (or all of it, if it is shorter).
+     *
+     * @param maxLength the maximum length of the window
+     * @return the end of the response streamed so far
+     */
+    public String window(int maxLength) {
+        ensureGreaterThanZero(maxLength, "maxLength");
+        return responseSoFar.length() <= maxLength
+                ? responseSoFar
+                : responseSoFar.substring(responseSoFar.length() - maxLength);
+    }
+
+    /**
+     * Returns the common parameters that are shared across guardrail checks.
+     *
+     * @return an instance of {@code GuardrailRequestParams} containing shared parameters,
+     *         or {@code null} if they are not available
+     */
+    public GuardrailRequestParams requestParams() {
+        return requestParams;
+    }
+
+    /**
+     * Creates a new builder for {@link PartialOutputGuardrailRequest}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link PartialOutputGuardrailRequest}.
+     */
+    public static class Builder {
+        private String partialResponse;
+        private String responseSoFar;
+        private GuardrailRequestParams requestParams;
+
+        private Builder() {}
+
+        /**
+         * Sets the part of the response to validate.
+         *
+         * @param partialResponse the part of the response to validate
+         * @return this builder
+         */
+        public Builder partialResponse(String partialResponse) {
+            this.partialResponse = partialResponse;
+            return this;
+        }
+
+        /**
+         * Sets the response streamed so far.
+         *
+         * @param responseSoFar the response streamed so far, ending with the part to validate
+         * @return this builder
+         */
+        public Builder responseSoFar(String responseSoFar) {
+            this.responseSoFar = responseSoFar;
+            return this;
+        }
+
+        /**
+         * Sets the common parameters.
+         *
+         * @param requestParams the common parameters
+         * @return this builder
+         */
+        public Builder requestParams(GuardrailRequestParams requestParams) {
+            this.requestParams = requestParams;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link PartialOutputGuardrailRequest}.
+         *
+         * @return a new {@link PartialOutputGuardrailRequest}
+         */
+        public PartialOutputGuardrailRequest build() {
+            return new PartialOutputGuardrailRequest(this);
+        }
+    }
+}
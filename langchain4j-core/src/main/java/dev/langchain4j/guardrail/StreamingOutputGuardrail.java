@@ -0,0 +1,44 @@
+package dev.langchain4j.guardrail;
+
+import dev.langchain4j.data.message.AiMessage;
+
+/**
+ * An {@link OutputGuardrail} that can also validate a streamed response while it is being generated,
+ * one completed part (e.g., a sentence) at a time.
+ * <p>
+ * When all the output guardrails of a streaming AI service method are {@code StreamingOutputGuardrail}s,
+ * each part of the response is passed on to the caller as soon as it has been validated,
+ * instead of only after the complete response has been validated.
+ * If the validation of a part fails, the stream is aborted: the error is reported immediately
+ * and the rest of the response is discarded.
+ * <p>
+ * Once the response is complete, it is also validated as a whole with {@link #validate(OutputGuardrailRequest)},
+ * which succeeds by default. Guardrails that need the complete response (e.g., to rewrite it, or to retry or reprompt)
+ * can be combined with {@code StreamingOutputGuardrail}s: the response is then buffered until it is complete,
+ * but its parts are still validated as they arrive, so that it can be aborted early.
+ */
+public interface StreamingOutputGuardrail extends OutputGuardrail {
+
+    /**
+     * Validates a completed part of the streamed response.
+     * <p>
+     * Only whether the result is successful matters: successful text and results are ignored,
+     * and a failure (of any kind, including retries and reprompts) aborts the stream.
+     *
+     * @param request the part of the response to validate, and the response streamed so far
+     * @return the result of the validation
+     */
+    OutputGuardrailResult validatePartialResponse(PartialOutputGuardrailRequest request);
+
+    /**
+     * Validates the complete response from the LLM. Succeeds by default, as every part of the response
+     * has already been validated by {@link #validatePartialResponse(PartialOutputGuardrailRequest)}.
+     *
+     * @param responseFromLLM
+     *            the response from the LLM
+     */
+    @Override
+    default OutputGuardrailResult validate(AiMessage responseFromLLM) {
+        return success();
+    }
+}
@@ -0,0 +1,181 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link EmbeddingModel} that splits the segments passed to {@link #embedAll(List)} into batches
+ * and sends each batch to the underlying {@link EmbeddingModel}, one after another.
+ * <p>
+ * Batches are packed in order, so that neither the number of segments nor the estimated number of tokens
+ * (according to the {@link TokenCountEstimator}) of a batch exceeds the configured limits.
+ * A segment that exceeds the token limit on its own is sent in a batch of its own.
+ * <p>
+ * When the {@link ModelProvider} of the underlying model is specified, its default limits are used
+ * (e.g., 2048 segments and 300,000 tokens for {@link ModelProvider#OPEN_AI});
+ * they can be overridden with {@link Builder#maxSegmentsPerBatch(Integer)} and {@link Builder#maxTokensPerBatch(Integer)}.
+ * <p>
+ * Embeddings are returned in the order of the segments, and the token usages of all batches are summed.
+ */
+public class BatchingEmbeddingModel implements EmbeddingModel {
+
+    private static final Limits DEFAULT_LIMITS = new Limits(96, 32_768);
+    private static final Map<ModelProvider, Limits> PROVIDER_LIMITS = new EnumMap<>(ModelProvider.class);
+
+    static {
+        PROVIDER_LIMITS.put(ModelProvider.OPEN_AI, new Limits(2048, 300_000));
+        PROVIDER_LIMITS.put(ModelProvider.AZURE_OPEN_AI, new Limits(2048, 300_000));
+        PROVIDER_LIMITS.put(ModelProvider.GITHUB_MODELS, new Limits(2048, 300_000));
+        PROVIDER_LIMITS.put(ModelProvider.MISTRAL_AI, new Limits(512, 16_384));
+        PROVIDER_LIMITS.put(ModelProvider.GOOGLE_AI_GEMINI, new Limits(100, Integer.MAX_VALUE));
+        PROVIDER_LIMITS.put(ModelProvider.GOOGLE_VERTEX_AI_GEMINI, new Limits(250, 20_000));
+        PROVIDER_LIMITS.put(ModelProvider.WATSONX, new Limits(1000, Integer.MAX_VALUE));
+        PROVIDER_LIMITS.put(ModelProvider.OLLAMA, new Limits(512, Integer.MAX_VALUE));
+    }
+
+    private final EmbeddingModel embeddingModel;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int maxSegmentsPerBatch;
+    private final int maxTokensPerBatch;
+
+    public BatchingEmbeddingModel(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        this.tokenCountEstimator = ensureNotNull(builder.tokenCountEstimator, "tokenCountEstimator");
+        Limits defaultLimits = builder.provider == null
+                ? DEFAULT_LIMITS
+                : PROVIDER_LIMITS.getOrDefault(builder.provider, DEFAULT_LIMITS);
+        this.maxSegmentsPerBatch = ensureGreaterThanZero(
+                getOrDefault(builder.maxSegmentsPerBatch, defaultLimits.maxSegments), "maxSegmentsPerBatch");
+        this.maxTokensPerBatch = ensureGreaterThanZero(
+                getOrDefault(builder.maxTokensPerBatch, defaultLimits.maxTokens), "maxTokensPerBatch");
+    }
+
+    public int maxSegmentsPerBatch() {
+        return maxSegmentsPerBatch;
+    }
+
+    public int maxTokensPerBatch() {
+        return maxTokensPerBatch;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        TokenUsage tokenUsage = null;
+        for (List<TextSegment> batch : partition(textSegments)) {
+            Response<List<Embedding>> response = embeddingModel.embedAll(batch);
+            ensureEq(response.content().size(), batch.size(),
+                    "Expected %s embeddings, but got %s", batch.size(), response.content().size());
+            embeddings.addAll(response.content());
+            tokenUsage = TokenUsage.sum(tokenUsage, response.tokenUsage());
+        }
+        return Response.from(embeddings, tokenUsage);
+    }
+
+    /**
+     * Packs consecutive segments into batches that fit within both limits.
+     */
+    List<List<TextSegment>> partition(List<TextSegment> textSegments) {
+        List<List<TextSegment>> batches = new ArrayList<>();
+        int batchStart = 0;
+        long batchTokens = 0;
+        for (int i = 0; i < textSegments.size(); i++) {
+            int tokens = tokenCountEstimator.estimateTokenCountInText(textSegments.get(i).text());
+            int batchSize = i - batchStart;
+            if (batchSize > 0 && (batchSize == maxSegmentsPerBatch || batchTokens + tokens > maxTokensPerBatch)) {
+                batches.add(textSegments.subList(batchStart, i));
+                batchStart = i;
+                batchTokens = 0;
+            }
+            batchTokens += tokens;
+        }
+        if (batchStart < textSegments.size()) {
+            batches.add(textSegments.subList(batchStart, textSegments.size()));
+        }
+        return batches;
+    }
+
+    @Override
+    public int dimension() {
+        return embeddingModel.dimension();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private record Limits(int maxSegments, int maxTokens) {}
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private TokenCountEstimator tokenCountEstimator;
+        private ModelProvider provider;
+        private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+
+        /**
+         * @param embeddingModel the {@link EmbeddingModel} that embeds each batch.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator the {@link TokenCountEstimator} used to estimate the number of tokens of each segment.
+         *                            It should match the tokenizer of the embedding model as closely as possible.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param provider the provider of the embedding model, whose default limits are used
+         *                 when {@link #maxSegmentsPerBatch(Integer)} or {@link #maxTokensPerBatch(Integer)} is not specified.
+         * @return builder
+         */
+        public Builder provider(ModelProvider provider) {
+            this.provider = provider;
+            return this;
+        }
+
+        /**
+         * @param maxSegmentsPerBatch the maximum number of segments sent in a single request.
+         * @return builder
+         */
+        public Builder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * @param maxTokensPerBatch the maximum estimated number of tokens sent in a single request.
+         * @return builder
+         */
+        public Builder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        public BatchingEmbeddingModel build() {
+            return new BatchingEmbeddingModel(this);
+        }
+    }
+}
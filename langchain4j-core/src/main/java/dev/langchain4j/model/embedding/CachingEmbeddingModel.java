@@ -0,0 +1,358 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link EmbeddingModel} that caches the embeddings computed by another {@link EmbeddingModel},
+ * so that texts that were already embedded (e.g., unchanged documents that are ingested again, or repeated queries)
+ * are not sent to the model again.
+ * <p>
+ * Embeddings are keyed by the SHA-256 hash of the model name, the dimension and the text.
+ * They are kept in a bounded in-memory LRU cache and, optionally, in a memory-mapped file that survives restarts
+ * (see {@link Builder#persistentCacheFile(Path)}).
+ * As the persistent cache file can outlive the model it was filled by,
+ * the model name and the dimension must then be configured explicitly.
+ * <p>
+ * {@link #embedAll(List)} sends only the texts that are not cached (each distinct text once) to the model,
+ * in a single call, and returns all embeddings in the order of the segments.
+ * The returned token usage is the one of that call, or {@code null} when all embeddings were cached.
+ * <p>
+ * When a persistent cache file is used, this model must be {@link #close() closed} to release the file.
+ */
+public class CachingEmbeddingModel implements EmbeddingModel, Closeable {
+
+    private static final int DEFAULT_MAX_CACHE_SIZE = 10_000;
+    private static final int REGION_SIZE = 16 * 1024 * 1024;
+
+    private final EmbeddingModel embeddingModel;
+    private final Integer configuredDimension;
+    private final byte[] namespace;
+    private final Map<Key, float[]> memoryCache;
+    private final MappedEmbeddingCacheFile persistentCache;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong persistentHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachingEmbeddingModel(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        if (builder.persistentCacheFile != null) {
+            ensureNotBlank(builder.modelName, "modelName");
+            ensureGreaterThanZero(builder.dimension, "dimension");
+        }
+        this.configuredDimension = builder.dimension;
+        this.namespace = (getOrDefault(builder.modelName, "") + "\u0000"
+                + getOrDefault(builder.dimension, 0) + "\u0000").getBytes(UTF_8);
+        int maxCacheSize = ensureGreaterThanZero(getOrDefault(builder.maxCacheSize, DEFAULT_MAX_CACHE_SIZE), "maxCacheSize");
+        this.memoryCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, float[]> eldest) {
+                return size() > maxCacheSize;
+            }
+        };
+        if (builder.persistentCacheFile == null) {
+            this.persistentCache = null;
+        } else {
+            try {
+                this.persistentCache = new MappedEmbeddingCacheFile(builder.persistentCacheFile, REGION_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+        Map<Key, List<Integer>> missing = new LinkedHashMap<>();
+        List<TextSegment> missingSegments = new ArrayList<>();
+
+        for (int i = 0; i < textSegments.size(); i++) {
+            TextSegment segment = textSegments.get(i);
+            Key key = Key.of(namespace, segment.text());
+            float[] vector = lookup(key);
+            if (vector != null) {
+                embeddings[i] = Embedding.from(vector);
+                continue;
+            }
+            List<Integer> indices = missing.get(key);
+            if (indices == null) {
+                indices = new ArrayList<>(1);
+                missing.put(key, indices);
+                missingSegments.add(segment);
+            }
+            indices.add(i);
+        }
+
+        if (missingSegments.isEmpty()) {
+            return Response.from(Arrays.asList(embeddings));
+        }
+
+        misses.addAndGet(missingSegments.size());
+        Response<List<Embedding>> response = embeddingModel.embedAll(missingSegments);
+        ensureEq(response.content().size(), missingSegments.size(),
+                "Expected %s embeddings, but got %s", missingSegments.size(), response.content().size());
+
+        int j = 0;
+        for (Map.Entry<Key, List<Integer>> entry : missing.entrySet()) {
+            Embedding embedding = response.content().get(j++);
+            store(entry.getKey(), embedding.vector());
+            for (int index : entry.getValue()) {
+                embeddings[index] = embedding;
+            }
+        }
+
+        return Response.from(Arrays.asList(embeddings), response.tokenUsage(), response.finishReason());
+    }
+
+    private float[] lookup(Key key) {
+        float[] vector;
+        synchronized (memoryCache) {
+            vector = memoryCache.get(key);
+        }
+        if (vector != null) {
+            memoryHits.incrementAndGet();
+            return vector.clone();
+        }
+        if (persistentCache != null && (vector = persistentCache.get(key)) != null) {
+            persistentHits.incrementAndGet();
+            synchronized (memoryCache) {
+                memoryCache.put(key, vector.clone());
+            }
+            return vector;
+        }
+        return null;
+    }
+
+    private void store(Key key, float[] vector) {
+        synchronized (memoryCache) {
+            memoryCache.put(key, vector.clone());
+        }
+        if (persistentCache != null) {
+            try {
+                persistentCache.put(key, vector);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * @return the configured dimension, or otherwise the {@link EmbeddingModel#dimension()} of the embedding model,
+     * which (unless the embedding model overrides it) embeds a text without caching it.
+     */
+    @Override
+    public int dimension() {
+        return configuredDimension != null ? configuredDimension : embeddingModel.dimension();
+    }
+
+    /**
+     * @return the hit and miss counts since this model was created.
+     */
+    public CacheStats cacheStats() {
+        return new CacheStats(memoryHits.get(), persistentHits.get(), misses.get());
+    }
+
+    /**
+     * Removes all embeddings from the in-memory cache. The persistent cache file, if any, is not modified.
+     */
+    public void clearMemoryCache() {
+        synchronized (memoryCache) {
+            memoryCache.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (persistentCache != null) {
+            try {
+                persistentCache.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Hit and miss counts of a {@link CachingEmbeddingModel}.
+     * A miss is counted once per distinct text that was sent to the underlying model.
+     */
+    public static class CacheStats {
+
+        private final long memoryHitCount;
+        private final long persistentHitCount;
+        private final long missCount;
+
+        public CacheStats(long memoryHitCount, long persistentHitCount, long missCount) {
+            this.memoryHitCount = memoryHitCount;
+            this.persistentHitCount = persistentHitCount;
+            this.missCount = missCount;
+        }
+
+        public long memoryHitCount() {
+            return memoryHitCount;
+        }
+
+        public long persistentHitCount() {
+            return persistentHitCount;
+        }
+
+        public long hitCount() {
+            return memoryHitCount + persistentHitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the ratio of hits to lookups, or {@code 0} if there was no lookup yet.
+         */
+        public double hitRate() {
+            long lookups = hitCount() + missCount;
+            return lookups == 0 ? 0 : (double) hitCount() / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStats {" + " memoryHitCount = " + memoryHitCount
+                    + ", persistentHitCount = " + persistentHitCount
+                    + ", missCount = " + missCount
+                    + " }";
+        }
+    }
+
+    /**
+     * The SHA-256 hash of the namespace (model name and dimension) and the text of a segment.
+     */
+    static final class Key {
+
+        static final int LENGTH = 32;
+
+        private final byte[] bytes;
+        private final int hashCode;
+
+        Key(byte[] bytes) {
+            this.bytes = bytes;
+            this.hashCode = Arrays.hashCode(bytes);
+        }
+
+        static Key of(byte[] namespace, String text) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            digest.update(namespace);
+            return new Key(digest.digest(text.getBytes(UTF_8)));
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Key && Arrays.equals(bytes, ((Key) o).bytes));
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private String modelName;
+        private Integer dimension;
+        private Integer maxCacheSize;
+        private Path persistentCacheFile;
+
+        /**
+         * @param embeddingModel the {@link EmbeddingModel} that computes the embeddings that are not cached.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param modelName the name of the model, part of the cache key,
+         *                  so that models with different names can share a persistent cache file.
+         *                  Required when a {@link #persistentCacheFile(Path)} is used.
+         * @return builder
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param dimension the dimension of the embeddings, part of the cache key.
+         *                  Required when a {@link #persistentCacheFile(Path)} is used.
+         *                  Otherwise, {@link CachingEmbeddingModel#dimension()} falls back to
+         *                  the {@link EmbeddingModel#dimension()} of the embedding model.
+         * @return builder
+         */
+        public Builder dimension(Integer dimension) {
+            this.dimension = dimension;
+            return this;
+        }
+
+        /**
+         * @param maxCacheSize the maximum number of embeddings kept in memory;
+         *                     the least recently used ones are evicted first.
+         *                     Default value: 10,000.
+         * @return builder
+         */
+        public Builder maxCacheSize(Integer maxCacheSize) {
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
+        /**
+         * @param persistentCacheFile the file in which all embeddings are also stored, and looked up on memory misses.
+         *                            It is created if it does not exist.
+         *                            The file must not be used by another model at the same time.
+         *                            Requires {@link #modelName(String)} and {@link #dimension(Integer)}.
+         * @return builder
+         */
+        public Builder persistentCacheFile(Path persistentCacheFile) {
+            this.persistentCacheFile = persistentCacheFile;
+            return this;
+        }
+
+        public CachingEmbeddingModel build() {
+            return new CachingEmbeddingModel(this);
+        }
+    }
+}
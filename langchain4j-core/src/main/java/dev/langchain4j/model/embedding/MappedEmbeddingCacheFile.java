@@ -0,0 +1,141 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An append-only file of embeddings keyed by {@link CachingEmbeddingModel.Key}s, memory-mapped in fixed-size regions.
+ * All numbers are little-endian.
+ * <pre>
+ * record   dimension (int), key (32 bytes), vector (dimension floats)
+ * </pre>
+ * Records never span two regions: when the next record does not fit, the rest of the region is left empty.
+ * Regions start zero-filled and the dimension of a record is written last,
+ * so a record that was only partially written (e.g., because the process crashed) reads as the end of its region.
+ * <p>
+ * The positions of the records are kept in memory; they are rebuilt by scanning the file when it is opened.
+ */
+class MappedEmbeddingCacheFile implements Closeable {
+
+    private static final int HEADER_BYTES = Integer.BYTES + CachingEmbeddingModel.Key.LENGTH;
+
+    private final FileChannel channel;
+    private final int regionSize;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+    private final Map<CachingEmbeddingModel.Key, Long> positions = new HashMap<>();
+    private int writeRegion;
+    private int writePosition;
+
+    MappedEmbeddingCacheFile(Path path, int regionSize) throws IOException {
+        this.channel = FileChannel.open(path, CREATE, READ, WRITE);
+        this.regionSize = regionSize;
+        int regionCount = (int) Math.max(1, (channel.size() + regionSize - 1) / regionSize);
+        for (int i = 0; i < regionCount; i++) {
+            regions.add(map(i));
+        }
+        scan();
+    }
+
+    private MappedByteBuffer map(int region) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, (long) region * regionSize, regionSize);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private void scan() {
+        for (int region = 0; region < regions.size(); region++) {
+            MappedByteBuffer buffer = regions.get(region);
+            int position = 0;
+            while (position + HEADER_BYTES <= regionSize) {
+                int dimension = buffer.getInt(position);
+                if (dimension <= 0 || position + recordSize(dimension) > regionSize) {
+                    break;
+                }
+                byte[] key = new byte[CachingEmbeddingModel.Key.LENGTH];
+                buffer.get(position + Integer.BYTES, key);
+                positions.put(new CachingEmbeddingModel.Key(key), position(region, position));
+                position += recordSize(dimension);
+            }
+            writeRegion = region;
+            writePosition = position;
+        }
+    }
+
+    synchronized float[] get(CachingEmbeddingModel.Key key) {
+        Long position = positions.get(key);
+        if (position == null) {
+            return null;
+        }
+        MappedByteBuffer buffer = regions.get((int) (position / regionSize));
+        int offset = (int) (position % regionSize);
+        float[] vector = new float[buffer.getInt(offset)];
+        buffer.slice(offset + HEADER_BYTES, vector.length * Float.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asFloatBuffer()
+                .get(vector);
+        return vector;
+    }
+
+    synchronized void put(CachingEmbeddingModel.Key key, float[] vector) throws IOException {
+        if (positions.containsKey(key)) {
+            return;
+        }
+        int recordSize = recordSize(vector.length);
+        if (recordSize > regionSize) {
+            throw illegalArgument(
+                    "An embedding of dimension %s does not fit into a region of %s bytes", vector.length, regionSize);
+        }
+        if (writePosition + recordSize > regionSize) {
+            writeRegion++;
+            writePosition = 0;
+            if (writeRegion == regions.size()) {
+                regions.add(map(writeRegion));
+            }
+        }
+        MappedByteBuffer buffer = regions.get(writeRegion);
+        buffer.put(writePosition + Integer.BYTES, key.bytes());
+        buffer.slice(writePosition + HEADER_BYTES, vector.length * Float.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asFloatBuffer()
+                .put(vector);
+        buffer.putInt(writePosition, vector.length);
+        positions.put(key, position(writeRegion, writePosition));
+        writePosition += recordSize;
+    }
+
+    synchronized int size() {
+        return positions.size();
+    }
+
+    private long position(int region, int position) {
+        return (long) region * regionSize + position;
+    }
+
+    private static int recordSize(int dimension) {
+        return HEADER_BYTES + dimension * Float.BYTES;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            for (MappedByteBuffer region : regions) {
+                region.force();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -5,7 +5,10 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -19,6 +22,15 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         return new DefaultTemplate(input.getTemplate());
     }
 
+    /**
+     * A template that is parsed once, when created, into a list of literal and variable segments,
+     * and then rendered in a single pass, in time linear in the length of the result.
+     * <p>
+     * Only placeholders written exactly as <code>{{variable_name}}</code> are replaced.
+     * Placeholders with spaces, such as <code>{{ variable_name }}</code>, still require a value,
+     * but are kept as they are (like with the previous, {@link String#replace} based, implementation).
+     * Values are inserted as they are: placeholders they contain are not replaced.
+     */
     static class DefaultTemplate implements Template {
 
         /**
@@ -35,29 +47,88 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         private final String template;
         private final Set<String> allVariables;
 
+        /**
+         * Start (inclusive) and end (exclusive) offsets in {@link #template} of the literal text
+         * before each placeholder, and after the last one.
+         */
+        private final int[] literalStarts;
+        private final int[] literalEnds;
+        private final int literalLength;
+
+        /**
+         * For each placeholder to replace, the index of its variable in {@link #replacedVariables}.
+         */
+        private final int[] placeholderVariables;
+        private final String[] replacedVariables;
+
         public DefaultTemplate(String template) {
             this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            Set<String> allVariables = new HashSet<>();
+            Map<String, Integer> replacedVariableIndexes = new LinkedHashMap<>();
+            List<int[]> literals = new ArrayList<>();
+            List<Integer> placeholderVariables = new ArrayList<>();
+
+            int literalStart = 0;
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
             while (matcher.find()) {
-                variables.add(matcher.group(1));
+                String variable = matcher.group(1);
+                allVariables.add(variable);
+                if (matcher.end() - matcher.start() != variable.length() + 4) {
+                    continue; // placeholder with spaces, kept as is
+                }
+                literals.add(new int[] {literalStart, matcher.start()});
+                Integer index = replacedVariableIndexes.get(variable);
+                if (index == null) {
+                    index = replacedVariableIndexes.size();
+                    replacedVariableIndexes.put(variable, index);
+                }
+                placeholderVariables.add(index);
+                literalStart = matcher.end();
             }
-            return variables;
+            literals.add(new int[] {literalStart, template.length()});
+
+            this.allVariables = allVariables;
+            this.literalStarts = new int[literals.size()];
+            this.literalEnds = new int[literals.size()];
+            int literalLength = 0;
+            for (int i = 0; i < literals.size(); i++) {
+                literalStarts[i] = literals.get(i)[0];
+                literalEnds[i] = literals.get(i)[1];
+                literalLength += literalEnds[i] - literalStarts[i];
+            }
+            this.literalLength = literalLength;
+            this.placeholderVariables =
+                    placeholderVariables.stream().mapToInt(Integer::intValue).toArray();
+            this.replacedVariables = replacedVariableIndexes.keySet().toArray(new String[0]);
         }
 
         public String render(Map<String, Object> variables) {
             ensureAllVariablesProvided(variables);
+            ensureNoNullValues(variables);
+
+            if (placeholderVariables.length == 0) {
+                return template;
+            }
+
+            String[] values = new String[replacedVariables.length];
+            for (int i = 0; i < replacedVariables.length; i++) {
+                values[i] = valueOf(replacedVariables[i], variables.get(replacedVariables[i]));
+            }
 
-            String result = template;
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+            int length = literalLength;
+            for (int variable : placeholderVariables) {
+                length += values[variable].length();
             }
 
-            return result;
+            StringBuilder result = new StringBuilder(length);
+            for (int i = 0; i < placeholderVariables.length; i++) {
+                result.append(template, literalStarts[i], literalEnds[i]);
+                result.append(values[placeholderVariables[i]]);
+            }
+            int last = placeholderVariables.length;
+            result.append(template, literalStarts[last], literalEnds[last]);
+            return result.toString();
         }
 
         private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
@@ -68,15 +139,20 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
             }
         }
 
-        private static String replaceAll(String template, String variable, Object value) {
-            if (value == null || value.toString() == null) {
-                throw illegalArgument("Value for the variable '%s' is null", variable);
+        private static void ensureNoNullValues(Map<String, Object> providedVariables) {
+            for (Map.Entry<String, Object> entry : providedVariables.entrySet()) {
+                if (entry.getValue() == null) {
+                    throw illegalArgument("Value for the variable '%s' is null", entry.getKey());
+                }
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
         }
 
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
+        private static String valueOf(String variable, Object value) {
+            String string = value.toString();
+            if (string == null) {
+                throw illegalArgument("Value for the variable '%s' is null", variable);
+            }
+            return string;
         }
     }
 }
@@ -63,6 +63,21 @@ public class CosineSimilarity {
         return dotProduct / Math.max(Math.sqrt(normA) * Math.sqrt(normB), EPSILON);
     }
 
+    /**
+     * Calculates cosine similarity from a dot product and precomputed norms of both vectors.
+     * Useful when norms of stored vectors are computed once, instead of on every comparison.
+     *
+     * @param dotProduct dot product of both vectors
+     * @param normA      Euclidean norm of the first vector
+     * @param normB      Euclidean norm of the second vector
+     * @return cosine similarity in the range [-1..1]
+     * @see SimilarityKernel
+     */
+    public static double fromDotProduct(double dotProduct, double normA, double normB) {
+        // Avoid division by zero.
+        return dotProduct / Math.max(normA * normB, EPSILON);
+    }
+
     /**
      * Converts relevance score into cosine similarity.
      *
@@ -1,6 +1,7 @@
 package dev.langchain4j.store.embedding;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.Arrays.asList;
@@ -13,12 +14,21 @@ import dev.langchain4j.data.document.DocumentTransformer;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,16 +57,31 @@ import org.slf4j.LoggerFactory;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * Optionally, the {@code EmbeddingStoreIngestor} can ingest documents in batches of {@code documentBatchSize}:
+ * each batch flows through transformation, splitting, embedding and storing on its own,
+ * so that only a bounded number of batches is held in memory and the {@code EmbeddingStore}
+ * receives segments while later documents are still being embedded.
+ * Up to {@code embeddingConcurrency} batches are processed concurrently; when all of them are busy,
+ * reading further documents is paused until one of them completes.
+ * See {@link #ingest(Stream)}.
  */
 public class EmbeddingStoreIngestor {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreIngestor.class);
 
+    private static final int DEFAULT_DOCUMENT_BATCH_SIZE = 100;
+
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final Integer documentBatchSize;
+    private final int embeddingConcurrency;
+    private final Executor executor;
+    private final Consumer<IngestionProgress> progressListener;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -75,12 +100,32 @@ public class EmbeddingStoreIngestor {
             TextSegmentTransformer textSegmentTransformer,
             EmbeddingModel embeddingModel,
             EmbeddingStore<TextSegment> embeddingStore) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore,
+                null, null, null, null);
+    }
+
+    private EmbeddingStoreIngestor(
+            DocumentTransformer documentTransformer,
+            DocumentSplitter documentSplitter,
+            TextSegmentTransformer textSegmentTransformer,
+            EmbeddingModel embeddingModel,
+            EmbeddingStore<TextSegment> embeddingStore,
+            Integer documentBatchSize,
+            Integer embeddingConcurrency,
+            Executor executor,
+            Consumer<IngestionProgress> progressListener) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
         this.embeddingModel = ensureNotNull(
                 getOrDefault(embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel), "embeddingModel");
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.documentBatchSize = documentBatchSize == null
+                ? null
+                : ensureGreaterThanZero(documentBatchSize, "documentBatchSize");
+        this.embeddingConcurrency = ensureGreaterThanZero(getOrDefault(embeddingConcurrency, 1), "embeddingConcurrency");
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
+        this.progressListener = progressListener;
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -175,9 +220,50 @@ public class EmbeddingStoreIngestor {
      * @return result including information related to ingestion process.
      */
     public IngestionResult ingest(List<Document> documents) {
+        if (documentBatchSize != null) {
+            return ingest(documents.stream());
+        }
 
         log.debug("Starting to ingest {} documents", documents.size());
+        return new IngestionResult(ingestBatch(documents).tokenUsage);
+    }
+
+    /**
+     * Ingests specified documents into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Documents are consumed lazily, in batches of {@code documentBatchSize} (100 by default).
+     * Each batch is transformed, split, embedded and stored before its documents are released,
+     * and up to {@code embeddingConcurrency} batches are processed concurrently.
+     * The {@link EmbeddingStore} must therefore be thread-safe when {@code embeddingConcurrency} is greater than 1.
+     * <br>
+     * If a batch fails, no further batches are started, and the first failure is rethrown
+     * once the batches that are already in progress complete.
+     * Segments of the batches that completed before the failure remain in the {@link EmbeddingStore}.
+     *
+     * @param documents the documents to ingest.
+     * @return result including information related to ingestion process.
+     */
+    public IngestionResult ingest(Stream<Document> documents) {
+        int batchSize = getOrDefault(documentBatchSize, DEFAULT_DOCUMENT_BATCH_SIZE);
+        Pipeline pipeline = new Pipeline();
+
+        Iterator<Document> iterator = documents.iterator();
+        int batchIndex = 0;
+        while (iterator.hasNext() && !pipeline.failed()) {
+            List<Document> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+            }
+            pipeline.submit(batchIndex++, batch);
+        }
+
+        return pipeline.awaitCompletion();
+    }
+
+    private BatchResult ingestBatch(List<Document> documents) {
 
+        int documentCount = documents.size();
         if (documentTransformer != null) {
             documents = documentTransformer.transformAll(documents);
             log.debug("Documents were transformed into {} documents", documents.size());
@@ -193,6 +279,9 @@ public class EmbeddingStoreIngestor {
             segments = textSegmentTransformer.transformAll(segments);
             log.debug("{} documents were transformed into {} text segments", documents.size(), segments.size());
         }
+        if (segments.isEmpty()) {
+            return new BatchResult(documentCount, 0, null);
+        }
 
         log.debug("Starting to embed {} text segments", segments.size());
         Response<List<Embedding>> embeddingsResponse = embeddingModel.embedAll(segments);
@@ -202,7 +291,114 @@ public class EmbeddingStoreIngestor {
         embeddingStore.addAll(embeddingsResponse.content(), segments);
         log.debug("Finished storing {} text segments into the embedding store", segments.size());
 
-        return new IngestionResult(embeddingsResponse.tokenUsage());
+        return new BatchResult(documentCount, segments.size(), embeddingsResponse.tokenUsage());
+    }
+
+    private static class BatchResult {
+
+        private final int documentCount;
+        private final int segmentCount;
+        private final TokenUsage tokenUsage;
+
+        private BatchResult(int documentCount, int segmentCount, TokenUsage tokenUsage) {
+            this.documentCount = documentCount;
+            this.segmentCount = segmentCount;
+            this.tokenUsage = tokenUsage;
+        }
+    }
+
+    /**
+     * Runs batches on the {@link #executor}, with at most {@link #embeddingConcurrency} of them in flight.
+     * A single batch at a time is run on the calling thread.
+     */
+    private class Pipeline {
+
+        private final Semaphore permits = new Semaphore(embeddingConcurrency);
+        private int ingestedDocumentCount;
+        private int ingestedSegmentCount;
+        private TokenUsage tokenUsage;
+        private volatile Throwable failure;
+
+        void submit(int batchIndex, List<Document> batch) {
+            if (embeddingConcurrency == 1) {
+                run(batchIndex, batch);
+                return;
+            }
+            acquire(1);
+            try {
+                CompletableFuture.runAsync(() -> run(batchIndex, batch), executor)
+                        .whenComplete((ignored, e) -> {
+                            if (e != null) {
+                                fail(e);
+                            }
+                            permits.release();
+                        });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void run(int batchIndex, List<Document> batch) {
+            if (failed()) {
+                return;
+            }
+            try {
+                completed(batchIndex, ingestBatch(batch));
+            } catch (Throwable e) {
+                fail(e);
+            }
+        }
+
+        private synchronized void completed(int batchIndex, BatchResult result) {
+            ingestedDocumentCount += result.documentCount;
+            ingestedSegmentCount += result.segmentCount;
+            tokenUsage = TokenUsage.sum(tokenUsage, result.tokenUsage);
+            if (progressListener != null) {
+                progressListener.accept(new IngestionProgress(
+                        batchIndex,
+                        result.documentCount,
+                        result.segmentCount,
+                        result.tokenUsage,
+                        ingestedDocumentCount,
+                        ingestedSegmentCount,
+                        tokenUsage));
+            }
+        }
+
+        private synchronized void fail(Throwable e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+
+        boolean failed() {
+            return failure != null;
+        }
+
+        IngestionResult awaitCompletion() {
+            acquire(embeddingConcurrency);
+            permits.release(embeddingConcurrency);
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new RuntimeException(failure);
+            }
+            synchronized (this) {
+                return new IngestionResult(tokenUsage);
+            }
+        }
+
+        private void acquire(int count) {
+            try {
+                permits.acquire(count);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
     }
 
     /**
@@ -224,6 +420,10 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Integer documentBatchSize;
+        private Integer embeddingConcurrency;
+        private Executor executor;
+        private Consumer<IngestionProgress> progressListener;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -289,6 +489,63 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the number of documents that are transformed, split, embedded and stored together. Optional.
+         * <br>
+         * When set, {@link EmbeddingStoreIngestor#ingest(List)} ingests documents in batches of this size,
+         * just like {@link EmbeddingStoreIngestor#ingest(Stream)} does.
+         * When not set, {@link EmbeddingStoreIngestor#ingest(List)} embeds all segments at once,
+         * and {@link EmbeddingStoreIngestor#ingest(Stream)} uses batches of 100 documents.
+         *
+         * @param documentBatchSize the number of documents per batch.
+         * @return {@code this}
+         */
+        public Builder documentBatchSize(Integer documentBatchSize) {
+            this.documentBatchSize = documentBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches that are processed concurrently. Optional. Default is 1.
+         * <br>
+         * When all of them are busy, reading further documents is paused until one of them completes,
+         * so at most this many batches are held in memory.
+         * When greater than 1, the {@link EmbeddingStore} must be thread-safe.
+         *
+         * @param embeddingConcurrency the maximum number of batches processed concurrently.
+         * @return {@code this}
+         */
+        public Builder embeddingConcurrency(Integer embeddingConcurrency) {
+            this.embeddingConcurrency = embeddingConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} that processes batches when {@code embeddingConcurrency} is greater than 1.
+         * Optional. By default, a shared cached thread pool (or virtual threads, when available) is used.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets a listener that is notified each time a batch has been stored. Optional.
+         * <br>
+         * Notifications are delivered one at a time, but not necessarily in batch order
+         * when {@code embeddingConcurrency} is greater than 1.
+         *
+         * @param progressListener the listener.
+         * @return {@code this}
+         */
+        public Builder progressListener(Consumer<IngestionProgress> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -296,7 +553,15 @@ public class EmbeddingStoreIngestor {
          */
         public EmbeddingStoreIngestor build() {
             return new EmbeddingStoreIngestor(
-                    documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore);
+                    documentTransformer,
+                    documentSplitter,
+                    textSegmentTransformer,
+                    embeddingModel,
+                    embeddingStore,
+                    documentBatchSize,
+                    embeddingConcurrency,
+                    executor,
+                    progressListener);
         }
     }
 }
@@ -0,0 +1,96 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Represents the progress of a batched {@link EmbeddingStoreIngestor} ingestion process,
+ * reported each time a batch of documents has been stored.
+ */
+public class IngestionProgress {
+
+    private final int batchIndex;
+    private final int batchDocumentCount;
+    private final int batchSegmentCount;
+    private final TokenUsage batchTokenUsage;
+    private final int ingestedDocumentCount;
+    private final int ingestedSegmentCount;
+    private final TokenUsage tokenUsage;
+
+    public IngestionProgress(int batchIndex,
+                             int batchDocumentCount,
+                             int batchSegmentCount,
+                             TokenUsage batchTokenUsage,
+                             int ingestedDocumentCount,
+                             int ingestedSegmentCount,
+                             TokenUsage tokenUsage) {
+        this.batchIndex = batchIndex;
+        this.batchDocumentCount = batchDocumentCount;
+        this.batchSegmentCount = batchSegmentCount;
+        this.batchTokenUsage = batchTokenUsage;
+        this.ingestedDocumentCount = ingestedDocumentCount;
+        this.ingestedSegmentCount = ingestedSegmentCount;
+        this.tokenUsage = tokenUsage;
+    }
+
+    /**
+     * @return the zero-based index of the batch, in the order documents were read.
+     */
+    public int batchIndex() {
+        return batchIndex;
+    }
+
+    /**
+     * @return the number of documents in the batch.
+     */
+    public int batchDocumentCount() {
+        return batchDocumentCount;
+    }
+
+    /**
+     * @return the number of text segments the batch was split into.
+     */
+    public int batchSegmentCount() {
+        return batchSegmentCount;
+    }
+
+    /**
+     * @return the token usage of embedding the batch.
+     */
+    public TokenUsage batchTokenUsage() {
+        return batchTokenUsage;
+    }
+
+    /**
+     * @return the number of documents ingested so far, including this batch.
+     */
+    public int ingestedDocumentCount() {
+        return ingestedDocumentCount;
+    }
+
+    /**
+     * @return the number of text segments stored so far, including this batch.
+     */
+    public int ingestedSegmentCount() {
+        return ingestedSegmentCount;
+    }
+
+    /**
+     * @return the token usage so far, including this batch.
+     */
+    public TokenUsage tokenUsage() {
+        return tokenUsage;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionProgress {" +
+                " batchIndex = " + batchIndex +
+                ", batchDocumentCount = " + batchDocumentCount +
+                ", batchSegmentCount = " + batchSegmentCount +
+                ", batchTokenUsage = " + batchTokenUsage +
+                ", ingestedDocumentCount = " + ingestedDocumentCount +
+                ", ingestedSegmentCount = " + ingestedSegmentCount +
+                ", tokenUsage = " + tokenUsage +
+                " }";
+    }
+}
@@ -0,0 +1,46 @@
+package dev.langchain4j.store.embedding;
+
+/**
+ * Portable implementation of {@link SimilarityKernel}.
+ * Accumulates in {@code double}, the same way as {@link CosineSimilarity#between}.
+ */
+class ScalarSimilarityKernel implements SimilarityKernel {
+
+    static final SimilarityKernel INSTANCE = new ScalarSimilarityKernel();
+
+    static final SimilarityKernel DEFAULT_KERNEL = loadDefaultKernel();
+
+    private static final String VECTOR_API_MODULE = "jdk.incubator.vector";
+
+    @Override
+    public double dotProduct(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        double dotProduct = 0.0;
+        for (int i = 0; i < length; i++) {
+            dotProduct += a[aOffset + i] * b[bOffset + i];
+        }
+        return dotProduct;
+    }
+
+    @Override
+    public double squaredEuclideanDistance(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        double distance = 0.0;
+        for (int i = 0; i < length; i++) {
+            float difference = a[aOffset + i] - b[bOffset + i];
+            distance += difference * difference;
+        }
+        return distance;
+    }
+
+    private static SimilarityKernel loadDefaultKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_API_MODULE).isEmpty()) {
+            return INSTANCE;
+        }
+        try {
+            return (SimilarityKernel) Class.forName("dev.langchain4j.store.embedding.VectorizedSimilarityKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return INSTANCE;
+        }
+    }
+}
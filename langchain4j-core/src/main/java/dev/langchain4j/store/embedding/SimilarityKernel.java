@@ -0,0 +1,59 @@
+package dev.langchain4j.store.embedding;
+
+/**
+ * Low-level vector operations used to compare embeddings.
+ * <p>
+ * All methods operate on a slice of {@code length} elements of each array, starting at the given offsets,
+ * so that vectors packed into larger arrays can be compared without copying.
+ * <p>
+ * Two implementations are available:
+ * <ul>
+ *     <li>{@link #scalar()} - a plain Java loop, available everywhere.</li>
+ *     <li>a SIMD implementation based on the incubating Vector API ({@code jdk.incubator.vector}).
+ *     It is used by {@link #defaultKernel()} only when the JVM is started with
+ *     {@code --add-modules jdk.incubator.vector}.</li>
+ * </ul>
+ *
+ * @see SimilarityMetric
+ */
+public interface SimilarityKernel {
+
+    /**
+     * Calculates the dot product of two vectors.
+     */
+    double dotProduct(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * Calculates the squared Euclidean (L2) distance between two vectors.
+     */
+    double squaredEuclideanDistance(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * Calculates the Euclidean (L2) norm of a vector.
+     */
+    default double norm(float[] vector, int offset, int length) {
+        return Math.sqrt(dotProduct(vector, offset, vector, offset, length));
+    }
+
+    /**
+     * Calculates the Euclidean (L2) norm of a vector.
+     */
+    default double norm(float[] vector) {
+        return norm(vector, 0, vector.length);
+    }
+
+    /**
+     * @return the portable scalar implementation.
+     */
+    static SimilarityKernel scalar() {
+        return ScalarSimilarityKernel.INSTANCE;
+    }
+
+    /**
+     * @return the SIMD implementation if the {@code jdk.incubator.vector} module is available
+     * at runtime, otherwise the {@link #scalar()} implementation.
+     */
+    static SimilarityKernel defaultKernel() {
+        return ScalarSimilarityKernel.DEFAULT_KERNEL;
+    }
+}
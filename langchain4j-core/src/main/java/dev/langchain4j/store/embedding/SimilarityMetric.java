@@ -0,0 +1,71 @@
+package dev.langchain4j.store.embedding;
+
+/**
+ * Defines how the cosine similarity between a query and a stored vector is computed using a {@link SimilarityKernel}.
+ * <p>
+ * {@link #DOT_PRODUCT} and {@link #EUCLIDEAN} are cheaper than {@link #COSINE},
+ * but return the cosine similarity only for embeddings normalized to unit length
+ * (see {@link dev.langchain4j.data.embedding.Embedding#normalize()}).
+ */
+public enum SimilarityMetric {
+
+    /**
+     * Divides the dot product by the norms of both vectors.
+     * Works for any embeddings. Norms of stored vectors are expected to be computed once, when they are stored.
+     */
+    COSINE {
+        @Override
+        public double cosineSimilarity(SimilarityKernel kernel,
+                                       float[] a, int aOffset, double normA,
+                                       float[] b, int bOffset, double normB,
+                                       int length) {
+            double dotProduct = kernel.dotProduct(a, aOffset, b, bOffset, length);
+            return CosineSimilarity.fromDotProduct(dotProduct, normA, normB);
+        }
+    },
+
+    /**
+     * For unit-length embeddings, the dot product is equal to the cosine similarity. Norms are ignored.
+     */
+    DOT_PRODUCT {
+        @Override
+        public double cosineSimilarity(SimilarityKernel kernel,
+                                       float[] a, int aOffset, double normA,
+                                       float[] b, int bOffset, double normB,
+                                       int length) {
+            return kernel.dotProduct(a, aOffset, b, bOffset, length);
+        }
+    },
+
+    /**
+     * For unit-length embeddings, the cosine similarity is {@code 1 - d / 2},
+     * where {@code d} is the squared Euclidean distance. Norms are ignored.
+     */
+    EUCLIDEAN {
+        @Override
+        public double cosineSimilarity(SimilarityKernel kernel,
+                                       float[] a, int aOffset, double normA,
+                                       float[] b, int bOffset, double normB,
+                                       int length) {
+            return 1 - kernel.squaredEuclideanDistance(a, aOffset, b, bOffset, length) / 2;
+        }
+    };
+
+    /**
+     * Calculates the cosine similarity between two vectors.
+     *
+     * @param kernel  the kernel performing the vector operations
+     * @param a       the array holding the first vector
+     * @param aOffset the offset of the first vector in {@code a}
+     * @param normA   the norm of the first vector, see {@link SimilarityKernel#norm(float[])}
+     * @param b       the array holding the second vector
+     * @param bOffset the offset of the second vector in {@code b}
+     * @param normB   the norm of the second vector
+     * @param length  the dimension of both vectors
+     * @return cosine similarity in the range [-1..1]
+     */
+    public abstract double cosineSimilarity(SimilarityKernel kernel,
+                                            float[] a, int aOffset, double normA,
+                                            float[] b, int bOffset, double normB,
+                                            int length);
+}
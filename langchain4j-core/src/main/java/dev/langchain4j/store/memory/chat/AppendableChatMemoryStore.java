@@ -0,0 +1,51 @@
+package dev.langchain4j.store.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.memory.ChatMemory;
+import java.util.List;
+
+/**
+ * A {@link ChatMemoryStore} that can apply changes of the {@link ChatMemory} state incrementally.
+ * <br>
+ * <br>
+ * {@link ChatMemory} implementations that support it (such as {@code MessageWindowChatMemory}
+ * and {@code TokenWindowChatMemory}) call these methods instead of
+ * {@link #updateMessages(Object, List)} when a message is added,
+ * so that the cost of each write is proportional to the number of changed messages
+ * rather than to the size of the whole conversation.
+ * Other {@link ChatMemoryStore}s keep receiving full updates.
+ * <br>
+ * <br>
+ * Changes are applied in the order they are called:
+ * a new message is first appended (or replaces the {@link SystemMessage}),
+ * then the messages that no longer fit into the memory are evicted.
+ */
+public interface AppendableChatMemoryStore extends ChatMemoryStore {
+
+    /**
+     * Appends messages to a specified chat memory, after the messages it already holds.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param messages The messages to append, from the oldest to the newest.
+     */
+    void appendMessages(Object memoryId, List<ChatMessage> messages);
+
+    /**
+     * Removes the {@code count} oldest messages of a specified chat memory.
+     * {@link SystemMessage}s are never evicted and are not counted.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param count    The number of messages to remove.
+     */
+    void evictOldest(Object memoryId, int count);
+
+    /**
+     * Removes the current {@link SystemMessage} (if any) of a specified chat memory,
+     * and appends the specified one after all other messages.
+     *
+     * @param memoryId      The ID of the chat memory.
+     * @param systemMessage The new system message.
+     */
+    void replaceSystemMessage(Object memoryId, SystemMessage systemMessage);
+}
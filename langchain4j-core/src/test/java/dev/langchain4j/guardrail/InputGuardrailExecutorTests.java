@@ -1,13 +1,17 @@
 package dev.langchain4j.guardrail;
 
 import static dev.langchain4j.test.guardrail.GuardrailAssertions.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.guardrail.config.InputGuardrailsConfig;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -112,6 +116,76 @@ class InputGuardrailExecutorTests {
         assertThat(numFailedGuardrails).isEqualTo(howManyFailures);
     }
 
+    @Test
+    void independentGuardrailsAreExecutedConcurrently() {
+        // Each guardrail waits for the other one: executed one after another, the first one would time out
+        var bothStarted = new CountDownLatch(2);
+        var params = from(UserMessage.from("test"));
+        var executor = InputGuardrailExecutor.builder()
+                .guardrails(new RendezvousInputGuardrail(bothStarted), new RendezvousInputGuardrail(bothStarted))
+                .build();
+
+        assertThat(executor.execute(params)).isSuccessful();
+    }
+
+    @Test
+    void fatalIndependentGuardrailCancelsTheGuardrailsDeclaredAfterIt() {
+        var neverReleased = new CountDownLatch(2);
+        var blockingGuardrail = new RendezvousInputGuardrail(neverReleased);
+        var params = from(UserMessage.from("test"));
+        // The fatal guardrail waits for the blocking one to start: a guardrail that did not start yet is not run at all
+        var fatalGuardrail = new FatalInputGuardrailAwaiting(blockingGuardrail.started, "fatal failure");
+        var executor = InputGuardrailExecutor.builder()
+                .guardrails(fatalGuardrail, blockingGuardrail)
+                .build();
+
+        try {
+            assertThatExceptionOfType(InputGuardrailException.class)
+                    .isThrownBy(() -> executor.execute(params))
+                    .withMessageContaining("fatal failure");
+            assertThat(blockingGuardrail.interrupted.await(10, SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        } finally {
+            neverReleased.countDown();
+        }
+    }
+
+    @Test
+    void firstDeclaredFatalIndependentGuardrailWinsWhateverTheTiming() {
+        var params = from(UserMessage.from("test"));
+        var executor = InputGuardrailExecutor.builder()
+                .guardrails(
+                        new DelayedFatalInputGuardrail("slow failure", 200),
+                        new DelayedFatalInputGuardrail("fast failure", 0))
+                .build();
+
+        assertThatExceptionOfType(InputGuardrailException.class)
+                .isThrownBy(() -> executor.execute(params))
+                .withMessageContaining("slow failure")
+                .withMessageNotContaining("fast failure");
+    }
+
+    @Test
+    void independentGuardrailsSeeTheRewritesOfThePrecedingGuardrails() {
+        var validatedTexts = new CopyOnWriteArrayList<String>();
+        var params = from(UserMessage.from("test"));
+        var executor = InputGuardrailExecutor.builder()
+                .guardrails(
+                        new RewritingInputGuardrail(validatedTexts, "rewritten"),
+                        new RecordingInputGuardrail(validatedTexts),
+                        new RecordingInputGuardrail(validatedTexts),
+                        new RewritingInputGuardrail(validatedTexts, "rewritten again"))
+                .executor(Runnable::run)
+                .build();
+
+        var result = executor.execute(params);
+
+        assertThat(result).isSuccessful();
+        assertThat(result.successfulText()).isEqualTo("rewritten again");
+        assertThat(validatedTexts).containsExactly("test", "rewritten", "rewritten", "rewritten");
+    }
+
     static Stream<Arguments> successGuardrails() {
         return Stream.of(
                 Arguments.of("No guardrails", 0),
@@ -250,6 +324,124 @@ class InputGuardrailExecutorTests {
         }
     }
 
+    private static class RendezvousInputGuardrail implements InputGuardrail {
+        private final CountDownLatch latch;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        private RendezvousInputGuardrail(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            started.countDown();
+            latch.countDown();
+
+            try {
+                return latch.await(10, SECONDS) ? success() : failure("timed out");
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                return failure("interrupted");
+            }
+        }
+
+        @Override
+        public boolean isIndependent() {
+            return true;
+        }
+    }
+
+    private static class DelayedFatalInputGuardrail implements InputGuardrail {
+        private final String failureMessage;
+        private final long delayMillis;
+
+        private DelayedFatalInputGuardrail(String failureMessage, long delayMillis) {
+            this.failureMessage = failureMessage;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return fatal(failureMessage);
+        }
+
+        @Override
+        public boolean isIndependent() {
+            return true;
+        }
+    }
+
+    private static class FatalInputGuardrailAwaiting implements InputGuardrail {
+        private final CountDownLatch latch;
+        private final String failureMessage;
+
+        private FatalInputGuardrailAwaiting(CountDownLatch latch, String failureMessage) {
+            this.latch = latch;
+            this.failureMessage = failureMessage;
+        }
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            try {
+                latch.await(10, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return fatal(failureMessage);
+        }
+
+        @Override
+        public boolean isIndependent() {
+            return true;
+        }
+    }
+
+    private static class RecordingInputGuardrail implements InputGuardrail {
+        private final List<String> validatedTexts;
+
+        private RecordingInputGuardrail(List<String> validatedTexts) {
+            this.validatedTexts = validatedTexts;
+        }
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            validatedTexts.add(userMessage.singleText());
+            return success();
+        }
+
+        @Override
+        public boolean isIndependent() {
+            return true;
+        }
+    }
+
+    private static class RewritingInputGuardrail extends RecordingInputGuardrail {
+        private final String rewrittenText;
+
+        private RewritingInputGuardrail(List<String> validatedTexts, String rewrittenText) {
+            super(validatedTexts);
+            this.rewrittenText = rewrittenText;
+        }
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            super.validate(userMessage);
+            return successWith(rewrittenText);
+        }
+
+        @Override
+        public boolean isIndependent() {
+            return false;
+        }
+    }
+
     static class InputGuardrailAggregator implements ArgumentsAggregator {
         @Override
         public Object aggregateArguments(ArgumentsAccessor accessor, ParameterContext context)
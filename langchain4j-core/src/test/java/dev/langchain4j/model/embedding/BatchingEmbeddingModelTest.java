@@ -0,0 +1,177 @@
+package dev.langchain4j.model.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BatchingEmbeddingModelTest {
+
+    /**
+     * One token per character.
+     */
+    private static final TokenCountEstimator CHARACTER_COUNT_ESTIMATOR = new TokenCountEstimator() {
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return text.length();
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private final RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+
+    @Test
+    void should_pack_batches_by_token_budget() {
+
+        // given
+        BatchingEmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .tokenCountEstimator(CHARACTER_COUNT_ESTIMATOR)
+                .maxSegmentsPerBatch(10)
+                .maxTokensPerBatch(10)
+                .build();
+        List<TextSegment> segments = segments("aaaa", "bbbb", "cc", "dddddd", "eeeeeeeeeeeeeeee", "f", "gggggggggg", "h");
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments);
+
+        // then
+        assertThat(delegate.batches)
+                .containsExactly(
+                        List.of("aaaa", "bbbb", "cc"),
+                        List.of("dddddd"),
+                        List.of("eeeeeeeeeeeeeeee"), // oversized, sent on its own
+                        List.of("f"),
+                        List.of("gggggggggg"),
+                        List.of("h"));
+        assertThat(response.content()).extracting(embedding -> (int) embedding.vector()[0])
+                .containsExactly(4, 4, 2, 6, 16, 1, 10, 1);
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(44));
+    }
+
+    @Test
+    void should_pack_batches_by_segment_count() {
+
+        // given
+        BatchingEmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .tokenCountEstimator(CHARACTER_COUNT_ESTIMATOR)
+                .maxSegmentsPerBatch(3)
+                .maxTokensPerBatch(1000)
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(
+                IntStream.range(0, 7).mapToObj(i -> TextSegment.from("x".repeat(i + 1))).toList());
+
+        // then
+        assertThat(delegate.batches).extracting(List::size).containsExactly(3, 3, 1);
+        assertThat(response.content()).extracting(embedding -> (int) embedding.vector()[0])
+                .containsExactly(1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    void should_not_call_model_for_empty_input() {
+
+        // given
+        BatchingEmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .tokenCountEstimator(CHARACTER_COUNT_ESTIMATOR)
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(List.of());
+
+        // then
+        assertThat(response.content()).isEmpty();
+        assertThat(delegate.batches).isEmpty();
+    }
+
+    @Test
+    void should_use_provider_limits_unless_overridden() {
+
+        // when
+        BatchingEmbeddingModel openAi = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .tokenCountEstimator(CHARACTER_COUNT_ESTIMATOR)
+                .provider(ModelProvider.OPEN_AI)
+                .build();
+        BatchingEmbeddingModel overridden = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .tokenCountEstimator(CHARACTER_COUNT_ESTIMATOR)
+                .provider(ModelProvider.OPEN_AI)
+                .maxTokensPerBatch(8_000)
+                .build();
+        BatchingEmbeddingModel other = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .tokenCountEstimator(CHARACTER_COUNT_ESTIMATOR)
+                .build();
+
+        // then
+        assertThat(openAi.maxSegmentsPerBatch()).isEqualTo(2048);
+        assertThat(openAi.maxTokensPerBatch()).isEqualTo(300_000);
+        assertThat(overridden.maxSegmentsPerBatch()).isEqualTo(2048);
+        assertThat(overridden.maxTokensPerBatch()).isEqualTo(8_000);
+        assertThat(other.maxSegmentsPerBatch()).isEqualTo(96);
+        assertThat(other.maxTokensPerBatch()).isEqualTo(32_768);
+    }
+
+    @Test
+    void should_fail_when_model_returns_wrong_number_of_embeddings() {
+
+        // given
+        EmbeddingModel broken = new EmbeddingModelTest.BrokenEmbeddingModelImpl();
+        BatchingEmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(broken)
+                .tokenCountEstimator(CHARACTER_COUNT_ESTIMATOR)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.embedAll(segments("a", "b")))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected 2 embeddings, but got 4");
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        return Arrays.stream(texts).map(TextSegment::from).toList();
+    }
+
+    /**
+     * Embeds each segment as a single-dimension vector holding its length, and records the batches.
+     */
+    private static class RecordingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> batches = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batches.add(textSegments.stream().map(TextSegment::text).toList());
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .toList();
+            int tokens = textSegments.stream().mapToInt(segment -> segment.text().length()).sum();
+            return Response.from(embeddings, new TokenUsage(tokens));
+        }
+    }
+}
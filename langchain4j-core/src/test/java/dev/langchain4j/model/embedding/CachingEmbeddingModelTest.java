@@ -0,0 +1,290 @@
+package dev.langchain4j.model.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingEmbeddingModelTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+
+    @Test
+    void should_only_embed_cache_misses_and_keep_order() {
+
+        // given
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .dimension(2)
+                .build();
+        model.embedAll(segments("b", "dd"));
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments("a", "b", "ccc", "a", "dd"));
+
+        // then
+        assertThat(delegate.batches).containsExactly(List.of("b", "dd"), List.of("a", "ccc"));
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactly(1f, 1f, 3f, 1f, 2f);
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(4));
+
+        CachingEmbeddingModel.CacheStats stats = model.cacheStats();
+        assertThat(stats.memoryHitCount()).isEqualTo(2);
+        assertThat(stats.persistentHitCount()).isZero();
+        assertThat(stats.missCount()).isEqualTo(4);
+        assertThat(stats.hitRate()).isEqualTo(2.0 / 6);
+    }
+
+    @Test
+    void should_not_call_model_when_everything_is_cached() {
+
+        // given
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .dimension(2)
+                .build();
+        model.embed("hello");
+
+        // when
+        Response<Embedding> response = model.embed("hello");
+
+        // then
+        assertThat(response.content().vector()).containsExactly(5f, "hello".hashCode());
+        assertThat(response.tokenUsage()).isNull();
+        assertThat(delegate.batches).hasSize(1);
+    }
+
+    @Test
+    void should_not_expose_cached_vectors_to_mutation() {
+
+        // given
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .dimension(2)
+                .build();
+        model.embed("hello").content().vector()[0] = 42;
+
+        // when
+        Embedding embedding = model.embed("hello").content();
+        embedding.vector()[0] = 43;
+
+        // then
+        assertThat(model.embed("hello").content().vector()[0]).isEqualTo(5f);
+    }
+
+    @Test
+    void should_evict_least_recently_used_embeddings() {
+
+        // given
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .dimension(2)
+                .maxCacheSize(2)
+                .build();
+        model.embedAll(segments("a", "b"));
+        model.embed("a");
+
+        // when
+        model.embed("c"); // evicts "b"
+        model.embedAll(segments("a", "b"));
+
+        // then
+        assertThat(delegate.batches).containsExactly(List.of("a", "b"), List.of("c"), List.of("b"));
+    }
+
+    @Test
+    void should_key_cache_by_model_name_and_dimension() {
+
+        // given
+        Path file = tempDir.resolve("embeddings.bin");
+        CachingEmbeddingModel first = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .modelName("model-1")
+                .dimension(2)
+                .persistentCacheFile(file)
+                .build();
+        first.embed("hello");
+        first.close();
+
+        // when
+        try (CachingEmbeddingModel otherName = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .modelName("model-2")
+                .dimension(2)
+                .persistentCacheFile(file)
+                .build()) {
+            otherName.embed("hello");
+        }
+        try (CachingEmbeddingModel otherDimension = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .modelName("model-1")
+                .dimension(3)
+                .persistentCacheFile(file)
+                .build()) {
+            otherDimension.embed("hello");
+        }
+
+        // then
+        assertThat(delegate.batches).hasSize(3);
+    }
+
+    @Test
+    void should_reuse_persistent_cache_after_restart() {
+
+        // given
+        Path file = tempDir.resolve("embeddings.bin");
+        try (CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .modelName("model")
+                .dimension(2)
+                .persistentCacheFile(file)
+                .build()) {
+            model.embedAll(segments("a", "bb", "ccc"));
+        }
+
+        // when
+        Response<List<Embedding>> response;
+        CachingEmbeddingModel.CacheStats stats;
+        try (CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .modelName("model")
+                .dimension(2)
+                .persistentCacheFile(file)
+                .build()) {
+            response = model.embedAll(segments("ccc", "dddd", "a"));
+            model.embed("ccc");
+            stats = model.cacheStats();
+        }
+
+        // then
+        assertThat(delegate.batches).containsExactly(List.of("a", "bb", "ccc"), List.of("dddd"));
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactly(3f, 4f, 1f);
+        assertThat(response.content().get(0).vector()[1]).isEqualTo("ccc".hashCode());
+        assertThat(stats.persistentHitCount()).isEqualTo(2);
+        assertThat(stats.memoryHitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_require_model_name_and_dimension_with_persistent_cache() {
+
+        Path file = tempDir.resolve("embeddings.bin");
+
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder()
+                        .embeddingModel(delegate)
+                        .dimension(2)
+                        .persistentCacheFile(file)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("modelName cannot be null or blank");
+
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder()
+                        .embeddingModel(delegate)
+                        .modelName("model")
+                        .persistentCacheFile(file)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("dimension must be greater than zero, but is: null");
+
+        assertThat(file).doesNotExist();
+        assertThat(delegate.batches).isEmpty();
+    }
+
+    @Test
+    void should_not_call_model_for_its_dimension_when_caching_in_memory() {
+
+        // given
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .build();
+
+        // when
+        model.embed("hello");
+        model.embed("hello");
+
+        // then
+        assertThat(delegate.batches).containsExactly(List.of("hello"));
+    }
+
+    @Test
+    void should_spread_records_over_regions_and_ignore_partial_record() throws IOException {
+
+        // given
+        Path file = tempDir.resolve("embeddings.bin");
+        int regionSize = 200; // 2 records of dimension 16 per region
+        List<CachingEmbeddingModel.Key> keys = new ArrayList<>();
+        try (MappedEmbeddingCacheFile cacheFile = new MappedEmbeddingCacheFile(file, regionSize)) {
+            for (int i = 0; i < 5; i++) {
+                CachingEmbeddingModel.Key key = CachingEmbeddingModel.Key.of(new byte[0], "text " + i);
+                keys.add(key);
+                cacheFile.put(key, vector(i));
+            }
+        }
+        // a record of dimension 16 whose dimension was not written yet, right after the last record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), 2L * regionSize + 100 + 4);
+        }
+
+        // when
+        try (MappedEmbeddingCacheFile cacheFile = new MappedEmbeddingCacheFile(file, regionSize)) {
+
+            // then
+            assertThat(cacheFile.size()).isEqualTo(5);
+            for (int i = 0; i < 5; i++) {
+                assertThat(cacheFile.get(keys.get(i))).containsExactly(vector(i));
+            }
+            assertThat(cacheFile.get(CachingEmbeddingModel.Key.of(new byte[0], "other"))).isNull();
+
+            CachingEmbeddingModel.Key key = CachingEmbeddingModel.Key.of(new byte[0], "text 5");
+            cacheFile.put(key, vector(5));
+            assertThat(cacheFile.get(key)).containsExactly(vector(5));
+            assertThat(cacheFile.get(keys.get(4))).containsExactly(vector(4));
+        }
+    }
+
+    private static float[] vector(int seed) {
+        float[] vector = new float[16];
+        Arrays.fill(vector, seed + 0.5f);
+        vector[0] = -seed;
+        return vector;
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        return Arrays.stream(texts).map(TextSegment::from).toList();
+    }
+
+    /**
+     * Embeds each segment as its length and hash code, and records the batches.
+     */
+    private static class RecordingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> batches = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batches.add(textSegments.stream().map(TextSegment::text).toList());
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length(), segment.text().hashCode()}))
+                    .toList();
+            int tokens = textSegments.stream().mapToInt(segment -> segment.text().length()).sum();
+            return Response.from(embeddings, new TokenUsage(tokens));
+        }
+    }
+}
@@ -202,4 +202,76 @@ class PromptTemplateTest {
         // then
         assertThat(prompt.text()).isEqualTo("This is " + s + ".");
     }
+
+    @Test
+    void should_not_replace_placeholders_inside_values() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("{{first}} and {{second}}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("first", "{{second}}");
+        variables.put("second", "{{first}}");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("{{second}} and {{first}}");
+    }
+
+    @Test
+    void should_keep_placeholders_with_spaces_but_require_their_values() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("Hello {{ name }} and {{name}}!");
+
+        // when-then
+        assertThat(promptTemplate.apply(Map.of("name", "Klaus")).text()).isEqualTo("Hello {{ name }} and Klaus!");
+        assertThatThrownBy(() -> promptTemplate.apply(Map.of("other", "Klaus")))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value for the variable 'name' is missing");
+    }
+
+    @Test
+    void should_render_placeholders_at_the_edges_and_next_to_each_other() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("{{a}}{{b}} {{a}}");
+
+        // when
+        Prompt prompt = promptTemplate.apply(Map.of("a", 1, "b", ""));
+
+        // then
+        assertThat(prompt.text()).isEqualTo("1 1");
+    }
+
+    @Test
+    void should_fail_when_unused_value_is_null() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("No variables here");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("unused", null);
+
+        // when-then
+        assertThatThrownBy(() -> promptTemplate.apply(variables))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value for the variable 'unused' is null");
+    }
+
+    @Test
+    void should_render_large_content() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("Answer {{question}} using:\n{{contents}}\nAnswer:");
+        String contents = "Some retrieved content. ".repeat(100_000);
+
+        // when
+        Prompt prompt = promptTemplate.apply(Map.of("question", "why?", "contents", contents));
+
+        // then
+        assertThat(prompt.text()).isEqualTo("Answer why? using:\n" + contents + "\nAnswer:");
+    }
 }
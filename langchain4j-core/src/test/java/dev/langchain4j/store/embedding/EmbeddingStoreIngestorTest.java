@@ -3,8 +3,12 @@ package dev.langchain4j.store.embedding;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,6 +23,13 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class EmbeddingStoreIngestorTest {
@@ -192,4 +203,200 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_ingest_documents_in_batches() {
+
+        // given
+        EmbeddingModel embeddingModel = new CountingEmbeddingModel();
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        List<IngestionProgress> progress = new ArrayList<>();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .documentBatchSize(2)
+                .progressListener(progress::add)
+                .build();
+
+        List<Document> documents = asList(
+                Document.from("First"), Document.from("Second"), Document.from("Third"));
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents);
+
+        // then
+        verify(embeddingStore)
+                .addAll(
+                        asList(Embedding.from(new float[] {5}), Embedding.from(new float[] {6})),
+                        asList(TextSegment.from("First", Metadata.from("index", "0")),
+                                TextSegment.from("Second", Metadata.from("index", "0"))));
+        verify(embeddingStore)
+                .addAll(
+                        singletonList(Embedding.from(new float[] {5})),
+                        singletonList(TextSegment.from("Third", Metadata.from("index", "0"))));
+        verifyNoMoreInteractions(embeddingStore);
+
+        assertThat(progress).hasSize(2);
+        assertThat(progress.get(0).batchIndex()).isEqualTo(0);
+        assertThat(progress.get(0).batchDocumentCount()).isEqualTo(2);
+        assertThat(progress.get(0).batchTokenUsage()).isEqualTo(new TokenUsage(2));
+        assertThat(progress.get(1).batchIndex()).isEqualTo(1);
+        assertThat(progress.get(1).batchSegmentCount()).isEqualTo(1);
+        assertThat(progress.get(1).ingestedDocumentCount()).isEqualTo(3);
+        assertThat(progress.get(1).ingestedSegmentCount()).isEqualTo(3);
+        assertThat(progress.get(1).tokenUsage()).isEqualTo(new TokenUsage(3));
+
+        assertThat(ingestionResult.tokenUsage()).isEqualTo(new TokenUsage(3));
+    }
+
+    @Test
+    void should_ingest_batches_concurrently_with_bounded_number_of_batches_in_flight() {
+
+        // given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        EmbeddingModel embeddingModel = new CountingEmbeddingModel() {
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return super.embedAll(textSegments);
+            }
+        };
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        AtomicInteger readDocuments = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .documentBatchSize(5)
+                .embeddingConcurrency(3)
+                .executor(executor)
+                .build();
+
+        Stream<Document> documents = IntStream.range(0, 100)
+                .mapToObj(i -> Document.from("Document " + i))
+                .peek(document -> readDocuments.incrementAndGet());
+
+        try {
+            // when
+            IngestionResult ingestionResult = ingestor.ingest(documents);
+
+            // then
+            assertThat(readDocuments).hasValue(100);
+            assertThat(maxInFlight.get()).isBetween(1, 3);
+            verify(embeddingStore, times(20)).addAll(anyList(), anyList());
+            assertThat(ingestionResult.tokenUsage()).isEqualTo(new TokenUsage(100));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_skip_embedding_and_storing_when_all_documents_of_batch_are_filtered_out() {
+
+        // given
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList()))
+                .thenReturn(Response.from(singletonList(Embedding.from(new float[] {1})), new TokenUsage(1)));
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        List<IngestionProgress> progress = new ArrayList<>();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentTransformer(document -> document.text().startsWith("Draft") ? null : document)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .documentBatchSize(2)
+                .progressListener(progress::add)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(
+                Document.from("Draft 1"), Document.from("Draft 2"), Document.from("Final"));
+
+        // then
+        verify(embeddingModel).embedAll(singletonList(TextSegment.from("Final", Metadata.from("index", "0"))));
+        verifyNoMoreInteractions(embeddingModel);
+        verify(embeddingStore)
+                .addAll(
+                        singletonList(Embedding.from(new float[] {1})),
+                        singletonList(TextSegment.from("Final", Metadata.from("index", "0"))));
+        verifyNoMoreInteractions(embeddingStore);
+
+        assertThat(progress).hasSize(2);
+        assertThat(progress.get(0).batchDocumentCount()).isEqualTo(2);
+        assertThat(progress.get(0).batchSegmentCount()).isZero();
+        assertThat(progress.get(0).batchTokenUsage()).isNull();
+        assertThat(progress.get(1).ingestedDocumentCount()).isEqualTo(3);
+        assertThat(progress.get(1).ingestedSegmentCount()).isEqualTo(1);
+
+        assertThat(ingestionResult.tokenUsage()).isEqualTo(new TokenUsage(1));
+    }
+
+    @Test
+    void should_stop_ingesting_and_rethrow_when_batch_fails() {
+
+        // given
+        EmbeddingModel embeddingModel = new CountingEmbeddingModel() {
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                if (textSegments.get(0).text().equals("Second")) {
+                    throw new IllegalStateException("embedding failed");
+                }
+                return super.embedAll(textSegments);
+            }
+        };
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .documentBatchSize(1)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(
+                        Document.from("First"), Document.from("Second"), Document.from("Third")))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("embedding failed");
+
+        verify(embeddingStore, times(1)).addAll(anyList(), anyList());
+        verifyNoMoreInteractions(embeddingStore);
+    }
+
+    @Test
+    void should_fail_when_document_batch_size_is_not_positive() {
+
+        assertThatThrownBy(() -> EmbeddingStoreIngestor.builder()
+                        .embeddingModel(mock(EmbeddingModel.class))
+                        .embeddingStore(mock(EmbeddingStore.class))
+                        .documentBatchSize(0)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("documentBatchSize must be greater than zero, but is: 0");
+    }
+
+    /**
+     * Embeds each segment into its text length and reports one input token per segment.
+     */
+    private static class CountingEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .collect(toList());
+            return Response.from(embeddings, new TokenUsage(textSegments.size()));
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link CosineSimilarity#between} (norms recomputed on every call)
+ * with {@link SimilarityKernel}s using precomputed norms, for typical embedding dimensions.
+ * <p>
+ * Run {@link #main(String[])} with the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SimilarityKernelBenchmark {
+
+    @Param({"384", "768", "1536", "3072"})
+    int dimension;
+
+    Embedding a;
+    Embedding b;
+    double normA;
+    double normB;
+
+    SimilarityKernel scalar = SimilarityKernel.scalar();
+    // the forked JVM runs with jdk.incubator.vector, so this is the vectorized kernel
+    SimilarityKernel vectorized = SimilarityKernel.defaultKernel();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        a = randomNormalizedEmbedding(random, dimension);
+        b = randomNormalizedEmbedding(random, dimension);
+        normA = scalar.norm(a.vector());
+        normB = scalar.norm(b.vector());
+    }
+
+    @Benchmark
+    public double cosineSimilarityBetween() {
+        return CosineSimilarity.between(a, b);
+    }
+
+    @Benchmark
+    public double scalarCosine() {
+        return SimilarityMetric.COSINE.cosineSimilarity(scalar, a.vector(), 0, normA, b.vector(), 0, normB, dimension);
+    }
+
+    @Benchmark
+    public double vectorizedCosine() {
+        return SimilarityMetric.COSINE.cosineSimilarity(
+                vectorized, a.vector(), 0, normA, b.vector(), 0, normB, dimension);
+    }
+
+    @Benchmark
+    public double scalarDotProduct() {
+        return SimilarityMetric.DOT_PRODUCT.cosineSimilarity(
+                scalar, a.vector(), 0, normA, b.vector(), 0, normB, dimension);
+    }
+
+    @Benchmark
+    public double vectorizedDotProduct() {
+        return SimilarityMetric.DOT_PRODUCT.cosineSimilarity(
+                vectorized, a.vector(), 0, normA, b.vector(), 0, normB, dimension);
+    }
+
+    @Benchmark
+    public double vectorizedEuclidean() {
+        return SimilarityMetric.EUCLIDEAN.cosineSimilarity(
+                vectorized, a.vector(), 0, normA, b.vector(), 0, normB, dimension);
+    }
+
+    private static Embedding randomNormalizedEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        Embedding embedding = Embedding.from(vector);
+        embedding.normalize();
+        return embedding;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(SimilarityKernelBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
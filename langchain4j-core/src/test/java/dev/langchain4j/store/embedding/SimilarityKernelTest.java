@@ -0,0 +1,85 @@
+package dev.langchain4j.store.embedding;
+
+import static org.assertj.core.data.Offset.offset;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SimilarityKernelTest implements WithAssertions {
+
+    static Stream<SimilarityKernel> kernels() {
+        return Stream.of(SimilarityKernel.scalar(), SimilarityKernel.defaultKernel());
+    }
+
+    @Test
+    void should_use_vectorized_kernel_by_default_when_vector_api_is_available() {
+        // surefire is configured with --add-modules jdk.incubator.vector
+        // VectorizedSimilarityKernel is compiled separately, so it is not referenced directly here
+        assertThat(SimilarityKernel.defaultKernel().getClass().getName())
+                .isEqualTo("dev.langchain4j.store.embedding.VectorizedSimilarityKernel");
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void should_calculate_the_same_cosine_similarity_as_cosine_similarity_between(SimilarityKernel kernel) {
+        Random random = new Random(42);
+        for (int dimension : new int[] {1, 3, 17, 384, 1536}) {
+            float[] a = randomVector(random, dimension);
+            float[] b = randomVector(random, dimension);
+
+            double expected = CosineSimilarity.between(Embedding.from(a), Embedding.from(b));
+            double actual = SimilarityMetric.COSINE.cosineSimilarity(
+                    kernel, a, 0, kernel.norm(a), b, 0, kernel.norm(b), dimension);
+
+            assertThat(actual).isCloseTo(expected, offset(1e-5));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void should_calculate_cosine_similarity_of_normalized_vectors_with_dot_product_and_euclidean_distance(
+            SimilarityKernel kernel) {
+        Random random = new Random(42);
+        Embedding a = Embedding.from(randomVector(random, 768));
+        Embedding b = Embedding.from(randomVector(random, 768));
+        a.normalize();
+        b.normalize();
+
+        double expected = CosineSimilarity.between(a, b);
+
+        for (SimilarityMetric metric : SimilarityMetric.values()) {
+            double actual = metric.cosineSimilarity(kernel, a.vector(), 0, 1, b.vector(), 0, 1, 768);
+            assertThat(actual).as(metric.name()).isCloseTo(expected, offset(1e-5));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void should_respect_offsets(SimilarityKernel kernel) {
+        float[] packed = {9, 9, 1, 2, 3, 9};
+        float[] vector = {1, 2, 3};
+
+        assertThat(kernel.dotProduct(packed, 2, vector, 0, 3)).isEqualTo(14);
+        assertThat(kernel.squaredEuclideanDistance(packed, 2, vector, 0, 3)).isEqualTo(0);
+        assertThat(kernel.norm(packed, 2, 3)).isCloseTo(Math.sqrt(14), offset(1e-6));
+    }
+
+    @Test
+    void should_calculate_cosine_similarity_from_dot_product() {
+        assertThat(CosineSimilarity.fromDotProduct(2, 2, 1)).isEqualTo(1);
+        assertThat(CosineSimilarity.fromDotProduct(0, 0, 0)).isEqualTo(0);
+    }
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -1,9 +1,9 @@
 package dev.langchain4j.http.client;
 
 import dev.langchain4j.exception.HttpException;
-import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.http.client.sse.Utf8ServerSentEventParser;
 
 /**
  * A client for executing HTTP requests both synchronously and asynchronously.
@@ -30,7 +30,7 @@ public interface HttpClient {
      * The execution flow is as follows:
      * <ol>
      *   <li>The request is initiated asynchronously</li>
-     *   <li>Received SSE data is parsed using the {@link DefaultServerSentEventParser}</li>
+     *   <li>Received SSE data is parsed using the {@link Utf8ServerSentEventParser}</li>
      *   <li>Parsed events are delivered to the listener's appropriate methods</li>
      *   <li>If an error occurs, {@link ServerSentEventListener#onError(Throwable)} is called</li>
      * </ol>
@@ -42,7 +42,7 @@ public interface HttpClient {
      * @param listener the listener to receive parsed events and error notifications.
      */
     default void execute(HttpRequest request, ServerSentEventListener listener) {
-        execute(request, new DefaultServerSentEventParser(), listener);
+        execute(request, new Utf8ServerSentEventParser(), listener);
     }
 
     /**
@@ -5,8 +5,13 @@ import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,12 +22,17 @@ public class HttpRequest {
     private final String url;
     private final Map<String, List<String>> headers;
     private final String body;
+    private final byte[] bodyBytes;
+    private final BodyWriter bodyWriter;
+    private volatile byte[] writtenBody;
 
     public HttpRequest(Builder builder) {
         this.method = ensureNotNull(builder.method, "method");
         this.url = ensureNotBlank(builder.url, "url");
         this.headers = copy(builder.headers);
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
+        this.bodyWriter = builder.bodyWriter;
     }
 
     public HttpMethod method() {
@@ -37,20 +47,112 @@ public class HttpRequest {
         return headers;
     }
 
+    /**
+     * Returns the body as a {@link String}.
+     * If the body was supplied as bytes or as a {@link BodyWriter}, it is decoded as UTF-8 on each call
+     * (and written once, see {@link #bodyBytes()}),
+     * so {@link HttpClient} implementations should prefer {@link #bodyWriter()} or {@link #bodyBytes()}.
+     *
+     * @return the body, or {@code null} if the request has no body.
+     */
     public String body() {
-        return body;
+        if (body != null) {
+            return body;
+        }
+        byte[] bytes = bodyBytes();
+        return bytes == null ? null : new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns the body as UTF-8 bytes.
+     * The returned array must not be modified.
+     * If the body was supplied as a {@link BodyWriter}, it is written on the first call and kept,
+     * so that logging the request and then sending it does not write the body twice.
+     *
+     * @return the body, or {@code null} if the request has no body.
+     */
+    public byte[] bodyBytes() {
+        if (bodyBytes != null) {
+            return bodyBytes;
+        }
+        if (body != null) {
+            return body.getBytes(UTF_8);
+        }
+        if (bodyWriter != null) {
+            byte[] written = writtenBody;
+            if (written == null) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                try {
+                    bodyWriter.writeTo(outputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                written = outputStream.toByteArray();
+                writtenBody = written;
+            }
+            return written;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the {@link BodyWriter} the body was supplied with.
+     * If the body was supplied as a {@link String} or as bytes, or was already written by {@link #bodyBytes()},
+     * returns a writer that writes those bytes.
+     *
+     * @return the body writer, or {@code null} if the request has no body.
+     */
+    public BodyWriter bodyWriter() {
+        if (bodyWriter != null) {
+            byte[] written = writtenBody;
+            return written == null ? bodyWriter : outputStream -> outputStream.write(written);
+        }
+        if (body == null && bodyBytes == null) {
+            return null;
+        }
+        return outputStream -> outputStream.write(bodyBytes());
+    }
+
+    /**
+     * @return {@code true} if the body was supplied as a {@link BodyWriter},
+     * meaning that it only exists once written and should be streamed rather than materialized.
+     */
+    public boolean hasBodyWriter() {
+        return bodyWriter != null;
     }
 
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Writes the body of a request, such as a JSON document serialized directly into the outgoing stream,
+     * without building it as a {@link String} first.
+     * <p>
+     * The body may be written more than once (e.g., when the request is retried),
+     * so the writer must produce the same bytes on each call.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+
+        /**
+         * Writes the UTF-8 encoded body into the given stream.
+         * The stream may be closed by the writer, but does not have to be.
+         *
+         * @param outputStream the stream to write to.
+         * @throws IOException if the body cannot be written.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
     public static class Builder {
 
         private HttpMethod method;
         private String url;
         private Map<String, List<String>> headers;
         private String body;
+        private byte[] bodyBytes;
+        private BodyWriter bodyWriter;
 
         private Builder() {}
 
@@ -107,6 +209,28 @@ public class HttpRequest {
 
         public Builder body(String body) {
             this.body = body;
+            this.bodyBytes = null;
+            this.bodyWriter = null;
+            return this;
+        }
+
+        /**
+         * Sets the body as UTF-8 encoded bytes. The array is not copied and must not be modified afterwards.
+         */
+        public Builder body(byte[] body) {
+            this.body = null;
+            this.bodyBytes = body;
+            this.bodyWriter = null;
+            return this;
+        }
+
+        /**
+         * Sets the body as a {@link BodyWriter} that is invoked when the request is sent.
+         */
+        public Builder body(BodyWriter body) {
+            this.body = null;
+            this.bodyBytes = null;
+            this.bodyWriter = body;
             return this;
         }
 
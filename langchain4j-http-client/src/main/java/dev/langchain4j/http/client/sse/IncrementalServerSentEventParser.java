@@ -0,0 +1,42 @@
+package dev.langchain4j.http.client.sse;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link ServerSentEventParser} that can also be fed with the bytes of the response body as they arrive,
+ * instead of reading them from a blocking {@link java.io.InputStream}.
+ * <p>
+ * This allows {@link dev.langchain4j.http.client.HttpClient} implementations built on non-blocking I/O
+ * to parse events without dedicating a thread to each stream.
+ * <p>
+ * This interface is currently experimental and subject to change.
+ */
+public interface IncrementalServerSentEventParser extends ServerSentEventParser {
+
+    /**
+     * Starts parsing a new response body.
+     *
+     * @param listener the listener to receive parsed events
+     * @return a session that must be fed with the bytes of a single response body, in order
+     */
+    Session newSession(ServerSentEventListener listener);
+
+    /**
+     * Parses a single response body. Not thread-safe: calls must not overlap.
+     */
+    interface Session {
+
+        /**
+         * Parses the remaining bytes of the specified buffer, notifying the listener of each completed event.
+         * The buffer is fully consumed.
+         *
+         * @param bytes the next bytes of the response body
+         */
+        void accept(ByteBuffer bytes);
+
+        /**
+         * Signals the end of the response body, notifying the listener of the last event, if it is not terminated.
+         */
+        void finish();
+    }
+}
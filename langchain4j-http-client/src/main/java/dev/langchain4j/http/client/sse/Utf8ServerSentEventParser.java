@@ -0,0 +1,236 @@
+package dev.langchain4j.http.client.sse;
+
+import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A {@link ServerSentEventParser} that works directly on the UTF-8 bytes of the response body.
+ * <p>
+ * It parses events exactly like {@link DefaultServerSentEventParser}
+ * (lines end with {@code \n}, {@code \r} or {@code \r\n}; {@code event} and {@code data} values are trimmed;
+ * multiple {@code data} lines are joined with {@code \n}; events without data are skipped),
+ * but always decodes the body as UTF-8, as required by the SSE specification,
+ * instead of using the platform default charset.
+ * <p>
+ * Lines are never materialized as {@link String}s: bytes are scanned in a reusable read buffer,
+ * {@code data} values are accumulated in a reusable byte buffer,
+ * and each event is decoded only once, when it is dispatched.
+ * Repeated event names (such as {@code content_block_delta}) reuse the previously decoded {@link String}.
+ * <p>
+ * Instances are stateless and can be shared; each call to {@link #parse(InputStream, ServerSentEventListener)}
+ * or {@link #newSession(ServerSentEventListener)} uses its own buffers.
+ */
+public class Utf8ServerSentEventParser implements IncrementalServerSentEventParser {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    @Override
+    public void parse(InputStream httpResponseBody, ServerSentEventListener listener) {
+        try (InputStream inputStream = httpResponseBody) {
+            EventAssembler assembler = new EventAssembler(listener);
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer, 0, buffer.length)) != -1) {
+                assembler.accept(buffer, 0, read);
+            }
+            assembler.finish();
+        } catch (IOException e) {
+            ignoringExceptions(() -> listener.onError(e));
+        }
+    }
+
+    @Override
+    public Session newSession(ServerSentEventListener listener) {
+        return new EventAssembler(listener);
+    }
+
+    /**
+     * Splits the bytes it is fed into lines and assembles lines into events.
+     * Bytes can be fed in chunks of any size; a line (or a UTF-8 character) may span several chunks.
+     */
+    static class EventAssembler implements Session {
+
+        private static final byte[] EVENT = "event:".getBytes(UTF_8);
+        private static final byte[] DATA = "data:".getBytes(UTF_8);
+
+        private final ServerSentEventListener listener;
+
+        /**
+         * Holds the beginning of a line that spans several chunks.
+         */
+        private byte[] line = new byte[256];
+        private int lineLength;
+        private boolean skipLineFeed;
+
+        private byte[] data = new byte[1024];
+        private int dataLength;
+
+        private boolean hasEvent;
+        private String event;
+        private byte[] eventBytes = new byte[64];
+        private int eventLength = -1;
+
+        /**
+         * Receives the content of direct and read-only {@link ByteBuffer}s.
+         */
+        private byte[] copyBuffer;
+
+        EventAssembler(ServerSentEventListener listener) {
+            this.listener = listener;
+        }
+
+        void accept(byte[] bytes, int offset, int length) {
+            int end = offset + length;
+            int lineStart = offset;
+            for (int i = offset; i < end; i++) {
+                byte b = bytes[i];
+                if (b != '\n' && b != '\r') {
+                    continue;
+                }
+                if (b == '\n' && skipLineFeed && i == lineStart && lineLength == 0) {
+                    // second half of a "\r\n" that was split between chunks
+                    skipLineFeed = false;
+                    lineStart = i + 1;
+                    continue;
+                }
+                if (lineLength == 0) {
+                    onLine(bytes, lineStart, i);
+                } else {
+                    appendToLine(bytes, lineStart, i);
+                    onLine(line, 0, lineLength);
+                    lineLength = 0;
+                }
+                if (b == '\r') {
+                    if (i + 1 < end) {
+                        if (bytes[i + 1] == '\n') {
+                            i++;
+                        }
+                    } else {
+                        skipLineFeed = true;
+                        lineStart = end;
+                        return;
+                    }
+                }
+                skipLineFeed = false;
+                lineStart = i + 1;
+            }
+            if (lineStart < end) {
+                skipLineFeed = false;
+                appendToLine(bytes, lineStart, end);
+            }
+        }
+
+        @Override
+        public void accept(ByteBuffer bytes) {
+            if (bytes.hasArray()) {
+                accept(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                bytes.position(bytes.limit());
+                return;
+            }
+            if (copyBuffer == null) {
+                copyBuffer = new byte[READ_BUFFER_SIZE];
+            }
+            while (bytes.hasRemaining()) {
+                int length = Math.min(bytes.remaining(), copyBuffer.length);
+                bytes.get(copyBuffer, 0, length);
+                accept(copyBuffer, 0, length);
+            }
+        }
+
+        @Override
+        public void finish() {
+            if (lineLength > 0) {
+                onLine(line, 0, lineLength);
+                lineLength = 0;
+            }
+            dispatch();
+        }
+
+        private void appendToLine(byte[] bytes, int from, int to) {
+            int length = to - from;
+            if (lineLength + length > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+            }
+            System.arraycopy(bytes, from, line, lineLength, length);
+            lineLength += length;
+        }
+
+        private void onLine(byte[] bytes, int from, int to) {
+            if (from == to) {
+                dispatch();
+            } else if (startsWith(bytes, from, to, DATA)) {
+                onData(bytes, from + DATA.length, to);
+            } else if (startsWith(bytes, from, to, EVENT)) {
+                onEvent(bytes, from + EVENT.length, to);
+            }
+        }
+
+        private void onData(byte[] bytes, int from, int to) {
+            from = trimStart(bytes, from, to);
+            to = trimEnd(bytes, from, to);
+            int length = to - from;
+            int separatorLength = dataLength > 0 ? 1 : 0;
+            if (dataLength + separatorLength + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + separatorLength + length));
+            }
+            if (separatorLength > 0) {
+                data[dataLength++] = '\n';
+            }
+            System.arraycopy(bytes, from, data, dataLength, length);
+            dataLength += length;
+        }
+
+        private void onEvent(byte[] bytes, int from, int to) {
+            from = trimStart(bytes, from, to);
+            to = trimEnd(bytes, from, to);
+            int length = to - from;
+            hasEvent = true;
+            if (length == eventLength && Arrays.equals(eventBytes, 0, length, bytes, from, to)) {
+                return; // same event name as before, reuse the decoded String
+            }
+            if (length > eventBytes.length) {
+                eventBytes = new byte[length];
+            }
+            System.arraycopy(bytes, from, eventBytes, 0, length);
+            eventLength = length;
+            event = new String(bytes, from, length, UTF_8);
+        }
+
+        private void dispatch() {
+            if (dataLength == 0) {
+                return;
+            }
+            ServerSentEvent sse = new ServerSentEvent(hasEvent ? event : null, new String(data, 0, dataLength, UTF_8));
+            ignoringExceptions(() -> listener.onEvent(sse));
+            dataLength = 0;
+            hasEvent = false;
+        }
+
+        private static boolean startsWith(byte[] bytes, int from, int to, byte[] prefix) {
+            return to - from >= prefix.length
+                    && Arrays.equals(bytes, from, from + prefix.length, prefix, 0, prefix.length);
+        }
+
+        /**
+         * Same as {@link String#trim()}: in UTF-8, bytes up to {@code ' '} are always single-byte characters.
+         */
+        private static int trimStart(byte[] bytes, int from, int to) {
+            while (from < to && (bytes[from] & 0xFF) <= ' ') {
+                from++;
+            }
+            return from;
+        }
+
+        private static int trimEnd(byte[] bytes, int from, int to) {
+            while (to > from && (bytes[to - 1] & 0xFF) <= ' ') {
+                to--;
+            }
+            return to;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package dev.langchain4j.http.client;
 
 import static dev.langchain4j.http.client.HttpMethod.GET;
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -211,4 +215,67 @@ class HttpRequestTest {
         // then
         assertThat(builder.build().headers()).containsEntry("Accept", List.of("text/plain"));
     }
+
+    @Test
+    void should_expose_body_supplied_in_any_form() throws Exception {
+
+        // given
+        String json = "{\"text\": \"Grüße\"}";
+        byte[] bytes = json.getBytes(UTF_8);
+        AtomicInteger writes = new AtomicInteger();
+        HttpRequest.BodyWriter writer = outputStream -> {
+            writes.incrementAndGet();
+            outputStream.write(bytes);
+        };
+
+        // when
+        HttpRequest fromString = HttpRequest.builder().method(POST).url("http://example.com").body(json).build();
+        HttpRequest fromBytes = HttpRequest.builder().method(POST).url("http://example.com").body(bytes).build();
+        HttpRequest fromWriter = HttpRequest.builder().method(POST).url("http://example.com").body(writer).build();
+
+        // then
+        assertThat(fromWriter.bodyWriter()).isSameAs(writer);
+        for (HttpRequest request : List.of(fromString, fromBytes, fromWriter)) {
+            assertThat(request.body()).isEqualTo(json);
+            assertThat(request.bodyBytes()).isEqualTo(bytes);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            request.bodyWriter().writeTo(outputStream);
+            assertThat(outputStream.toByteArray()).isEqualTo(bytes);
+        }
+        assertThat(fromBytes.bodyBytes()).isSameAs(bytes);
+        assertThat(fromWriter.bodyBytes()).isSameAs(fromWriter.bodyBytes());
+        assertThat(fromString.hasBodyWriter()).isFalse();
+        assertThat(fromBytes.hasBodyWriter()).isFalse();
+        assertThat(fromWriter.hasBodyWriter()).isTrue();
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    void should_keep_last_body() {
+
+        // when
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com")
+                .body(outputStream -> outputStream.write('1'))
+                .body("2")
+                .build();
+
+        // then
+        assertThat(request.hasBodyWriter()).isFalse();
+        assertThat(request.body()).isEqualTo("2");
+    }
+
+    @Test
+    void should_have_no_body() {
+
+        // when
+        HttpRequest request = HttpRequest.builder().method(GET).url("http://example.com").build();
+
+        // then
+        assertThat(request.body()).isNull();
+        assertThat(request.bodyBytes()).isNull();
+        assertThat(request.bodyWriter()).isNull();
+        assertThat(request.hasBodyWriter()).isFalse();
+    }
 }
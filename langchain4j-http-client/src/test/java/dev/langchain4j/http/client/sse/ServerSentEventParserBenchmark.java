@@ -0,0 +1,88 @@
+package dev.langchain4j.http.client.sse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link DefaultServerSentEventParser} with {@link Utf8ServerSentEventParser}
+ * by replaying sample OpenAI (chat completion) and Anthropic (messages) streams from {@code src/test/resources/sse}.
+ * <p>
+ * Run {@link #main(String[])} with the test classpath of this module,
+ * and add {@code -prof gc} to the JMH options to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerSentEventParserBenchmark {
+
+    @Param({"openai-chat-completion.txt", "anthropic-messages.txt"})
+    String stream;
+
+    byte[] body;
+
+    ServerSentEventParser defaultParser = new DefaultServerSentEventParser();
+    ServerSentEventParser utf8Parser = new Utf8ServerSentEventParser();
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/sse/" + stream)) {
+            body = inputStream.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public void defaultParser(Blackhole blackhole) {
+        defaultParser.parse(new ByteArrayInputStream(body), new BlackholeListener(blackhole));
+    }
+
+    @Benchmark
+    public void utf8Parser(Blackhole blackhole) {
+        utf8Parser.parse(new ByteArrayInputStream(body), new BlackholeListener(blackhole));
+    }
+
+    private static class BlackholeListener implements ServerSentEventListener {
+
+        private final Blackhole blackhole;
+
+        BlackholeListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onEvent(ServerSentEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ServerSentEventParserBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
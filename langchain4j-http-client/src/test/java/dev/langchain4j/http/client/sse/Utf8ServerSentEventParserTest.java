@@ -0,0 +1,218 @@
+package dev.langchain4j.http.client.sse;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class Utf8ServerSentEventParserTest {
+
+    private final ServerSentEventParser parser = new Utf8ServerSentEventParser();
+
+    @Mock
+    private ServerSentEventListener listener;
+
+    @AfterEach
+    void afterEach() {
+        verifyNoMoreInteractions(listener);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "data: Simple message",
+                "data: Simple message\n",
+                "\ndata: Simple message",
+                "\ndata: Simple message\n",
+                "\n\ndata: Simple message",
+                "data: Simple message\n\n",
+                "\n\ndata: Simple message\n\n",
+            })
+    void shouldParseSimpleSingleLineEvent(String input) {
+
+        // given
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(new ServerSentEvent(null, "Simple message"));
+    }
+
+    @Test
+    void shouldParseMultiLineDataEvent() {
+
+        // given
+        String input = "data: First line\ndata: Second line\ndata: Third line\n\n";
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(new ServerSentEvent(null, "First line\nSecond line\nThird line"));
+    }
+
+    @Test
+    void shouldParseEventWithAllFields() {
+
+        // given
+        String input = "id: msg-123\nevent: custom-event\ndata: Message content\nretry: 5000\n\n";
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(new ServerSentEvent("custom-event", "Message content"));
+    }
+
+    @Test
+    void shouldParseMultipleEvents() {
+
+        // given
+        String input = "data: First event\n\ndata: Second event\n\ndata: Third event\n\n";
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(new ServerSentEvent(null, "First event"));
+        verify(listener).onEvent(new ServerSentEvent(null, "Second event"));
+        verify(listener).onEvent(new ServerSentEvent(null, "Third event"));
+    }
+
+    @Test
+    void shouldIgnoreCommentsAndEmptyLines() {
+
+        // given
+        String input = ": this is a comment\n\ndata: actual message\n\n";
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(new ServerSentEvent(null, "actual message"));
+    }
+
+    @Test
+    void shouldHandleStreamWithNoEvents() {
+
+        // given
+        String input = "";
+        InputStream stream = new ByteArrayInputStream(input.getBytes(UTF_8));
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener, never()).onEvent(any());
+    }
+
+    @Test
+    void shouldHandleIOException() {
+
+        // given
+        InputStream mockStream = mock(InputStream.class);
+        IOException simulatedIoException = new IOException("Simulated IO exception");
+        assertDoesNotThrow(
+                () -> {
+                    when(mockStream.read(any(byte[].class), anyInt(), anyInt())).thenThrow(simulatedIoException);
+                },
+                "Mock setup failed");
+
+        // when
+        parser.parse(mockStream, listener);
+
+        // then
+        verify(listener).onError(simulatedIoException);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 8192})
+    void shouldParseEventsSplitAcrossReads(int bytesPerRead) {
+
+        // given
+        String input = "event: message_start\r\ndata: {\"text\": \"Grüße 👋\"}\r\n\r\n"
+                + "event: message_delta\rdata: first\rdata: second\r\r"
+                + ": comment\n\n"
+                + "data: last";
+        InputStream stream = new ChunkedInputStream(input.getBytes(UTF_8), bytesPerRead);
+
+        // when
+        parser.parse(stream, listener);
+
+        // then
+        verify(listener).onEvent(new ServerSentEvent("message_start", "{\"text\": \"Grüße 👋\"}"));
+        verify(listener).onEvent(new ServerSentEvent("message_delta", "first\nsecond"));
+        verify(listener).onEvent(new ServerSentEvent(null, "last"));
+    }
+
+    @Test
+    void shouldParseTheSameEventsAsDefaultParser() {
+
+        // given
+        String input = "event: ping\n\n"
+                + "data:\ndata:   padded   \n\n"
+                + "event: content_block_delta\ndata: a\n\n"
+                + "event: content_block_delta\ndata: b\n\n"
+                + "data: no event\n\n"
+                + "id: 1\nevent:   spaced  \ndata: c\r\n\r\n";
+        ServerSentEventListener defaultListener = mock(ServerSentEventListener.class);
+
+        // when
+        parser.parse(new ByteArrayInputStream(input.getBytes(UTF_8)), listener);
+        new DefaultServerSentEventParser().parse(new ByteArrayInputStream(input.getBytes(UTF_8)), defaultListener);
+
+        // then
+        for (ServerSentEvent event : List.of(
+                new ServerSentEvent("ping", "padded"),
+                new ServerSentEvent("content_block_delta", "a"),
+                new ServerSentEvent("content_block_delta", "b"),
+                new ServerSentEvent(null, "no event"),
+                new ServerSentEvent("spaced", "c"))) {
+            verify(listener).onEvent(event);
+            verify(defaultListener).onEvent(event);
+        }
+        verifyNoMoreInteractions(defaultListener);
+    }
+
+    /**
+     * Returns at most {@code bytesPerRead} bytes per read.
+     */
+    private static class ChunkedInputStream extends ByteArrayInputStream {
+
+        private final int bytesPerRead;
+
+        ChunkedInputStream(byte[] bytes, int bytesPerRead) {
+            super(bytes);
+            this.bytesPerRead = bytesPerRead;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, bytesPerRead));
+        }
+    }
+}
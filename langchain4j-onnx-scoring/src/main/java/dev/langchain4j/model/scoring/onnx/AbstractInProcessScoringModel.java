@@ -7,11 +7,32 @@ import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.model.scoring.ScoringModel;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
 abstract class AbstractInProcessScoringModel implements ScoringModel {
 
+    static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+    private final int maxBatchSize;
+    private final Executor executor;
+
     public AbstractInProcessScoringModel() {
+        this(DEFAULT_MAX_BATCH_SIZE, null);
+    }
+
+    /**
+     * @param maxBatchSize The maximum number of segments scored in a single run of the model.
+     * @param executor     The executor on which micro-batches are scored.
+     *                     By default, they are scored one after another on the calling thread,
+     *                     each run using the intra-op threads of the session.
+     */
+    protected AbstractInProcessScoringModel(int maxBatchSize, Executor executor) {
+        this.maxBatchSize = ensureGreaterThanZero(maxBatchSize, "maxBatchSize");
+        this.executor = getOrDefault(executor, Runnable::run);
     }
 
     static OnnxScoringBertCrossEncoder loadFromFileSystem(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize) {
@@ -26,7 +47,7 @@ abstract class AbstractInProcessScoringModel implements ScoringModel {
 
     public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
         OnnxScoringBertCrossEncoder.ScoringAndTokenCount scoresAndTokenCount = this.model().scoreAll(query,
-                segments.stream().map(TextSegment::text).collect(Collectors.toList()));
+                segments.stream().map(TextSegment::text).collect(Collectors.toList()), maxBatchSize, executor);
         return Response.from(scoresAndTokenCount.scores, new TokenUsage(scoresAndTokenCount.tokenCount));
     }
 }
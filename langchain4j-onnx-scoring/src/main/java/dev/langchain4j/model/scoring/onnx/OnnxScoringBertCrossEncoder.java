@@ -9,8 +9,12 @@ import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.OrtSession.Result;
 
+import java.nio.LongBuffer;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static ai.onnxruntime.OnnxTensor.createTensor;
 
@@ -28,7 +32,7 @@ class OnnxScoringBertCrossEncoder {
             this.session = this.environment.createSession(modelPath, options);
             this.expectedInputs = session.getInputNames();
             Map<String, String> tokenizerOptions = new HashMap<String, String>() {{
-                put("padding", "true");
+                put("padding", "false"); // each micro-batch is padded to its own longest pair, see encode()
                 put("truncation", "LONGEST_FIRST"); // Default maximum length limit, LONGEST-FIRST prioritizes truncating the longest part
                 put("modelMaxLength", String.valueOf(modelMaxLength - 2));
             }};
@@ -50,39 +54,145 @@ class OnnxScoringBertCrossEncoder {
         }
     }
 
-    ScoringAndTokenCount scoreAll(String query, List<String> documents) {
-        List<Double> scores;
-        int tokenCount = 0;
-        int queryTokenCount = tokenizer.tokenize(query).size() - 2;
+    /**
+     * Scores the (query, document) pairs in micro-batches of at most {@code maxBatchSize} pairs.
+     * <p>
+     * Each pair is tokenized once. The pairs are sorted by their number of tokens before being grouped into
+     * micro-batches, so that a long document only inflates the padding of the pairs of similar length.
+     * When there is more than one micro-batch, they are submitted to the {@code executor}
+     * ({@link OrtSession#run(Map)} is thread-safe). The scores are returned in the order of the documents.
+     */
+    ScoringAndTokenCount scoreAll(String query, List<String> documents, int maxBatchSize, Executor executor) {
+        if (documents.isEmpty()) {
+            return new ScoringAndTokenCount(new ArrayList<>(), 0);
+        }
+
         PairList<String, String> pairs = new PairList<>();
         for (String document : documents) {
             pairs.add(query, document);
-            tokenCount += queryTokenCount + tokenizer.tokenize(document).size() - 2; // do not count special tokens [CLS] and [SEP]
         }
-        try (Result result = this.encode(pairs)) {
-            scores = this.toScore(result);
+        Encoding[] encodings = tokenizer.batchEncode(pairs);
+
+        int tokenCount = 0;
+        int[] lengths = new int[encodings.length];
+        for (int i = 0; i < encodings.length; i++) {
+            tokenCount += tokenCount(encodings[i]);
+            lengths[i] = encodings[i].getIds().length;
+        }
+
+        List<int[]> batches = partitionByLength(lengths, maxBatchSize);
+        double[][] batchScores = new double[batches.size()][];
+        if (batches.size() == 1) {
+            batchScores[0] = score(encodings, batches.get(0));
+        } else {
+            CompletableFuture<?>[] futures = new CompletableFuture[batches.size()];
+            for (int i = 0; i < batches.size(); i++) {
+                int batchIndex = i;
+                futures[i] = CompletableFuture.runAsync(
+                        () -> batchScores[batchIndex] = score(encodings, batches.get(batchIndex)), executor);
+            }
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        return new ScoringAndTokenCount(inInputOrder(batches, batchScores, documents.size()), tokenCount);
+    }
+
+    /**
+     * Counts the tokens of the query and of the document, without special tokens ([CLS] and [SEP]).
+     */
+    private static int tokenCount(Encoding encoding) {
+        long[] specialTokenMask = encoding.getSpecialTokenMask();
+        int tokenCount = 0;
+        for (long special : specialTokenMask) {
+            if (special == 0) {
+                tokenCount++;
+            }
+        }
+        return tokenCount;
+    }
+
+    /**
+     * @param lengths the number of tokens of each pair
+     * @return the indexes of the pairs, sorted by number of tokens and grouped into batches of at most
+     * {@code maxBatchSize} pairs
+     */
+    static List<int[]> partitionByLength(int[] lengths, int maxBatchSize) {
+        Integer[] order = new Integer[lengths.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> lengths[i]));
+
+        List<int[]> batches = new ArrayList<>();
+        for (int from = 0; from < order.length; from += maxBatchSize) {
+            int[] batch = new int[Math.min(maxBatchSize, order.length - from)];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = order[from + i];
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * @param batches     the indexes of the pairs of each batch, see {@link #partitionByLength(int[], int)}
+     * @param batchScores the scores of each batch, in the order of the indexes of the batch
+     * @return the scores in the order of the pairs
+     */
+    static List<Double> inInputOrder(List<int[]> batches, double[][] batchScores, int size) {
+        Double[] scores = new Double[size];
+        for (int i = 0; i < batches.size(); i++) {
+            int[] batch = batches.get(i);
+            for (int j = 0; j < batch.length; j++) {
+                scores[batch[j]] = batchScores[i][j];
+            }
+        }
+        return new ArrayList<>(Arrays.asList(scores));
+    }
+
+    private double[] score(Encoding[] encodings, int[] batch) {
+        try (Result result = this.encode(encodings, batch)) {
+            return this.toScore(result);
         } catch (OrtException e) {
             throw new RuntimeException(e);
         }
-        return new ScoringAndTokenCount(scores, tokenCount);
     }
 
-    private Result encode(PairList<String, String> pairs) throws OrtException {
-        Encoding[] encodings = this.tokenizer.batchEncode(pairs);
-        long[][] inputIds = new long[encodings.length][];
-        long[][] attentionMask = new long[encodings.length][];
-        long[][] tokenTypeIds = new long[encodings.length][];
+    private Result encode(Encoding[] encodings, int[] batch) throws OrtException {
+        int sequenceLength = 0;
+        for (int index : batch) {
+            sequenceLength = Math.max(sequenceLength, encodings[index].getIds().length);
+        }
 
-        for (int i = 0; i < encodings.length; i++) {
-            inputIds[i] = encodings[i].getIds();
-            attentionMask[i] = encodings[i].getAttentionMask();
-            tokenTypeIds[i] = encodings[i].getTypeIds();
+        // padded positions stay 0: they are masked out by the attention mask
+        LongBuffer inputIds = LongBuffer.allocate(batch.length * sequenceLength);
+        LongBuffer attentionMask = LongBuffer.allocate(batch.length * sequenceLength);
+        LongBuffer tokenTypeIds = LongBuffer.allocate(batch.length * sequenceLength);
+        for (int i = 0; i < batch.length; i++) {
+            Encoding encoding = encodings[batch[i]];
+            inputIds.position(i * sequenceLength);
+            inputIds.put(encoding.getIds());
+            attentionMask.position(i * sequenceLength);
+            attentionMask.put(encoding.getAttentionMask());
+            tokenTypeIds.position(i * sequenceLength);
+            tokenTypeIds.put(encoding.getTypeIds());
         }
+        inputIds.rewind();
+        attentionMask.rewind();
+        tokenTypeIds.rewind();
+        long[] shape = {batch.length, sequenceLength};
 
         try (
-                OnnxTensor inputIdsTensor = createTensor(environment, inputIds);
-                OnnxTensor attentionMaskTensor = createTensor(environment, attentionMask);
-                OnnxTensor tokenTypeIdsTensor = createTensor(this.environment, tokenTypeIds);
+                OnnxTensor inputIdsTensor = createTensor(environment, inputIds, shape);
+                OnnxTensor attentionMaskTensor = createTensor(environment, attentionMask, shape);
+                OnnxTensor tokenTypeIdsTensor = createTensor(this.environment, tokenTypeIds, shape);
         ) {
             Map<String, OnnxTensor> inputs = new HashMap<>();
             inputs.put("input_ids", inputIdsTensor);
@@ -96,14 +206,14 @@ class OnnxScoringBertCrossEncoder {
         }
     }
 
-    private List<Double> toScore(OrtSession.Result result) throws OrtException {
+    private double[] toScore(OrtSession.Result result) throws OrtException {
         float[][] output = (float[][]) result.get(0).getValue();
-        List<Double> scores = new ArrayList<>();
-        for (float[] floats : output) {
+        double[] scores = new double[output.length];
+        for (int i = 0; i < output.length; i++) {
             if (normalize) {
-                scores.add(sigmoid(floats[0]));
+                scores[i] = sigmoid(output[i][0]);
             } else {
-                scores.add((double)floats[0]);
+                scores[i] = output[i][0];
             }
         }
         return scores;
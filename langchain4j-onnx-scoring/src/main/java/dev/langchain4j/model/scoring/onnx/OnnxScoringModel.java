@@ -2,6 +2,8 @@ package dev.langchain4j.model.scoring.onnx;
 
 import ai.onnxruntime.OrtSession;
 
+import java.util.concurrent.Executor;
+
 public class OnnxScoringModel extends AbstractInProcessScoringModel {
 
     private static final int DEFAULT_MODEL_MAX_LENGTH = 510; // 512 - 2 (special tokens [CLS] and [SEP])
@@ -26,6 +28,24 @@ public class OnnxScoringModel extends AbstractInProcessScoringModel {
         this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize);
     }
 
+    /**
+     * Segments are scored in micro-batches of at most {@code maxBatchSize} segments of similar length,
+     * which are submitted to the {@code executor}.
+     * Each run of the model already uses the intra-op threads of the session, one per core by default
+     * (see {@link OrtSession.SessionOptions#setIntraOpNumThreads(int)}).
+     * To run micro-batches concurrently, limit the intra-op threads accordingly,
+     * so that the CPU is not oversubscribed.
+     *
+     * @param maxBatchSize The maximum number of segments scored in a single run of the model. Default value: 32.
+     * @param executor     The executor on which micro-batches are scored.
+     *                     By default, they are scored one after another on the calling thread.
+     */
+    public OnnxScoringModel(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                            int maxBatchSize, Executor executor) {
+        super(maxBatchSize, executor);
+        this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize);
+    }
+
     protected OnnxScoringBertCrossEncoder model() {
         return this.onnxBertBiEncoder;
     }
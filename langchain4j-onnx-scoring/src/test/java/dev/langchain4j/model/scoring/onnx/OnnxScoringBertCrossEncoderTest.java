@@ -0,0 +1,58 @@
+package dev.langchain4j.model.scoring.onnx;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OnnxScoringBertCrossEncoderTest {
+
+    @Test
+    void should_partition_pairs_by_length() {
+
+        // given
+        int[] lengths = {30, 10, 50, 20, 10, 40, 60};
+
+        // when
+        List<int[]> batches = OnnxScoringBertCrossEncoder.partitionByLength(lengths, 3);
+
+        // then
+        assertThat(batches).containsExactly(
+                new int[] {1, 4, 3},
+                new int[] {0, 5, 2},
+                new int[] {6});
+    }
+
+    @Test
+    void should_put_all_pairs_into_a_single_batch_when_they_fit() {
+
+        // when
+        List<int[]> batches = OnnxScoringBertCrossEncoder.partitionByLength(new int[] {3, 1, 2}, 32);
+
+        // then
+        assertThat(batches).containsExactly(new int[] {1, 2, 0});
+    }
+
+    @Test
+    void should_return_scores_in_the_order_of_the_pairs() {
+
+        // given
+        int[] lengths = {30, 10, 50, 20, 10, 40, 60};
+        List<int[]> batches = OnnxScoringBertCrossEncoder.partitionByLength(lengths, 3);
+        double[][] batchScores = new double[batches.size()][];
+        for (int i = 0; i < batches.size(); i++) {
+            // the score of a pair is its index, so that the expected order is obvious
+            batchScores[i] = new double[batches.get(i).length];
+            for (int j = 0; j < batches.get(i).length; j++) {
+                batchScores[i][j] = batches.get(i)[j];
+            }
+        }
+
+        // when
+        List<Double> scores = OnnxScoringBertCrossEncoder.inInputOrder(batches, batchScores, lengths.length);
+
+        // then
+        assertThat(scores).containsExactly(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0);
+    }
+}
@@ -1,5 +1,6 @@
 package dev.langchain4j.model.scoring.onnx;
 
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.onnxruntime.OrtSession;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.output.Response;
@@ -13,7 +14,11 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +29,8 @@ class OnnxScoringModelIT {
     @TempDir
     private static Path tempDir;
 
+    private static Path modelPath;
+    private static Path tokenizerPath;
     private static ScoringModel model;
 
     @BeforeAll
@@ -34,11 +41,11 @@ class OnnxScoringModelIT {
         // System.setProperty("https.proxyPort","7890" );
 
         URL modelUrl = new URL("https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/onnx/model_quantized.onnx?download=true");
-        Path modelPath = tempDir.resolve("model_quantized.onnx");
+        modelPath = tempDir.resolve("model_quantized.onnx");
         Files.copy(modelUrl.openStream(), modelPath, REPLACE_EXISTING);
 
         URL tokenizerUrl = new URL("https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/tokenizer.json?download=true");
-        Path tokenizerPath = tempDir.resolve("tokenizer.json");
+        tokenizerPath = tempDir.resolve("tokenizer.json");
         Files.copy(tokenizerUrl.openStream(), tokenizerPath, REPLACE_EXISTING);
 
         // To check the modelMaxLength parameter, refer to the model configuration file at  https://huggingface.co/Xenova/ms-marco-MiniLM-L-6-v2/resolve/main/tokenizer_config.json
@@ -68,4 +75,94 @@ class OnnxScoringModelIT {
 
         assertThat(response.finishReason()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_score_in_micro_batches_in_the_order_of_the_segments() throws Exception {
+
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+        options.setIntraOpNumThreads(1);
+        ScoringModel model = new OnnxScoringModel(
+                modelPath.toString(), options, tokenizerPath.toString(), 512, false, 2, executor);
+
+        List<TextSegment> segments = new ArrayList<>();
+        segments.add(TextSegment.from("New York City is famous for the Metropolitan Museum of Art."));
+        segments.add(TextSegment.from("Berlin has a population of 3,520,031 registered inhabitants in an area of 891.82 square kilometers."));
+        segments.add(TextSegment.from("Paris is the capital of France."));
+        segments.add(TextSegment.from("Berlin is the capital of Germany. It is known for its history, its museums, its parks, " +
+                "its nightlife and its many neighborhoods, each with its own character."));
+        segments.add(TextSegment.from("Cats sleep a lot."));
+
+        String query = "How many people live in Berlin?";
+
+        try {
+            // when
+            Response<List<Double>> response = model.scoreAll(segments, query);
+
+            // then
+            List<Double> scores = response.content();
+            assertThat(scores).hasSize(5);
+            for (int i = 0; i < segments.size(); i++) {
+                Double score = OnnxScoringModelIT.model.score(segments.get(i), query).content();
+                assertThat(scores.get(i)).isCloseTo(score, withPercentage(5));
+            }
+            assertThat(scores.get(1)).isGreaterThan(scores.get(0)).isGreaterThan(scores.get(4));
+
+            assertThat(response.tokenUsage().totalTokenCount()).isEqualTo(untruncatedTokenCount(query, segments));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_count_the_tokens_of_the_query_and_of_the_segments_without_special_tokens() throws Exception {
+
+        // given
+        List<TextSegment> segments = new ArrayList<>();
+        segments.add(TextSegment.from("Berlin has a population of 3,520,031 registered inhabitants."));
+        segments.add(TextSegment.from("New York City is famous for the Metropolitan Museum of Art."));
+
+        String query = "How many people live in Berlin?";
+
+        // when
+        Response<List<Double>> response = model.scoreAll(segments, query);
+
+        // then
+        assertThat(response.tokenUsage().totalTokenCount()).isEqualTo(untruncatedTokenCount(query, segments));
+    }
+
+    @Test
+    void should_count_only_the_tokens_that_remain_after_truncation() throws Exception {
+
+        // given
+        List<TextSegment> segments = new ArrayList<>();
+        segments.add(TextSegment.from("Berlin is the capital of Germany. ".repeat(200)));
+
+        String query = "How many people live in Berlin?";
+
+        // when
+        Response<List<Double>> response = model.scoreAll(segments, query);
+
+        // then
+        assertThat(untruncatedTokenCount(query, segments)).isGreaterThan(1_000);
+        assertThat(response.tokenUsage().totalTokenCount()).isPositive().isLessThanOrEqualTo(512);
+    }
+
+    /**
+     * Counts the tokens of the query and of each segment, tokenized separately and without truncation.
+     */
+    private static int untruncatedTokenCount(String query, List<TextSegment> segments) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        options.put("padding", "false");
+        options.put("truncation", "false");
+        try (HuggingFaceTokenizer tokenizer = HuggingFaceTokenizer.newInstance(tokenizerPath, options)) {
+            int queryTokenCount = tokenizer.encode(query, false, false).getIds().length;
+            int tokenCount = 0;
+            for (TextSegment segment : segments) {
+                tokenCount += queryTokenCount + tokenizer.encode(segment.text(), false, false).getIds().length;
+            }
+            return tokenCount;
+        }
+    }
+}
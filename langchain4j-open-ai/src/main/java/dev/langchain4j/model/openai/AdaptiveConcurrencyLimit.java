@@ -0,0 +1,47 @@
+package dev.langchain4j.model.openai;
+
+/**
+ * Limits the number of requests in flight, adapting the limit to the provider's rate limits:
+ * the limit is halved each time a request is rate-limited,
+ * and grows back by one after as many successful requests as the current limit, up to the configured maximum.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private final int maxLimit;
+    private int limit;
+    private int inFlight;
+    private int successesSinceIncrease;
+
+    AdaptiveConcurrencyLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Blocks until a request can be sent without exceeding the current limit.
+     */
+    synchronized void acquire() throws InterruptedException {
+        while (inFlight >= limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    synchronized void release(boolean succeeded) {
+        inFlight--;
+        if (succeeded && limit < maxLimit && ++successesSinceIncrease >= limit) {
+            limit++;
+            successesSinceIncrease = 0;
+        }
+        notifyAll();
+    }
+
+    synchronized void onRateLimited() {
+        limit = Math.max(1, limit / 2);
+        successesSinceIncrease = 0;
+    }
+
+    synchronized int limit() {
+        return limit;
+    }
+}
@@ -1,5 +1,6 @@
 package dev.langchain4j.model.openai;
 
+import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
@@ -11,7 +12,10 @@ import static java.time.Duration.ofSeconds;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.RateLimitException;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.internal.ExceptionMapper;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
@@ -24,6 +28,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 
 /**
@@ -38,6 +46,8 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final Integer maxRetries;
     private final Integer maxSegmentsPerBatch;
     private final String encodingFormat;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
 
     public OpenAiEmbeddingModel(OpenAiEmbeddingModelBuilder builder) {
 
@@ -62,6 +72,11 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 2048);
         this.encodingFormat = builder.encodingFormat;
         ensureGreaterThanZero(this.maxSegmentsPerBatch, "maxSegmentsPerBatch");
+        this.maxConcurrentBatches = getOrDefault(builder.maxConcurrentBatches, 1);
+        ensureGreaterThanZero(this.maxConcurrentBatches, "maxConcurrentBatches");
+        this.executor = maxConcurrentBatches == 1
+                ? builder.executor
+                : getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
     }
 
     @Override
@@ -98,10 +113,15 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     }
 
     private Response<List<Embedding>> embedBatchedTexts(List<List<String>> textBatches) {
-        List<Response<List<Embedding>>> responses = new ArrayList<>();
-        for (List<String> batch : textBatches) {
-            Response<List<Embedding>> response = embedTexts(batch);
-            responses.add(response);
+        List<Response<List<Embedding>>> responses;
+        if (maxConcurrentBatches == 1 || textBatches.size() == 1) {
+            responses = new ArrayList<>();
+            for (List<String> batch : textBatches) {
+                Response<List<Embedding>> response = embedTexts(batch);
+                responses.add(response);
+            }
+        } else {
+            responses = embedBatchedTextsConcurrently(textBatches);
         }
         return Response.from(
                 responses.stream()
@@ -114,7 +134,61 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                         .orElse(null));
     }
 
+    /**
+     * Sends up to {@link #maxConcurrentBatches} batches at a time on the {@link #executor}.
+     * The limit is lowered when the provider rate-limits requests (see {@link AdaptiveConcurrencyLimit}).
+     * Responses are returned in the order of the batches.
+     * No more batches are sent once one of them has failed, and the first failure is rethrown.
+     */
+    private List<Response<List<Embedding>>> embedBatchedTextsConcurrently(List<List<String>> textBatches) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(maxConcurrentBatches);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Response<List<Embedding>>>> futures = new ArrayList<>();
+        for (List<String> batch : textBatches) {
+            acquire(limit);
+            if (failed.get()) {
+                limit.release(false);
+                break;
+            }
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> embedTexts(batch, limit), executor)
+                        .whenComplete((response, e) -> {
+                            if (e != null) {
+                                failed.set(true);
+                            }
+                            limit.release(e == null);
+                        }));
+            } catch (RuntimeException e) {
+                limit.release(false);
+                throw e;
+            }
+        }
+
+        List<Response<List<Embedding>>> responses = new ArrayList<>(futures.size());
+        for (CompletableFuture<Response<List<Embedding>>> future : futures) {
+            try {
+                responses.add(future.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        return responses;
+    }
+
+    private static void acquire(AdaptiveConcurrencyLimit limit) {
+        try {
+            limit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
     private Response<List<Embedding>> embedTexts(List<String> texts) {
+        return embedTexts(texts, null);
+    }
+
+    private Response<List<Embedding>> embedTexts(List<String> texts, AdaptiveConcurrencyLimit limit) {
 
         EmbeddingRequest request = EmbeddingRequest.builder()
                 .input(texts)
@@ -124,8 +198,21 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .encodingFormat(encodingFormat)
                 .build();
 
-        EmbeddingResponse response =
-                withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
+        EmbeddingResponse response;
+        if (limit == null) {
+            response = withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
+        } else {
+            response = withRetry(
+                    () -> {
+                        try {
+                            return ExceptionMapper.mappingException(() -> client.embedding(request).execute());
+                        } catch (RateLimitException e) {
+                            limit.onRateLimited();
+                            throw e;
+                        }
+                    },
+                    maxRetries);
+        }
 
         List<Embedding> embeddings = response.data().stream()
                 .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
@@ -160,6 +247,8 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Logger logger;
         private Map<String, String> customHeaders;
         private String encodingFormat;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
 
         public OpenAiEmbeddingModelBuilder() {
             // This is public so it can be extended
@@ -254,6 +343,30 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * @param maxConcurrentBatches the maximum number of batches (see {@link #maxSegmentsPerBatch(Integer)})
+         *                             that {@link OpenAiEmbeddingModel#embedAll(List)} sends at the same time.
+         *                             The effective number is halved each time a request is rate-limited
+         *                             and then grows back gradually.
+         *                             Default value: 1 (batches are sent one after another).
+         * @return {@code this}.
+         */
+        public OpenAiEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * @param executor the {@link Executor} on which batches are sent when {@link #maxConcurrentBatches(Integer)}
+         *                 is greater than 1, e.g., {@code Executors.newVirtualThreadPerTaskExecutor()}.
+         *                 By default, the executor of {@link DefaultExecutorProvider} is used.
+         * @return {@code this}.
+         */
+        public OpenAiEmbeddingModelBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public OpenAiEmbeddingModel build() {
             return new OpenAiEmbeddingModel(this);
         }
@@ -2,6 +2,7 @@ package dev.langchain4j.model.openai.internal;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.http.client.HttpRequest.BodyWriter;
 
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
@@ -20,6 +21,13 @@ class Json {
         }
     }
 
+    /**
+     * Serializes the object straight into the request body when it is sent, without building a {@link String}.
+     */
+    static BodyWriter toJsonBody(Object o) {
+        return outputStream -> OBJECT_MAPPER.writeValue(outputStream, o);
+    }
+
     static <T> T fromJson(String json, Class<T> type) {
         try {
             return OBJECT_MAPPER.readValue(json, type);
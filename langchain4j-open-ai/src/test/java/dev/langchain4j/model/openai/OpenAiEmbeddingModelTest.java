@@ -0,0 +1,201 @@
+package dev.langchain4j.model.openai;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.InvalidRequestException;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.MockHttpClientBuilder;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.model.output.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OpenAiEmbeddingModelTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdown();
+    }
+
+    @Test
+    void should_send_batches_concurrently_and_keep_their_order() {
+
+        // given
+        FakeEmbeddingHttpClient httpClient = new FakeEmbeddingHttpClient();
+        OpenAiEmbeddingModel model = model(httpClient, 3);
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments(20));
+
+        // then
+        assertThat(response.content()).hasSize(20);
+        for (int i = 0; i < 20; i++) {
+            assertThat(response.content().get(i).vector()).containsExactly(i);
+        }
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(20);
+        assertThat(httpClient.requests).hasValue(10);
+        assertThat(httpClient.maxInFlight.get()).isBetween(2, 3);
+    }
+
+    @Test
+    void should_send_batches_one_after_another_by_default() {
+
+        // given
+        FakeEmbeddingHttpClient httpClient = new FakeEmbeddingHttpClient();
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new MockHttpClientBuilder(httpClient))
+                .maxSegmentsPerBatch(2)
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments(6));
+
+        // then
+        assertThat(response.content()).hasSize(6);
+        assertThat(httpClient.maxInFlight).hasValue(1);
+    }
+
+    @Test
+    void should_retry_rate_limited_batches() {
+
+        // given
+        FakeEmbeddingHttpClient httpClient = new FakeEmbeddingHttpClient();
+        httpClient.rateLimitedRequests.set(2);
+        OpenAiEmbeddingModel model = model(httpClient, 4);
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments(8));
+
+        // then
+        assertThat(response.content()).hasSize(8);
+        for (int i = 0; i < 8; i++) {
+            assertThat(response.content().get(i).vector()).containsExactly(i);
+        }
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(8);
+        assertThat(httpClient.requests).hasValue(4 + 2);
+    }
+
+    @Test
+    void should_stop_sending_batches_after_failure() {
+
+        // given
+        FakeEmbeddingHttpClient httpClient = new FakeEmbeddingHttpClient();
+        httpClient.failingText = "3";
+        OpenAiEmbeddingModel model = model(httpClient, 2);
+
+        // when-then
+        assertThatThrownBy(() -> model.embedAll(segments(100))).isExactlyInstanceOf(InvalidRequestException.class);
+        assertThat(httpClient.requests.get()).isLessThan(50);
+    }
+
+    @Test
+    void should_adapt_concurrency_limit() throws Exception {
+
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8);
+
+        // when-then
+        limit.onRateLimited();
+        assertThat(limit.limit()).isEqualTo(4);
+        limit.onRateLimited();
+        limit.onRateLimited();
+        limit.onRateLimited();
+        assertThat(limit.limit()).isEqualTo(1);
+
+        limit.acquire();
+        limit.release(true);
+        assertThat(limit.limit()).isEqualTo(2);
+
+        for (int i = 0; i < 2; i++) {
+            limit.acquire();
+            limit.release(true);
+        }
+        assertThat(limit.limit()).isEqualTo(3);
+
+        limit.acquire();
+        limit.release(false);
+        assertThat(limit.limit()).isEqualTo(3);
+    }
+
+    private OpenAiEmbeddingModel model(HttpClient httpClient, int maxConcurrentBatches) {
+        return OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new MockHttpClientBuilder(httpClient))
+                .maxSegmentsPerBatch(2)
+                .maxConcurrentBatches(maxConcurrentBatches)
+                .executor(executor)
+                .maxRetries(2)
+                .build();
+    }
+
+    private static List<TextSegment> segments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TextSegment.from(String.valueOf(i)))
+                .toList();
+    }
+
+    /**
+     * Embeds each input text (a number) as a single-dimension vector holding that number.
+     */
+    private static class FakeEmbeddingHttpClient implements HttpClient {
+
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger rateLimitedRequests = new AtomicInteger();
+        volatile String failingText;
+
+        @Override
+        public SuccessfulHttpResponse execute(HttpRequest request) {
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(30);
+                if (rateLimitedRequests.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                    throw new HttpException(429, "Rate limit reached");
+                }
+
+                List<String> texts = new ArrayList<>();
+                OBJECT_MAPPER.readTree(request.body()).get("input").forEach(input -> texts.add(input.asText()));
+                if (texts.contains(failingText)) {
+                    throw new HttpException(400, "Invalid input");
+                }
+
+                String data = IntStream.range(0, texts.size())
+                        .mapToObj(i -> "{\"index\": %d, \"embedding\": [%s]}".formatted(i, texts.get(i)))
+                        .collect(joining(", "));
+                String body = "{\"data\": [%s], \"usage\": {\"prompt_tokens\": %d, \"total_tokens\": %d}}"
+                        .formatted(data, texts.size(), texts.size());
+                return SuccessfulHttpResponse.builder().statusCode(200).body(body).build();
+            } catch (InterruptedException | IOException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+            throw new IllegalStateException("this method should not be called");
+        }
+    }
+}
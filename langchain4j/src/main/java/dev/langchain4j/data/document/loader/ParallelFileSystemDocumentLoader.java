@@ -0,0 +1,293 @@
+package dev.langchain4j.data.document.loader;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.nio.file.Files.isDirectory;
+
+import dev.langchain4j.data.document.BlankDocumentException;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.spi.data.document.parser.DocumentParserFactory;
+import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads {@link Document}s from a directory lazily, parsing several files concurrently.
+ * <br>
+ * Unlike {@link FileSystemDocumentLoader}, which loads all documents into a {@link java.util.List},
+ * {@link #loadDocuments(Path)} returns a {@link Stream} that walks the directory and parses files
+ * only as documents are consumed, with at most {@code concurrency} files being parsed or waiting to be consumed
+ * at any time. Documents are returned in the order in which the files are found.
+ * <br>
+ * The stream can be passed directly to {@link EmbeddingStoreIngestor#ingest(Stream)},
+ * so that a large directory is ingested without holding all its documents in memory:
+ * <pre>{@code
+ * try (Stream<Document> documents = loader.loadDocuments(directoryPath)) {
+ *     ingestor.ingest(documents);
+ * }
+ * }</pre>
+ * Blank documents are skipped. Files that fail to load are skipped and reported to the failure listener
+ * (see {@link Builder#failureListener(BiConsumer)}); they do not stop the loading of other files.
+ */
+public class ParallelFileSystemDocumentLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelFileSystemDocumentLoader.class);
+
+    private final DocumentParser documentParser;
+    private final PathMatcher pathMatcher;
+    private final boolean recursive;
+    private final int concurrency;
+    private final Executor executor;
+    private final BiConsumer<Path, Exception> failureListener;
+
+    public ParallelFileSystemDocumentLoader(Builder builder) {
+        this.documentParser = builder.documentParser != null
+                ? builder.documentParser
+                : getOrDefault(DocumentParserLoader.loadDocumentParser(), TextDocumentParser::new);
+        this.pathMatcher = getOrDefault(builder.pathMatcher, path -> true);
+        this.recursive = getOrDefault(builder.recursive, false);
+        this.concurrency = ensureGreaterThanZero(
+                getOrDefault(builder.concurrency, Runtime.getRuntime().availableProcessors()), "concurrency");
+        this.executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
+        this.failureListener = getOrDefault(builder.failureListener, ParallelFileSystemDocumentLoader::logFailure);
+    }
+
+    /**
+     * Loads {@link Document}s from the specified directory (and its subdirectories, if {@code recursive}).
+     * <br>
+     * The returned stream must be closed once it is no longer needed (e.g., with try-with-resources),
+     * to release the directory and to stop loading files that were not consumed yet.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return lazy stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public Stream<Document> loadDocuments(Path directoryPath) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        Stream<Path> pathStream;
+        try {
+            pathStream = recursive ? Files.walk(directoryPath) : Files.list(directoryPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Stream<Path> files = pathStream
+                .filter(Files::isRegularFile)
+                // converting absolute path into relative before using pathMatcher
+                // because patterns defined in pathMatcher are relative to directoryPath
+                .map(directoryPath::relativize)
+                .filter(pathMatcher::matches)
+                // converting relative path back into absolute before loading document
+                .map(directoryPath::resolve);
+
+        DocumentIterator iterator = new DocumentIterator(files.iterator());
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::cancel)
+                .onClose(pathStream::close);
+    }
+
+    /**
+     * Loads {@link Document}s from the specified directory (and its subdirectories, if {@code recursive}).
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return lazy stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     * @see #loadDocuments(Path)
+     */
+    public Stream<Document> loadDocuments(String directoryPath) {
+        return loadDocuments(Paths.get(directoryPath));
+    }
+
+    private static void logFailure(Path file, Exception e) {
+        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        log.warn("Failed to load '{}': {}", file, message);
+    }
+
+    /**
+     * Keeps up to {@link #concurrency} files loading (or loaded but not consumed yet), in the order of the files.
+     */
+    private class DocumentIterator implements Iterator<Document> {
+
+        private final Iterator<Path> files;
+        private final Deque<CompletableFuture<LoadedFile>> inFlight = new ArrayDeque<>();
+        private Document next;
+
+        DocumentIterator(Iterator<Path> files) {
+            this.files = files;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                while (inFlight.size() < concurrency && files.hasNext()) {
+                    Path file = files.next();
+                    inFlight.add(CompletableFuture.supplyAsync(() -> load(file), executor));
+                }
+                if (inFlight.isEmpty()) {
+                    return false;
+                }
+                LoadedFile loadedFile = await(inFlight.poll());
+                if (loadedFile.failure != null) {
+                    failureListener.accept(loadedFile.file, loadedFile.failure);
+                } else {
+                    next = loadedFile.document;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Document next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Document document = next;
+            next = null;
+            return document;
+        }
+
+        private LoadedFile load(Path file) {
+            try {
+                return new LoadedFile(file, FileSystemDocumentLoader.loadDocument(file, documentParser), null);
+            } catch (BlankDocumentException ignored) {
+                // blank/empty documents are ignored
+                return new LoadedFile(file, null, null);
+            } catch (Exception e) {
+                return new LoadedFile(file, null, e);
+            }
+        }
+
+        private LoadedFile await(CompletableFuture<LoadedFile> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        void cancel() {
+            CompletableFuture<LoadedFile> future;
+            while ((future = inFlight.poll()) != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Either a document, a failure, or neither (for a blank file).
+     */
+    private record LoadedFile(Path file, Document document, Exception failure) {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private DocumentParser documentParser;
+        private PathMatcher pathMatcher;
+        private Boolean recursive;
+        private Integer concurrency;
+        private Executor executor;
+        private BiConsumer<Path, Exception> failureListener;
+
+        /**
+         * @param documentParser The parser to be used for parsing text from each file.
+         *                       By default, it is loaded through SPI (see {@link DocumentParserFactory}).
+         *                       If no {@code DocumentParserFactory} is available in the classpath,
+         *                       a {@link TextDocumentParser} is used.
+         *                       The parser is used by several threads concurrently, so it must be thread-safe.
+         * @return builder
+         */
+        public Builder documentParser(DocumentParser documentParser) {
+            this.documentParser = documentParser;
+            return this;
+        }
+
+        /**
+         * @param pathMatcher Only files whose paths match the provided {@link PathMatcher} will be loaded.
+         *                    Each file path is converted from absolute to relative (relative to the directory)
+         *                    before being matched, so {@code pathMatcher} should use relative patterns
+         *                    (see {@link FileSystemDocumentLoader#loadDocumentsRecursively(Path, PathMatcher)}).
+         *                    By default, all files are loaded.
+         * @return builder
+         */
+        public Builder pathMatcher(PathMatcher pathMatcher) {
+            this.pathMatcher = pathMatcher;
+            return this;
+        }
+
+        /**
+         * @param recursive Whether files from the subdirectories are loaded too. Default value: {@code false}.
+         * @return builder
+         */
+        public Builder recursive(Boolean recursive) {
+            this.recursive = recursive;
+            return this;
+        }
+
+        /**
+         * @param concurrency The maximum number of files that are being loaded, or are loaded but not consumed yet.
+         *                    Default value: the number of available processors.
+         * @return builder
+         */
+        public Builder concurrency(Integer concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * @param executor The executor on which files are loaded.
+         *                 By default, the default executor of LangChain4j is used.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param failureListener Called, on the thread consuming the documents, for each file that fails to load.
+         *                        By default, failures are logged as warnings.
+         * @return builder
+         */
+        public Builder failureListener(BiConsumer<Path, Exception> failureListener) {
+            this.failureListener = failureListener;
+            return this;
+        }
+
+        public ParallelFileSystemDocumentLoader build() {
+            return new ParallelFileSystemDocumentLoader(this);
+        }
+    }
+}
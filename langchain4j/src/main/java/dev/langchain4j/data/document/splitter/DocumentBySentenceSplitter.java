@@ -8,6 +8,14 @@ import opennlp.tools.sentdetect.SentenceDetectorME;
 import opennlp.tools.sentdetect.SentenceModel;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
@@ -29,29 +37,39 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * <p>
  * Each {@link TextSegment} inherits all metadata from the {@link Document} and includes an "index" metadata key
  * representing its position within the document (starting from 0).
+ * <p>
+ * The English sentence model is loaded once, by the first splitter that uses it, and shared by all splitters.
+ * This splitter is thread-safe (as long as the {@code tokenCountEstimator} and {@code subSplitter} are):
+ * the {@link SentenceDetectorME}s, which are not thread-safe, are pooled and used by one thread at a time.
+ * {@link #splitAll(List)} splits several documents in parallel.
  */
 public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
+    private static final String DEFAULT_SENTENCE_MODEL_FILE_PATH = "/opennlp/opennlp-en-ud-ewt-sentence-1.2-2.5.0.bin";
+
+    private static volatile SentenceModel defaultSentenceModel;
+
     private final SentenceModel sentenceModel;
+    private final Queue<SentenceDetectorME> sentenceDetectors = new ConcurrentLinkedQueue<>();
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       TokenCountEstimator tokenCountEstimator) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
@@ -59,7 +77,7 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       TokenCountEstimator tokenCountEstimator,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
     }
 
     /**
@@ -76,9 +94,22 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
         this.sentenceModel = ensureNotNull(sentenceModel, "sentenceModel");
     }
 
-    private SentenceModel createSentenceModel() {
-        String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.2-2.5.0.bin";
-        try (InputStream is = getClass().getResourceAsStream(sentenceModelFilePath)) {
+    private static SentenceModel defaultSentenceModel() {
+        SentenceModel sentenceModel = defaultSentenceModel;
+        if (sentenceModel == null) {
+            synchronized (DocumentBySentenceSplitter.class) {
+                sentenceModel = defaultSentenceModel;
+                if (sentenceModel == null) {
+                    sentenceModel = createSentenceModel();
+                    defaultSentenceModel = sentenceModel;
+                }
+            }
+        }
+        return sentenceModel;
+    }
+
+    private static SentenceModel createSentenceModel() {
+        try (InputStream is = DocumentBySentenceSplitter.class.getResourceAsStream(DEFAULT_SENTENCE_MODEL_FILE_PATH)) {
             return new SentenceModel(is);
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -87,8 +118,77 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
-        return sentenceDetector.sentDetect(text);
+        SentenceDetectorME sentenceDetector = sentenceDetectors.poll();
+        if (sentenceDetector == null) {
+            sentenceDetector = new SentenceDetectorME(sentenceModel);
+        }
+        try {
+            return sentenceDetector.sentDetect(text);
+        } finally {
+            sentenceDetectors.offer(sentenceDetector);
+        }
+    }
+
+    /**
+     * Splits the documents in parallel, on up to as many threads as there are available processors
+     * (the calling thread and the threads of the {@code executor}).
+     * The segments are returned in the same order as {@link DocumentSplitter#splitAll(List)} would return them:
+     * the segments of the first document, then the segments of the second document, and so on.
+     * <p>
+     * The {@link TokenCountEstimator} and the sub-splitter of this splitter are then called concurrently,
+     * so they must be thread-safe.
+     *
+     * @param documents The documents to be split.
+     * @param executor  The executor on which documents are split, in addition to the calling thread.
+     * @return The segments of all documents.
+     */
+    public List<TextSegment> splitAll(List<Document> documents, Executor executor) {
+        return splitAll(documents, executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    List<TextSegment> splitAll(List<Document> documents, Executor executor, int maxParallelism) {
+        ensureNotNull(executor, "executor");
+
+        int parallelism = Math.min(documents.size(), maxParallelism);
+        if (parallelism <= 1) {
+            return super.splitAll(documents);
+        }
+
+        List<List<TextSegment>> segmentsPerDocument = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            segmentsPerDocument.add(null);
+        }
+
+        AtomicInteger nextDocument = new AtomicInteger();
+        Runnable worker = () -> {
+            int i;
+            while ((i = nextDocument.getAndIncrement()) < documents.size()) {
+                try {
+                    segmentsPerDocument.set(i, split(documents.get(i)));
+                } catch (RuntimeException e) {
+                    nextDocument.set(documents.size()); // the other workers stop too
+                    throw e;
+                }
+            }
+        };
+
+        CompletableFuture<?>[] workers = new CompletableFuture[parallelism - 1];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(worker, executor);
+        }
+        worker.run();
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+
+        List<TextSegment> segments = new ArrayList<>();
+        segmentsPerDocument.forEach(segments::addAll);
+        return segments;
     }
 
     @Override
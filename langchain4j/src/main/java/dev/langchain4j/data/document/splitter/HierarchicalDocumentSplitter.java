@@ -24,13 +24,16 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * when a single segment is too long.
  */
 public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
-    private HierarchicalDocumentSplitter overlapSentenceSplitter;
+    private volatile HierarchicalDocumentSplitter overlapSentenceSplitter;
 
     private HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
-        if (overlapSentenceSplitter == null) {
-            overlapSentenceSplitter = new DocumentBySentenceSplitter(1, 0, null, null);
+        HierarchicalDocumentSplitter splitter = overlapSentenceSplitter;
+        if (splitter == null) {
+            // may be created more than once when split concurrently, but a sentence splitter is thread-safe
+            splitter = new DocumentBySentenceSplitter(1, 0, null, null);
+            overlapSentenceSplitter = splitter;
         }
-        return overlapSentenceSplitter;
+        return splitter;
     }
 
     private static final String INDEX = "index";
@@ -122,7 +125,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         ensureNotNull(document, "document");
 
         List<TextSegment> segments = new ArrayList<>();
-        SegmentBuilder segmentBuilder = new SegmentBuilder(maxSegmentSize, this::estimateSize, joinDelimiter());
+        SegmentBuilder segmentBuilder = new SegmentBuilder(maxSegmentSize, this::estimateSize, joinDelimiter(), true);
         AtomicInteger index = new AtomicInteger(0);
 
         String[] parts = split(document.text());
@@ -132,7 +135,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                segmentBuilder.append(part, partSize);
                 continue;
             }
 
@@ -149,7 +152,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
+                        segmentBuilder.append(part, partSize);
                         continue;
                     }
                 }
@@ -168,7 +171,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
             }
 
             // Delegate the splitting of the part to the sub-splitter.
-            segmentBuilder.append(part);
+            segmentBuilder.append(part, partSize);
             for (TextSegment segment : subSplitter.split(Document.from(segmentBuilder.toString()))) {
                 segments.add(createSegment(segment.text(), document, index.getAndIncrement()));
             }
@@ -202,10 +205,11 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         List<String> sentences = Arrays.asList(getOverlapSentenceSplitter().split(segmentText));
         Collections.reverse(sentences);
 
-        SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter());
+        SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter(), true);
         for (String sentence : sentences) {
-            if (overlapBuilder.hasSpaceFor(sentence)) {
-                overlapBuilder.prepend(sentence);
+            int sentenceSize = overlapBuilder.sizeOf(sentence);
+            if (overlapBuilder.hasSpaceFor(sentenceSize)) {
+                overlapBuilder.prepend(sentence, sentenceSize);
             } else {
                 break;
             }
@@ -9,6 +9,16 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ * <p>
+ * Texts are accumulated in a {@link StringBuilder}.
+ * By default, the size of the whole segment is recomputed with the {@code sizeFunction} after each
+ * {@link #append(String)} or {@link #prepend(String)}, which makes building a segment quadratic in its length
+ * when the size function is a tokenizer.
+ * In incremental mode, the size of the segment is instead tracked as the sum of the sizes of its texts
+ * and join separators, and the exact size of the whole segment is only computed when that sum does not leave space
+ * for the next text (i.e., at segment boundaries), or when {@link #getSize()} is called.
+ * For size functions that never count more for a concatenation than for its parts (such as the number of
+ * characters, or the number of tokens of common tokenizers), both modes make the same decisions.
  */
 @Internal
 class SegmentBuilder {
@@ -17,8 +27,10 @@ class SegmentBuilder {
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final boolean incremental;
+    private final StringBuilder segment = new StringBuilder();
     private int segmentSize = 0;
+    private boolean segmentSizeIsExact = true;
 
     /**
      * Creates a new instance of {@link SegmentBuilder}.
@@ -28,10 +40,27 @@ class SegmentBuilder {
      * @param joinSeparator  The separator to use when joining multiple texts into a single segment.
      */
     public SegmentBuilder(int maxSegmentSize, Function<String, Integer> sizeFunction, String joinSeparator) {
+        this(maxSegmentSize, sizeFunction, joinSeparator, false);
+    }
+
+    /**
+     * Creates a new instance of {@link SegmentBuilder}.
+     *
+     * @param maxSegmentSize The maximum size of a segment.
+     * @param sizeFunction   The function to use to estimate the size of a text.
+     * @param joinSeparator  The separator to use when joining multiple texts into a single segment.
+     * @param incremental    Whether the size of the segment is tracked incrementally
+     *                       instead of being recomputed after each change.
+     */
+    public SegmentBuilder(int maxSegmentSize,
+                          Function<String, Integer> sizeFunction,
+                          String joinSeparator,
+                          boolean incremental) {
         this.maxSegmentSize = ensureGreaterThanZero(maxSegmentSize, "maxSegmentSize");
         this.sizeFunction = ensureNotNull(sizeFunction, "sizeFunction");
         this.joinSeparator = ensureNotNull(joinSeparator, "joinSeparator");
         this.joinSeparatorSize = sizeOf(joinSeparator);
+        this.incremental = incremental;
     }
 
     /**
@@ -40,6 +69,7 @@ class SegmentBuilder {
      * @return The current size of the segment.
      */
     public int getSize() {
+        recomputeSize();
         return segmentSize;
     }
 
@@ -50,11 +80,7 @@ class SegmentBuilder {
      * @return {@code true} if the provided text can be added to the current segment.
      */
     public boolean hasSpaceFor(String text) {
-        int totalSize = sizeOf(text);
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
-        }
-        return totalSize <= maxSegmentSize;
+        return hasSpaceFor(sizeOf(text));
     }
 
     /**
@@ -64,11 +90,25 @@ class SegmentBuilder {
      * @return {@code true} if the provided size can be added to the current segment.
      */
     public boolean hasSpaceFor(int size) {
-        int totalSize = size;
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
+        if (sizeWith(size) <= maxSegmentSize) {
+            return true;
+        }
+        if (segmentSizeIsExact) {
+            return false;
+        }
+        recomputeSize();
+        return sizeWith(size) <= maxSegmentSize;
+    }
+
+    private int sizeWith(int size) {
+        return isNotEmpty() ? segmentSize + joinSeparatorSize + size : size;
+    }
+
+    private void recomputeSize() {
+        if (!segmentSizeIsExact) {
+            segmentSize = sizeOf(segment.toString());
+            segmentSizeIsExact = true;
         }
-        return totalSize <= maxSegmentSize;
     }
 
     /**
@@ -87,11 +127,22 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
-        if (isNotEmpty()) {
-            segment += joinSeparator;
+        append(text, incremental ? sizeOf(text) : -1);
+    }
+
+    /**
+     * Appends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text The text to append.
+     * @param size The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void append(String text, int size) {
+        boolean wasEmpty = !isNotEmpty();
+        if (!wasEmpty) {
+            segment.append(joinSeparator);
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        segment.append(text);
+        updateSize(size, wasEmpty);
     }
 
     /**
@@ -100,12 +151,34 @@ class SegmentBuilder {
      * @param text The text to prepend.
      */
     public void prepend(String text) {
-        if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
+        prepend(text, incremental ? sizeOf(text) : -1);
+    }
+
+    /**
+     * Prepends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text The text to prepend.
+     * @param size The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void prepend(String text, int size) {
+        boolean wasEmpty = !isNotEmpty();
+        if (!wasEmpty) {
+            segment.insert(0, joinSeparator);
+        }
+        segment.insert(0, text);
+        updateSize(size, wasEmpty);
+    }
+
+    private void updateSize(int addedTextSize, boolean wasEmpty) {
+        if (incremental && wasEmpty) {
+            segmentSize = addedTextSize;
+            segmentSizeIsExact = true;
+        } else if (incremental) {
+            segmentSize += joinSeparatorSize + addedTextSize;
+            segmentSizeIsExact = false;
         } else {
-            segment = text;
+            segmentSize = sizeOf(segment.toString());
         }
-        segmentSize = sizeOf(segment);
     }
 
     /**
@@ -114,19 +187,20 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return segment.length() > 0;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        return segment.toString().trim();
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        segment.setLength(0);
         segmentSize = 0;
+        segmentSizeIsExact = true;
     }
 }
@@ -2,6 +2,7 @@ package dev.langchain4j.memory.chat;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.singletonList;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -13,6 +14,7 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.service.memory.ChatMemoryService;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 
 /**
@@ -31,6 +33,9 @@ import dev.langchain4j.store.memory.chat.ChatMemoryStore;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * If the store is an {@link AppendableChatMemoryStore}, only the changes are written to it when a message is added,
+ * except for the first message added by this chat memory: it rewrites the whole content of the store,
+ * so that the store holds exactly the messages of the window and evictions can be applied to it incrementally.
  */
 public class MessageWindowChatMemory implements ChatMemory {
 
@@ -38,6 +43,8 @@ public class MessageWindowChatMemory implements ChatMemory {
     private final Integer maxMessages;
     private final ChatMemoryStore store;
 
+    private volatile boolean storeTrimmed;
+
     private MessageWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxMessages = ensureGreaterThanZero(builder.maxMessages, "maxMessages");
@@ -52,6 +59,7 @@ public class MessageWindowChatMemory implements ChatMemory {
     @Override
     public void add(ChatMessage message) {
         List<ChatMessage> messages = messages();
+        boolean systemMessageReplaced = false;
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> systemMessage = SystemMessage.findFirst(messages);
             if (systemMessage.isPresent()) {
@@ -59,12 +67,26 @@ public class MessageWindowChatMemory implements ChatMemory {
                     return; // do not add the same system message
                 } else {
                     messages.remove(systemMessage.get()); // need to replace existing system message
+                    systemMessageReplaced = true;
                 }
             }
         }
         messages.add(message);
+        int messageCount = messages.size();
         ensureCapacity(messages, maxMessages);
-        store.updateMessages(id, messages);
+        if (storeTrimmed && store instanceof AppendableChatMemoryStore appendableStore) {
+            if (systemMessageReplaced) {
+                appendableStore.replaceSystemMessage(id, (SystemMessage) message);
+            } else {
+                appendableStore.appendMessages(id, singletonList(message));
+            }
+            if (messages.size() < messageCount) {
+                appendableStore.evictOldest(id, messageCount - messages.size());
+            }
+        } else {
+            store.updateMessages(id, messages);
+            storeTrimmed = true;
+        }
     }
 
     @Override
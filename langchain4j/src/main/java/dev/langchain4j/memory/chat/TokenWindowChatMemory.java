@@ -2,9 +2,15 @@ package dev.langchain4j.memory.chat;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
@@ -14,6 +20,7 @@ import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.service.memory.ChatMemoryService;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 
 /**
@@ -32,7 +39,11 @@ import dev.langchain4j.store.memory.chat.ChatMemoryStore;
  * to avoid problems with some LLM providers (such as OpenAI)
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
+ * The token count of each message is estimated only once, when it is added (or first read from the store),
+ * and is cached together with the running total, so reading the messages does not re-estimate them.
+ * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * If the store is an {@link AppendableChatMemoryStore}, only the changes are written to it when a message is added.
  */
 public class TokenWindowChatMemory implements ChatMemory {
 
@@ -41,6 +52,12 @@ public class TokenWindowChatMemory implements ChatMemory {
     private final TokenCountEstimator tokenCountEstimator;
     private final ChatMemoryStore store;
 
+    private List<ChatMessage> storedMessages = emptyList();
+    private List<Integer> storedTokenCounts = emptyList();
+    private int storedTokenCount;
+    private Window window;
+    private Integer extraTokenCount;
+
     private TokenWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxTokens = ensureGreaterThanZero(builder.maxTokens, "maxTokens");
@@ -54,66 +71,185 @@ public class TokenWindowChatMemory implements ChatMemory {
     }
 
     @Override
-    public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+    public synchronized void add(ChatMessage message) {
+        window(); // refreshes the stored messages
+        List<ChatMessage> messages = new ArrayList<>(storedMessages);
+        List<Integer> tokenCounts = new ArrayList<>(storedTokenCounts);
+        int tokenCount = storedTokenCount;
+        boolean systemMessageReplaced = false;
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> maybeSystemMessage = SystemMessage.findFirst(messages);
             if (maybeSystemMessage.isPresent()) {
                 if (maybeSystemMessage.get().equals(message)) {
                     return; // do not add the same system message
                 } else {
-                    messages.remove(maybeSystemMessage.get()); // need to replace existing system message
+                    // need to replace existing system message
+                    int index = messages.indexOf(maybeSystemMessage.get());
+                    messages.remove(index);
+                    tokenCount -= tokenCounts.remove(index);
+                    systemMessageReplaced = true;
                 }
             }
         }
         messages.add(message);
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
-        store.updateMessages(id, messages);
+        int messageTokenCount = tokenCountEstimator.estimateTokenCountInMessage(message);
+        tokenCounts.add(messageTokenCount);
+        Window updated = ensureCapacity(messages, tokenCounts, tokenCount + messageTokenCount);
+        if (store instanceof AppendableChatMemoryStore appendableStore) {
+            if (systemMessageReplaced) {
+                appendableStore.replaceSystemMessage(id, (SystemMessage) message);
+            } else {
+                appendableStore.appendMessages(id, singletonList(message));
+            }
+            if (updated.messages.size() < messages.size()) {
+                appendableStore.evictOldest(id, messages.size() - updated.messages.size());
+            }
+        } else {
+            store.updateMessages(id, new ArrayList<>(updated.messages));
+        }
+        storedMessages = updated.messages;
+        storedTokenCounts = updated.tokenCounts;
+        storedTokenCount = updated.tokenCount;
+        window = updated;
     }
 
     @Override
-    public List<ChatMessage> messages() {
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
-        return messages;
+    public synchronized List<ChatMessage> messages() {
+        return new LinkedList<>(window().messages);
+    }
+
+    /**
+     * Returns the messages currently held in the {@link #store}, with capacity ensured.
+     * <p>
+     * Token counts are estimated once per message and cached together with the last seen store content,
+     * so reading unchanged messages does not estimate anything,
+     * and messages changed in the store by someone else only have their new messages estimated.
+     */
+    private Window window() {
+        List<ChatMessage> messages = store.getMessages(id);
+        if (window != null && sameMessages(messages, storedMessages)) {
+            return window;
+        }
+
+        Map<ChatMessage, Integer> knownTokenCounts = new HashMap<>();
+        for (int i = 0; i < storedMessages.size(); i++) {
+            knownTokenCounts.put(storedMessages.get(i), storedTokenCounts.get(i));
+        }
+        List<Integer> tokenCounts = new ArrayList<>(messages.size());
+        int tokenCount = 0;
+        for (ChatMessage message : messages) {
+            Integer messageTokenCount = knownTokenCounts.get(message);
+            if (messageTokenCount == null) {
+                messageTokenCount = tokenCountEstimator.estimateTokenCountInMessage(message);
+            }
+            tokenCounts.add(messageTokenCount);
+            tokenCount += messageTokenCount;
+        }
+
+        storedMessages = new ArrayList<>(messages);
+        storedTokenCounts = tokenCounts;
+        storedTokenCount = tokenCount;
+        window = ensureCapacity(storedMessages, storedTokenCounts, tokenCount);
+        return window;
+    }
+
+    private static boolean sameMessages(List<ChatMessage> messages, List<ChatMessage> otherMessages) {
+        if (messages.size() != otherMessages.size()) {
+            return false;
+        }
+        Iterator<ChatMessage> otherIterator = otherMessages.iterator();
+        for (ChatMessage message : messages) {
+            ChatMessage otherMessage = otherIterator.next();
+            if (message != otherMessage && !message.equals(otherMessage)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private static void ensureCapacity(List<ChatMessage> messages, int maxTokens, TokenCountEstimator estimator) {
+    private Window ensureCapacity(List<ChatMessage> messages, List<Integer> tokenCounts, int tokenCount) {
 
         if (messages.isEmpty()) {
-            return;
+            return new Window(messages, tokenCounts, tokenCount);
         }
 
-        int currentTokenCount = estimator.estimateTokenCountInMessages(messages);
-        while (currentTokenCount > maxTokens && !messages.isEmpty()) {
+        int currentTokenCount = extraTokenCount(messages, tokenCount) + tokenCount;
 
-            int messageToEvictIndex = 0;
-            if (messages.get(0) instanceof SystemMessage) {
-                if (messages.size() == 1) {
-                    return;
-                }
-                messageToEvictIndex = 1;
+        // Messages are always evicted from the front, skipping the SystemMessage once it becomes the first one,
+        // so the evicted messages are the ones before the retained SystemMessage (if any) and before nextToEvict.
+        int systemMessageIndex = -1;
+        int nextToEvict = 0;
+        while (currentTokenCount > maxTokens && nextToEvict < messages.size()) {
+
+            if (systemMessageIndex < 0 && messages.get(nextToEvict) instanceof SystemMessage) {
+                systemMessageIndex = nextToEvict++;
+                continue;
             }
 
-            ChatMessage evictedMessage = messages.remove(messageToEvictIndex);
-            int tokenCountOfEvictedMessage = estimator.estimateTokenCountInMessage(evictedMessage);
-            currentTokenCount -= tokenCountOfEvictedMessage;
+            ChatMessage evictedMessage = messages.get(nextToEvict);
+            currentTokenCount -= tokenCounts.get(nextToEvict++);
 
             if (evictedMessage instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
-                while (messages.size() > messageToEvictIndex
-                        && messages.get(messageToEvictIndex) instanceof ToolExecutionResultMessage) {
+                while (nextToEvict < messages.size()
+                        && messages.get(nextToEvict) instanceof ToolExecutionResultMessage) {
                     // Some LLMs (e.g. OpenAI) prohibit ToolExecutionResultMessage(s) without corresponding AiMessage,
                     // so we have to automatically evict orphan ToolExecutionResultMessage(s) if AiMessage was evicted
-                    ChatMessage orphanToolExecutionResultMessage = messages.remove(messageToEvictIndex);
-                    currentTokenCount -= estimator.estimateTokenCountInMessage(orphanToolExecutionResultMessage);
+                    currentTokenCount -= tokenCounts.get(nextToEvict++);
                 }
             }
         }
+
+        int retainedSystemMessageCount = systemMessageIndex >= 0 ? 1 : 0;
+        if (nextToEvict == retainedSystemMessageCount) {
+            return new Window(messages, tokenCounts, tokenCount); // nothing was evicted
+        }
+
+        int retainedMessageCount = messages.size() - nextToEvict + retainedSystemMessageCount;
+        List<ChatMessage> retainedMessages = new ArrayList<>(retainedMessageCount);
+        List<Integer> retainedTokenCounts = new ArrayList<>(retainedMessageCount);
+        if (systemMessageIndex >= 0) {
+            retainedMessages.add(messages.get(systemMessageIndex));
+            retainedTokenCounts.add(tokenCounts.get(systemMessageIndex));
+        }
+        retainedMessages.addAll(messages.subList(nextToEvict, messages.size()));
+        retainedTokenCounts.addAll(tokenCounts.subList(nextToEvict, tokenCounts.size()));
+        return new Window(retainedMessages, retainedTokenCounts, currentTokenCount - extraTokenCount);
+    }
+
+    /**
+     * Returns the number of tokens the {@link #tokenCountEstimator} adds on top of the individual messages
+     * (e.g. reply priming), which is estimated once, on the first non-empty list of messages.
+     */
+    private int extraTokenCount(List<ChatMessage> messages, int tokenCount) {
+        if (extraTokenCount == null) {
+            extraTokenCount = tokenCountEstimator.estimateTokenCountInMessages(messages) - tokenCount;
+        }
+        return extraTokenCount;
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         store.deleteMessages(id);
+        storedMessages = emptyList();
+        storedTokenCounts = emptyList();
+        storedTokenCount = 0;
+        window = null;
+    }
+
+    /**
+     * Messages together with their estimated token counts and the sum of those counts.
+     */
+    private static class Window {
+
+        private final List<ChatMessage> messages;
+        private final List<Integer> tokenCounts;
+        private final int tokenCount;
+
+        private Window(List<ChatMessage> messages, List<Integer> tokenCounts, int tokenCount) {
+            this.messages = messages;
+            this.tokenCounts = tokenCounts;
+            this.tokenCount = tokenCount;
+        }
     }
 
     public static Builder builder() {
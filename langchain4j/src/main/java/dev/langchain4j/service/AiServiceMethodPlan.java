@@ -0,0 +1,262 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.data.message.Content;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Everything about an AI Service method that does not depend on the arguments of a call:
+ * the roles of its parameters (found from their annotations), the template variable names,
+ * the templates from the {@link SystemMessage} and {@link UserMessage} annotations,
+ * and what is derived from the return type.
+ * <p>
+ * It is created on the first call of the method, and then reused by every call,
+ * so that annotations are not read, resources are not loaded, and templates are not parsed on each call.
+ */
+@Internal
+final class AiServiceMethodPlan {
+
+    private final Method method;
+    private final Type returnType;
+    private final boolean streaming;
+    private final boolean returnsResult;
+    private final boolean moderated;
+
+    private final String[] variableNames;
+    private final int itParameterIndex;
+    private final int memoryIdParameterIndex;
+    private final int userNameParameterIndex;
+    private final int[] userMessageParameterIndexes;
+    private final boolean singleUnannotatedParameter;
+
+    private final String systemMessageTemplate;
+    private final PromptTemplate systemMessagePromptTemplate;
+    private final String userMessageTemplate;
+    private final PromptTemplate userMessagePromptTemplate;
+
+    private final ServiceOutputParser serviceOutputParser;
+    private volatile Optional<JsonSchema> jsonSchema;
+    private volatile String outputFormatInstructions;
+
+    AiServiceMethodPlan(Method method, boolean streaming, ServiceOutputParser serviceOutputParser) {
+        DefaultAiServices.validateParameters(method);
+
+        this.method = method;
+        this.returnType = method.getGenericReturnType();
+        this.streaming = streaming;
+        this.returnsResult = typeHasRawClass(returnType, Result.class);
+        this.moderated = method.isAnnotationPresent(Moderate.class);
+        this.serviceOutputParser = serviceOutputParser;
+
+        Parameter[] parameters = method.getParameters();
+        this.variableNames = new String[parameters.length];
+        int memoryIdParameterIndex = -1;
+        int userNameParameterIndex = -1;
+        List<Integer> userMessageParameterIndexes = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            V v = parameter.getAnnotation(V.class);
+            variableNames[i] = v != null ? v.value() : parameter.getName();
+            if (memoryIdParameterIndex < 0 && parameter.isAnnotationPresent(MemoryId.class)) {
+                memoryIdParameterIndex = i;
+            }
+            if (userNameParameterIndex < 0 && parameter.isAnnotationPresent(UserName.class)) {
+                userNameParameterIndex = i;
+            }
+            if (parameter.isAnnotationPresent(UserMessage.class)) {
+                userMessageParameterIndexes.add(i);
+            }
+        }
+        this.memoryIdParameterIndex = memoryIdParameterIndex;
+        this.userNameParameterIndex = userNameParameterIndex;
+        this.userMessageParameterIndexes =
+                userMessageParameterIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.singleUnannotatedParameter = parameters.length == 1 && parameters[0].getAnnotations().length == 0;
+        this.itParameterIndex = InternalReflectionVariableResolver.findItParameterIndex(parameters);
+
+        SystemMessage systemMessage = method.getAnnotation(SystemMessage.class);
+        this.systemMessageTemplate = systemMessage == null
+                ? null
+                : DefaultAiServices.getTemplate(
+                        method, "System", systemMessage.fromResource(), systemMessage.value(), systemMessage.delimiter());
+        this.systemMessagePromptTemplate =
+                systemMessageTemplate == null ? null : PromptTemplate.from(systemMessageTemplate);
+
+        UserMessage userMessage = method.getAnnotation(UserMessage.class);
+        this.userMessageTemplate = userMessage == null
+                ? null
+                : DefaultAiServices.getTemplate(
+                        method, "User", userMessage.fromResource(), userMessage.value(), userMessage.delimiter());
+        this.userMessagePromptTemplate = userMessageTemplate == null ? null : PromptTemplate.from(userMessageTemplate);
+    }
+
+    Method method() {
+        return method;
+    }
+
+    Type returnType() {
+        return returnType;
+    }
+
+    boolean streaming() {
+        return streaming;
+    }
+
+    boolean returnsResult() {
+        return returnsResult;
+    }
+
+    boolean moderated() {
+        return moderated;
+    }
+
+    Optional<Object> memoryId(Object[] args) {
+        if (memoryIdParameterIndex < 0) {
+            return Optional.empty();
+        }
+        Object memoryId = args[memoryIdParameterIndex];
+        if (memoryId == null) {
+            throw illegalArgument(
+                    "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                    method.getParameters()[memoryIdParameterIndex].getName(), method.getName());
+        }
+        return Optional.of(memoryId);
+    }
+
+    Optional<String> userName(Object[] args) {
+        return userNameParameterIndex < 0
+                ? Optional.empty()
+                : Optional.of(args[userNameParameterIndex].toString());
+    }
+
+    /**
+     * @return the template from the {@link SystemMessage} annotation, or {@code null} if the method has none.
+     */
+    String systemMessageTemplate() {
+        return systemMessageTemplate;
+    }
+
+    PromptTemplate systemMessagePromptTemplate() {
+        return systemMessagePromptTemplate;
+    }
+
+    /**
+     * @return the template from the {@link UserMessage} annotation of the method,
+     * or {@code null} if the method has none.
+     */
+    PromptTemplate userMessagePromptTemplate() {
+        return userMessagePromptTemplate;
+    }
+
+    String userMessageTemplate(Object[] args) {
+        String templateFromParameter = null;
+        for (int i : userMessageParameterIndexes) {
+            if (!(args[i] instanceof Content) && !isListOfContents(args[i])) {
+                templateFromParameter = InternalReflectionVariableResolver.asString(args[i]);
+                break;
+            }
+        }
+
+        if (userMessageTemplate != null && templateFromParameter != null) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                    method.getName());
+        }
+        if (userMessageTemplate != null) {
+            return userMessageTemplate;
+        }
+        if (templateFromParameter != null) {
+            return templateFromParameter;
+        }
+        if (singleUnannotatedParameter) {
+            return InternalReflectionVariableResolver.asString(args[0]);
+        }
+
+        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
+    }
+
+    Map<String, Object> templateVariables(String template, Object[] args) {
+        if (args == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            variables.put(variableNames[i], args[i]);
+        }
+
+        if (template.contains("{{it}}") && !variables.containsKey("it")) {
+            if (itParameterIndex < 0) {
+                throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+            }
+            variables.put("it", InternalReflectionVariableResolver.asString(args[itParameterIndex]));
+        }
+
+        return variables;
+    }
+
+    Optional<List<Content>> contents(Object[] args) {
+        List<Content> contents = new ArrayList<>();
+
+        if (userMessageTemplate != null) {
+            contents.add(null); // placeholder
+        }
+
+        int placeholders = contents.size();
+        for (int i : userMessageParameterIndexes) {
+            if (args[i] instanceof Content content) {
+                contents.add(content);
+            } else if (isListOfContents(args[i])) {
+                contents.addAll((List<Content>) args[i]);
+            } else {
+                contents.add(null); // placeholder
+                placeholders++;
+            }
+        }
+
+        if (placeholders > 1) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage for text content. Please use only one.",
+                    method.getName());
+        }
+
+        return contents.isEmpty() ? Optional.empty() : Optional.of(contents);
+    }
+
+    private static boolean isListOfContents(Object o) {
+        return o instanceof List<?> list && list.stream().allMatch(Content.class::isInstance);
+    }
+
+    Optional<JsonSchema> jsonSchema() {
+        Optional<JsonSchema> jsonSchema = this.jsonSchema;
+        if (jsonSchema == null) {
+            jsonSchema = serviceOutputParser.jsonSchema(returnType);
+            this.jsonSchema = jsonSchema;
+        }
+        return jsonSchema;
+    }
+
+    String outputFormatInstructions() {
+        String outputFormatInstructions = this.outputFormatInstructions;
+        if (outputFormatInstructions == null) {
+            outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+            this.outputFormatInstructions = outputFormatInstructions;
+        }
+        return outputFormatInstructions;
+    }
+}
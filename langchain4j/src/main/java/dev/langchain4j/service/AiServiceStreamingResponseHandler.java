@@ -12,7 +12,10 @@ import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.guardrail.ChatExecutor;
 import dev.langchain4j.guardrail.GuardrailRequestParams;
+import dev.langchain4j.guardrail.OutputGuardrailException;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
+import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.PartialOutputGuardrailRequest;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
@@ -40,6 +43,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Handles response from a language model for AI Service that is streamed token-by-token. Handles both regular (text)
  * responses and responses with the request to execute one or multiple tools.
+ * <p>
+ * If the method has output guardrails, the partial responses are buffered until the complete response is validated.
+ * If all of them are {@link dev.langchain4j.guardrail.StreamingOutputGuardrail}s, each completed sentence (or line)
+ * of the response is validated and passed on as soon as it is streamed instead.
+ * When the validation of a sentence fails, the error is reported immediately and the rest of the response is ignored.
  */
 @Internal
 class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler {
@@ -73,6 +81,11 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
     private final List<String> responseBuffer = new ArrayList<>();
     private final boolean hasOutputGuardrails;
+    private final boolean hasStreamingOutputGuardrails;
+    private final boolean bufferPartialResponses;
+    private final StringBuilder responseSoFar = new StringBuilder();
+    private final StringBuilder unvalidatedResponse = new StringBuilder();
+    private volatile boolean aborted;
 
     AiServiceStreamingResponseHandler(
             ChatExecutor chatExecutor,
@@ -118,18 +131,102 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
         this.toolExecutor = toolExecutor;
 
         this.hasOutputGuardrails = context.guardrailService().hasOutputGuardrails(methodKey);
+        this.hasStreamingOutputGuardrails =
+                hasOutputGuardrails && context.guardrailService().hasStreamingOutputGuardrails(methodKey);
+        this.bufferPartialResponses =
+                hasOutputGuardrails && !context.guardrailService().hasOnlyStreamingOutputGuardrails(methodKey);
     }
 
     @Override
     public void onPartialResponse(String partialResponse) {
-        // If we're using output guardrails, then buffer the partial response until the guardrails have completed
-        if (hasOutputGuardrails) {
+        if (aborted) {
+            return;
+        }
+
+        if (hasStreamingOutputGuardrails) {
+            unvalidatedResponse.append(partialResponse);
+            int end = completedPartEnd(unvalidatedResponse);
+            if (end > 0) {
+                validatePartialResponse(end);
+            }
+        } else if (bufferPartialResponses) {
+            // If we're using output guardrails, then buffer the partial response until the guardrails have completed
             responseBuffer.add(partialResponse);
         } else {
             partialResponseHandler.accept(partialResponse);
         }
     }
 
+    /**
+     * Returns the end of the last completed sentence (or line) of the text, or 0 if there is none yet.
+     * A sentence is only completed once its final punctuation is followed by a whitespace,
+     * so that, for example, "3." is not validated before it is known not to be followed by "14".
+     */
+    static int completedPartEnd(CharSequence text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                return i + 1;
+            }
+            if ((c == '.' || c == '!' || c == '?')
+                    && i + 1 < text.length()
+                    && Character.isWhitespace(text.charAt(i + 1))) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Validates the first {@code end} characters of the response that were not validated yet
+     * with the streaming output guardrails, and passes them on (or buffers them) if they are valid.
+     *
+     * @return {@code false} if the validation failed, and the response was aborted
+     */
+    private boolean validatePartialResponse(int end) {
+        String partialResponse = unvalidatedResponse.substring(0, end);
+        unvalidatedResponse.delete(0, end);
+        responseSoFar.append(partialResponse);
+
+        OutputGuardrailResult result;
+        try {
+            result = context.guardrailService()
+                    .executePartialOutputGuardrails(
+                            methodKey,
+                            PartialOutputGuardrailRequest.builder()
+                                    .partialResponse(partialResponse)
+                                    .responseSoFar(responseSoFar.toString())
+                                    .requestParams(commonGuardrailParams)
+                                    .build());
+        } catch (RuntimeException e) {
+            abort(e);
+            return false;
+        }
+
+        if (!result.isSuccess()) {
+            abort(new OutputGuardrailException(result.toString(), result.getFirstFailureException()));
+            return false;
+        }
+
+        if (bufferPartialResponses) {
+            responseBuffer.add(partialResponse);
+        } else {
+            partialResponseHandler.accept(partialResponse);
+        }
+        return true;
+    }
+
+    /**
+     * The model keeps streaming, but the rest of the response is ignored: it is neither passed on,
+     * nor added to the memory.
+     */
+    private void abort(Throwable error) {
+        aborted = true;
+        responseBuffer.clear();
+        unvalidatedResponse.setLength(0);
+        handleError(error);
+    }
+
     @Override
     public void onPartialThinking(PartialThinking partialThinking) {
         if (partialThinkingHandler != null) {
@@ -150,7 +247,17 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
     @Override
     public void onCompleteResponse(ChatResponse chatResponse) {
+        if (aborted) {
+            return;
+        }
+
         AiMessage aiMessage = chatResponse.aiMessage();
+        if (!aiMessage.hasToolExecutionRequests()
+                && unvalidatedResponse.length() > 0
+                && !validatePartialResponse(unvalidatedResponse.length())) {
+            return;
+        }
+
         addToMemory(aiMessage);
 
         if (aiMessage.hasToolExecutionRequests()) {
@@ -313,6 +420,14 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
     @Override
     public void onError(Throwable error) {
+        if (aborted) {
+            LOG.debug("Ignored error after the response was aborted", error);
+            return;
+        }
+        handleError(error);
+    }
+
+    private void handleError(Throwable error) {
         if (errorHandler != null) {
             try {
                 errorHandler.accept(error);
@@ -1,6 +1,5 @@
 package dev.langchain4j.service;
 
-import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
 import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
 import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
@@ -47,10 +46,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -149,6 +148,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                 new InvocationHandler() {
 
                     private final ExecutorService executor = Executors.newCachedThreadPool();
+                    private final Map<Method, AiServiceMethodPlan> plans = new ConcurrentHashMap<>();
 
                     @Override
                     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
@@ -175,18 +175,17 @@ class DefaultAiServices<T> extends AiServices<T> {
                             return handleChatMemoryAccess(method, args);
                         }
 
-                        validateParameters(method);
+                        AiServiceMethodPlan plan = plans.computeIfAbsent(method, this::plan);
 
-                        final Object memoryId = findMemoryId(method, args).orElse(ChatMemoryService.DEFAULT);
+                        final Object memoryId = plan.memoryId(args).orElse(ChatMemoryService.DEFAULT);
                         final ChatMemory chatMemory = context.hasChatMemory()
                                 ? context.chatMemoryService.getOrCreateChatMemory(memoryId)
                                 : null;
 
-                        Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, method, args);
-                        var userMessageTemplate = getUserMessageTemplate(method, args);
-                        var variables = InternalReflectionVariableResolver.findTemplateVariables(
-                                userMessageTemplate, method, args);
-                        UserMessage userMessage = prepareUserMessage(method, args, userMessageTemplate, variables);
+                        Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, plan, args);
+                        var userMessageTemplate = plan.userMessageTemplate(args);
+                        var variables = plan.templateVariables(userMessageTemplate, args);
+                        UserMessage userMessage = prepareUserMessage(plan, args, userMessageTemplate, variables);
                         AugmentationResult augmentationResult = null;
                         if (context.retrievalAugmentor != null) {
                             List<ChatMessage> chatMemoryMessages = chatMemory != null ? chatMemory.messages() : null;
@@ -207,21 +206,21 @@ class DefaultAiServices<T> extends AiServices<T> {
                         userMessage = invokeInputGuardrails(
                                 context.guardrailService(), method, userMessage, commonGuardrailParam);
 
-                        Type returnType = method.getGenericReturnType();
-                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+                        Type returnType = plan.returnType();
+                        boolean streaming = plan.streaming();
 
                         // TODO should it be called when returnType==String?
                         boolean supportsJsonSchema = supportsJsonSchema();
 
                         Optional<JsonSchema> jsonSchema = Optional.empty();
                         if (supportsJsonSchema && !streaming) {
-                            jsonSchema = serviceOutputParser.jsonSchema(returnType);
+                            jsonSchema = plan.jsonSchema();
                         }
                         if ((!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming) {
-                            userMessage = appendOutputFormatInstructions(returnType, userMessage);
+                            userMessage = appendOutputFormatInstructions(plan, userMessage);
                         }
 
-                        Optional<List<Content>> maybeContents = findContents(method, args);
+                        Optional<List<Content>> maybeContents = plan.contents(args);
                         if (maybeContents.isPresent()) {
                             List<Content> allContents = new ArrayList<>();
                             for (Content content : maybeContents.get()) {
@@ -244,7 +243,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                             messages.add(userMessage);
                         }
 
-                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(method, messages);
+                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(plan, messages);
 
                         ToolServiceContext toolServiceContext =
                                 context.toolService.createContext(memoryId, userMessage);
@@ -301,7 +300,7 @@ class DefaultAiServices<T> extends AiServices<T> {
 
                         verifyModerationIfNeeded(moderationFuture);
 
-                        boolean isReturnTypeResult = typeHasRawClass(returnType, Result.class);
+                        boolean isReturnTypeResult = plan.returnsResult();
 
                         ToolServiceResult toolServiceResult = context.toolService.executeInferenceAndToolsLoop(
                                 chatResponse,
@@ -351,6 +350,12 @@ class DefaultAiServices<T> extends AiServices<T> {
                         }
                     }
 
+                    private AiServiceMethodPlan plan(Method method) {
+                        Type returnType = method.getGenericReturnType();
+                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+                        return new AiServiceMethodPlan(method, streaming, serviceOutputParser);
+                    }
+
                     private boolean canAdaptTokenStreamTo(Type returnType) {
                         for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
                             if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
@@ -374,8 +379,8 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
                     }
 
-                    private UserMessage appendOutputFormatInstructions(Type returnType, UserMessage userMessage) {
-                        String outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+                    private UserMessage appendOutputFormatInstructions(AiServiceMethodPlan plan, UserMessage userMessage) {
+                        String outputFormatInstructions = plan.outputFormatInstructions();
                         String text = userMessage.singleText() + outputFormatInstructions;
                         if (isNotNullOrBlank(userMessage.name())) {
                             userMessage = UserMessage.from(userMessage.name(), text);
@@ -385,8 +390,9 @@ class DefaultAiServices<T> extends AiServices<T> {
                         return userMessage;
                     }
 
-                    private Future<Moderation> triggerModerationIfNeeded(Method method, List<ChatMessage> messages) {
-                        if (method.isAnnotationPresent(Moderate.class)) {
+                    private Future<Moderation> triggerModerationIfNeeded(
+                            AiServiceMethodPlan plan, List<ChatMessage> messages) {
+                        if (plan.moderated()) {
                             return executor.submit(() -> {
                                 List<ChatMessage> messagesToModerate = removeToolMessages(messages);
                                 return context.moderationModel
@@ -438,128 +444,32 @@ class DefaultAiServices<T> extends AiServices<T> {
         return (T) responseFromLLM;
     }
 
-    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, Method method, Object[] args) {
-        return findSystemMessageTemplate(memoryId, method).map(systemMessageTemplate -> PromptTemplate.from(
-                        systemMessageTemplate)
-                .apply(InternalReflectionVariableResolver.findTemplateVariables(systemMessageTemplate, method, args))
-                .toSystemMessage());
-    }
-
-    private Optional<String> findSystemMessageTemplate(Object memoryId, Method method) {
-        dev.langchain4j.service.SystemMessage annotation =
-                method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
-        if (annotation != null) {
-            return Optional.of(getTemplate(
-                    method, "System", annotation.fromResource(), annotation.value(), annotation.delimiter()));
+    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, AiServiceMethodPlan plan, Object[] args) {
+        if (plan.systemMessageTemplate() != null) {
+            String template = plan.systemMessageTemplate();
+            return Optional.of(plan.systemMessagePromptTemplate()
+                    .apply(plan.templateVariables(template, args))
+                    .toSystemMessage());
         }
-
-        return context.systemMessageProvider.apply(memoryId);
+        return context.systemMessageProvider.apply(memoryId).map(template -> PromptTemplate.from(template)
+                .apply(plan.templateVariables(template, args))
+                .toSystemMessage());
     }
 
     private static UserMessage prepareUserMessage(
-            Method method, Object[] args, String userMessageTemplate, Map<String, Object> variables) {
-        Prompt prompt = PromptTemplate.from(userMessageTemplate).apply(variables);
+            AiServiceMethodPlan plan, Object[] args, String userMessageTemplate, Map<String, Object> variables) {
+        PromptTemplate promptTemplate = plan.userMessagePromptTemplate() != null
+                ? plan.userMessagePromptTemplate()
+                : PromptTemplate.from(userMessageTemplate);
+        Prompt prompt = promptTemplate.apply(variables);
 
-        Optional<String> maybeUserName = findUserName(method.getParameters(), args);
+        Optional<String> maybeUserName = plan.userName(args);
         return maybeUserName
                 .map(userName -> UserMessage.from(userName, prompt.text()))
                 .orElseGet(prompt::toUserMessage);
     }
 
-    private static String getUserMessageTemplate(Method method, Object[] args) {
-
-        Optional<String> templateFromMethodAnnotation = findUserMessageTemplateFromMethodAnnotation(method);
-        Optional<String> templateFromParameterAnnotation =
-                findUserMessageTemplateFromAnnotatedParameter(method.getParameters(), args);
-
-        if (templateFromMethodAnnotation.isPresent() && templateFromParameterAnnotation.isPresent()) {
-            throw illegalConfiguration(
-                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
-                    method.getName());
-        }
-
-        if (templateFromMethodAnnotation.isPresent()) {
-            return templateFromMethodAnnotation.get();
-        }
-        if (templateFromParameterAnnotation.isPresent()) {
-            return templateFromParameterAnnotation.get();
-        }
-
-        Optional<String> templateFromTheOnlyArgument =
-                findUserMessageTemplateFromTheOnlyArgument(method.getParameters(), args);
-        if (templateFromTheOnlyArgument.isPresent()) {
-            return templateFromTheOnlyArgument.get();
-        }
-
-        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
-    }
-
-    private static Optional<String> findUserMessageTemplateFromMethodAnnotation(Method method) {
-        return Optional.ofNullable(method.getAnnotation(dev.langchain4j.service.UserMessage.class))
-                .map(a -> getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter()));
-    }
-
-    private static Optional<String> findUserMessageTemplateFromAnnotatedParameter(
-            Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)
-                    && !(args[i] instanceof Content) && !isListOfContents(args[i])) {
-                return Optional.of(InternalReflectionVariableResolver.asString(args[i]));
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserMessageTemplateFromTheOnlyArgument(Parameter[] parameters, Object[] args) {
-        if (parameters != null && parameters.length == 1 && parameters[0].getAnnotations().length == 0) {
-            return Optional.of(InternalReflectionVariableResolver.asString(args[0]));
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserName(Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(UserName.class)) {
-                return Optional.of(args[i].toString());
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<List<Content>> findContents(Method method, Object[] args) {
-        List<Content> contents = new ArrayList<>();
-
-        if (findUserMessageTemplateFromMethodAnnotation(method).isPresent()) {
-            contents.add(null); // placeholder
-        }
-
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
-                if (args[i] instanceof Content) {
-                    contents.add((Content) args[i]);
-                } else if (isListOfContents(args[i])) {
-                    contents.addAll((List<Content>) args[i]);
-                } else {
-                    contents.add(null); // placeholder
-                }
-            }
-        }
-
-        if (contents.stream().filter(Objects::isNull).count() > 1) {
-            throw illegalConfiguration(
-                    "Error: The method '%s' has multiple @UserMessage for text content. Please use only one.",
-                    method.getName());
-        }
-
-        return contents.isEmpty() ? Optional.empty() : Optional.of(contents);
-    }
-
-    private static boolean isListOfContents(Object o) {
-        return o instanceof List<?> list && list.stream().allMatch(Content.class::isInstance);
-    }
-
-    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
+    static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
         String messageTemplate;
         if (!resource.trim().isEmpty()) {
             messageTemplate = getResourceText(method.getDeclaringClass(), resource);
@@ -592,20 +502,4 @@ class DefaultAiServices<T> extends AiServices<T> {
             return s.hasNext() ? s.next() : "";
         }
     }
-
-    private static Optional<Object> findMemoryId(Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(MemoryId.class)) {
-                Object memoryId = args[i];
-                if (memoryId == null) {
-                    throw illegalArgument(
-                            "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
-                            parameters[i].getName(), method.getName());
-                }
-                return Optional.of(memoryId);
-            }
-        }
-        return Optional.empty();
-    }
 }
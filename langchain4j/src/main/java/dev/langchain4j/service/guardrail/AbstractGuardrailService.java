@@ -11,6 +11,7 @@ import dev.langchain4j.guardrail.OutputGuardrail;
 import dev.langchain4j.guardrail.OutputGuardrailExecutor;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
 import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.PartialOutputGuardrailRequest;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -68,6 +69,31 @@ public abstract class AbstractGuardrailService implements GuardrailService {
                 .orElseGet(OutputGuardrailResult::success);
     }
 
+    @Override
+    public <MethodKey> OutputGuardrailResult executePartialOutputGuardrails(
+            MethodKey method, PartialOutputGuardrailRequest params) {
+        return Optional.ofNullable(method)
+                .map(this.outputGuardrails::get)
+                .map(executor -> executor.executePartial(params))
+                .orElseGet(OutputGuardrailResult::success);
+    }
+
+    @Override
+    public <MethodKey> boolean hasStreamingOutputGuardrails(MethodKey method) {
+        return Optional.ofNullable(method)
+                .map(this.outputGuardrails::get)
+                .map(OutputGuardrailExecutor::hasStreamingGuardrails)
+                .orElse(false);
+    }
+
+    @Override
+    public <MethodKey> boolean hasOnlyStreamingOutputGuardrails(MethodKey method) {
+        return Optional.ofNullable(method)
+                .map(this.outputGuardrails::get)
+                .map(OutputGuardrailExecutor::hasOnlyStreamingGuardrails)
+                .orElse(false);
+    }
+
     @Override
     public <MethodKey> boolean hasInputGuardrails(MethodKey method) {
         return this.inputGuardrailMethods.computeIfAbsent(
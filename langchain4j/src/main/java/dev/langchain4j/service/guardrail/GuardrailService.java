@@ -7,6 +7,8 @@ import dev.langchain4j.guardrail.InputGuardrailResult;
 import dev.langchain4j.guardrail.OutputGuardrail;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
 import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.PartialOutputGuardrailRequest;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.service.guardrail.spi.GuardrailServiceBuilderFactory;
 import java.lang.reflect.Method;
@@ -80,6 +82,43 @@ public interface GuardrailService {
      */
     <MethodKey> boolean hasOutputGuardrails(MethodKey method);
 
+    /**
+     * Executes the {@link StreamingOutputGuardrail}s associated with a given method on a completed part
+     * of a streamed response.
+     *
+     * @param method The method whose streaming output guardrails are to be executed.
+     * @param params The part of the response to validate. Must not be null.
+     * @return The result of executing the streaming output guardrails.
+     * If no streaming guardrails are associated with the method, a successful result is returned by default.
+     * @param <MethodKey> The type of the method key, representing a unique identifier for methods.
+     */
+    default <MethodKey> OutputGuardrailResult executePartialOutputGuardrails(
+            MethodKey method, PartialOutputGuardrailRequest params) {
+        return OutputGuardrailResult.success();
+    }
+
+    /**
+     * Whether or not a method has any {@link StreamingOutputGuardrail}s associated with it
+     * @param method The method
+     * @return {@code true} If {@code method} has streaming output guardrails. {@code false} otherwise
+     * @param <MethodKey> The type of the method key, representing a unique identifier for methods.
+     */
+    default <MethodKey> boolean hasStreamingOutputGuardrails(MethodKey method) {
+        return false;
+    }
+
+    /**
+     * Whether or not all the output guardrails associated with a method are {@link StreamingOutputGuardrail}s,
+     * so that a streamed response can be passed on as soon as each of its parts is validated
+     * @param method The method
+     * @return {@code true} If {@code method} has output guardrails, and all of them are streaming output guardrails.
+     * {@code false} otherwise
+     * @param <MethodKey> The type of the method key, representing a unique identifier for methods.
+     */
+    default <MethodKey> boolean hasOnlyStreamingOutputGuardrails(MethodKey method) {
+        return false;
+    }
+
     /**
      * Executes the guardrails associated with a given method and parameters, returning the appropriate response.
      *
@@ -1,14 +1,16 @@
 package dev.langchain4j.service.tool;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
-import dev.langchain4j.agent.tool.ToolMemoryId;
 import dev.langchain4j.exception.ToolArgumentsException;
 import dev.langchain4j.exception.ToolExecutionException;
 import dev.langchain4j.internal.Json;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -22,40 +24,47 @@ import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.service.tool.ToolExecutionRequestUtil.argumentsAsMap;
 
+/**
+ * A {@link ToolExecutor} that executes a method of an object.
+ * <p>
+ * Everything that does not depend on the request is prepared once, when the executor is created:
+ * the parameters of the method and how each argument is coerced into the type of its parameter,
+ * and a {@link MethodHandle} through which the method is invoked.
+ * If no {@link MethodHandle} can be obtained for the method, it is invoked via reflection.
+ */
 public class DefaultToolExecutor implements ToolExecutor {
 
     private final Object object;
-    private final Method originalMethod;
     private final Method methodToInvoke;
     private final boolean wrapToolArgumentsExceptions;
     private final boolean propagateToolExecutionExceptions;
+    private final boolean bindArgumentsWhileParsing;
+
+    private final ToolParameterBinder parameterBinder;
+    private final MethodHandle methodHandle;
+    private final Class<?>[] parameterTypes;
+    private final Class<?> returnType;
 
     public DefaultToolExecutor(Builder builder) {
-        this.object = ensureNotNull(builder.object, "object");
-        this.originalMethod = ensureNotNull(builder.originalMethod, "originalMethod");
-        this.methodToInvoke = ensureNotNull(builder.methodToInvoke, "methodToInvoke");
-        this.wrapToolArgumentsExceptions = getOrDefault(builder.wrapToolArgumentsExceptions, false);
-        this.propagateToolExecutionExceptions = getOrDefault(builder.propagateToolExecutionExceptions, false);
+        this(
+                ensureNotNull(builder.object, "object"),
+                ensureNotNull(builder.originalMethod, "originalMethod"),
+                ensureNotNull(builder.methodToInvoke, "methodToInvoke"),
+                getOrDefault(builder.wrapToolArgumentsExceptions, false),
+                getOrDefault(builder.propagateToolExecutionExceptions, false),
+                getOrDefault(builder.bindArgumentsWhileParsing, false));
     }
 
     public DefaultToolExecutor(Object object, Method method) {
-        this.object = ensureNotNull(object, "object");
-        this.originalMethod = ensureNotNull(method, "method");
-        this.methodToInvoke = this.originalMethod;
-        this.wrapToolArgumentsExceptions = false;
-        this.propagateToolExecutionExceptions = false;
+        this(ensureNotNull(object, "object"), ensureNotNull(method, "method"), method, false, false, false);
     }
 
     public DefaultToolExecutor(Object object, ToolExecutionRequest toolExecutionRequest) {
-        this.object = ensureNotNull(object, "object");
-        ensureNotNull(toolExecutionRequest, "toolExecutionRequest");
-        this.originalMethod = findMethod(object, toolExecutionRequest);
-        this.methodToInvoke = this.originalMethod;
-        this.wrapToolArgumentsExceptions = false;
-        this.propagateToolExecutionExceptions = false;
+        this(object, findMethod(
+                ensureNotNull(object, "object"), ensureNotNull(toolExecutionRequest, "toolExecutionRequest")));
     }
 
-    private Method findMethod(Object object, ToolExecutionRequest toolExecutionRequest) {
+    private static Method findMethod(Object object, ToolExecutionRequest toolExecutionRequest) {
         String requestedMethodName = toolExecutionRequest.name();
 
         for (Method method : object.getClass().getDeclaredMethods()) {
@@ -79,31 +88,67 @@ public class DefaultToolExecutor implements ToolExecutor {
      * @param methodToInvoke the method that should actually be invoked
      */
     public DefaultToolExecutor(Object object, Method originalMethod, Method methodToInvoke) {
-        this.object = ensureNotNull(object, "object");
-        this.originalMethod = ensureNotNull(originalMethod, "originalMethod");
-        this.methodToInvoke = ensureNotNull(methodToInvoke, "methodToInvoke");
-        this.wrapToolArgumentsExceptions = false;
-        this.propagateToolExecutionExceptions = false;
+        this(
+                ensureNotNull(object, "object"),
+                ensureNotNull(originalMethod, "originalMethod"),
+                ensureNotNull(methodToInvoke, "methodToInvoke"),
+                false,
+                false,
+                false);
+    }
+
+    private DefaultToolExecutor(
+            Object object,
+            Method originalMethod,
+            Method methodToInvoke,
+            boolean wrapToolArgumentsExceptions,
+            boolean propagateToolExecutionExceptions,
+            boolean bindArgumentsWhileParsing) {
+        this.object = object;
+        this.methodToInvoke = methodToInvoke;
+        this.wrapToolArgumentsExceptions = wrapToolArgumentsExceptions;
+        this.propagateToolExecutionExceptions = propagateToolExecutionExceptions;
+        this.bindArgumentsWhileParsing = bindArgumentsWhileParsing;
+
+        this.parameterBinder = new ToolParameterBinder(originalMethod);
+        this.methodHandle = methodHandleFor(methodToInvoke);
+        this.parameterTypes = methodToInvoke.getParameterTypes();
+        this.returnType = methodToInvoke.getReturnType();
+    }
+
+    /**
+     * @return a handle of type {@code (Object, Object[])Object} that invokes the method on the given object
+     * with the given arguments, or {@code null} if the method is not accessible.
+     */
+    private static MethodHandle methodHandleFor(Method method) {
+        MethodHandle methodHandle;
+        try {
+            methodHandle = unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+        }
+        return methodHandle
+                .asType(methodHandle.type().generic())
+                .asSpreader(Object[].class, method.getParameterCount());
+    }
+
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        }
     }
 
     public String execute(ToolExecutionRequest toolExecutionRequest, Object memoryId) {
         Object[] arguments = prepareArguments(toolExecutionRequest, memoryId);
 
         try {
-            return execute(arguments);
-        } catch (IllegalAccessException e) {
-            try {
-                methodToInvoke.setAccessible(true);
-                return execute(arguments);
-            } catch (IllegalAccessException e2) {
-                throw new RuntimeException(e2);
-            } catch (InvocationTargetException e2) {
-                if (propagateToolExecutionExceptions) {
-                    throw new ToolExecutionException(e2.getCause());
-                } else {
-                    return e2.getCause().getMessage();
-                }
-            }
+            return toResult(invoke(arguments));
         } catch (InvocationTargetException e) {
             if (propagateToolExecutionExceptions) {
                 throw new ToolExecutionException(e.getCause());
@@ -115,8 +160,14 @@ public class DefaultToolExecutor implements ToolExecutor {
 
     private Object[] prepareArguments(ToolExecutionRequest toolExecutionRequest, Object memoryId) {
         try {
+            if (bindArgumentsWhileParsing) {
+                Object[] arguments = bindWhileParsing(toolExecutionRequest.arguments(), memoryId);
+                if (arguments != null) {
+                    return arguments;
+                }
+            }
             Map<String, Object> argumentsMap = argumentsAsMap(toolExecutionRequest.arguments());
-            return prepareArguments(originalMethod, argumentsMap, memoryId);
+            return parameterBinder.bind(argumentsMap, memoryId);
         } catch (Exception e) {
             if (wrapToolArgumentsExceptions) {
                 throw new ToolArgumentsException(unwrapRuntimeException(e));
@@ -126,132 +177,229 @@ public class DefaultToolExecutor implements ToolExecutor {
         }
     }
 
-    private String execute(Object[] arguments) throws IllegalAccessException, InvocationTargetException {
-        Object result = methodToInvoke.invoke(object, arguments);
-        Class<?> returnType = methodToInvoke.getReturnType();
+    /**
+     * @return the arguments, or {@code null} if the JSON cannot be parsed as is,
+     * in which case the lenient {@link ToolExecutionRequestUtil#argumentsAsMap(String)} is used.
+     */
+    private Object[] bindWhileParsing(String arguments, Object memoryId) {
+        try {
+            return parameterBinder.bind(arguments, memoryId);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Object invoke(Object[] arguments) throws InvocationTargetException {
+        if (methodHandle == null) {
+            try {
+                return methodToInvoke.invoke(object, arguments);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        // Method.invoke() rejects these arguments with an IllegalArgumentException,
+        // while the method handle would throw exceptions indistinguishable from the ones thrown by the tool itself
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == null) {
+                if (parameterTypes[i].isPrimitive()) {
+                    throw new IllegalArgumentException(String.format(
+                            "Argument \"%s\" is missing, but is required for %s",
+                            parameterBinder.parameterName(i), parameterTypes[i].getName()));
+                }
+            } else if (!isAssignable(arguments[i], parameterTypes[i])) {
+                throw new IllegalArgumentException(String.format(
+                        "argument type mismatch: argument \"%s\" of type %s cannot be passed as %s",
+                        parameterBinder.parameterName(i), arguments[i].getClass().getName(),
+                        parameterTypes[i].getName()));
+            }
+        }
+
+        try {
+            return (Object) methodHandle.invokeExact(object, arguments);
+        } catch (Throwable e) {
+            // the arguments were checked above, so this was thrown by the tool method
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * @return whether the argument can be passed to a parameter of the given type by {@link Method#invoke},
+     * i.e., it is an instance of the type, or it can be unboxed into it, possibly with a widening conversion.
+     */
+    private static boolean isAssignable(Object argument, Class<?> parameterType) {
+        if (!parameterType.isPrimitive()) {
+            return parameterType.isInstance(argument);
+        }
+        Class<?> argumentType = argument.getClass();
+        if (argumentType == Boolean.class) {
+            return parameterType == boolean.class;
+        }
+        if (parameterType == boolean.class) {
+            return false;
+        }
+        int argumentRank = wideningRank(argumentType);
+        int parameterRank = wideningRank(parameterType);
+        if (argumentRank < 0) {
+            return false;
+        }
+        if (argumentType == Character.class) {
+            return parameterType == char.class || parameterRank >= wideningRank(int.class);
+        }
+        return parameterType != char.class && parameterRank >= argumentRank;
+    }
+
+    /**
+     * @return the position of the type in the chain of widening primitive conversions
+     * {@code byte < short < int < long < float < double}, where {@code char} is ranked with {@code short},
+     * or {@code -1} if the type is not a numeric primitive (or wrapper) type.
+     */
+    private static int wideningRank(Class<?> type) {
+        if (type == byte.class || type == Byte.class) {
+            return 0;
+        } else if (type == short.class || type == Short.class || type == char.class || type == Character.class) {
+            return 1;
+        } else if (type == int.class || type == Integer.class) {
+            return 2;
+        } else if (type == long.class || type == Long.class) {
+            return 3;
+        } else if (type == float.class || type == Float.class) {
+            return 4;
+        } else if (type == double.class || type == Double.class) {
+            return 5;
+        }
+        return -1;
+    }
+
+    private String toResult(Object result) {
         if (returnType == void.class) {
             return "Success";
         } else if (returnType == String.class) {
             return (String) result;
+        } else if (result == null || result instanceof Boolean
+                || result instanceof Integer || result instanceof Long
+                || result instanceof Short || result instanceof Byte) {
+            return String.valueOf(result);
         } else {
             return Json.toJson(result);
         }
     }
 
     static Object[] prepareArguments(Method method, Map<String, Object> argumentsMap, Object memoryId) {
-        Parameter[] parameters = method.getParameters();
-        Object[] arguments = new Object[parameters.length];
-
-        for (int i = 0; i < parameters.length; i++) {
-
-            Parameter parameter = parameters[i];
-
-            if (parameter.isAnnotationPresent(ToolMemoryId.class)) {
-                arguments[i] = memoryId;
-                continue;
-            }
-
-            String parameterName = parameter.getName();
-            Object argument = argumentsMap.get(parameterName);
-            if (argument != null) {
-                Class<?> parameterClass = parameter.getType();
-                Type parameterType = parameter.getParameterizedType();
+        return new ToolParameterBinder(method).bind(argumentsMap, memoryId);
+    }
 
-                arguments[i] = coerceArgument(argument, parameterName, parameterClass, parameterType);
-            }
-        }
+    /**
+     * Coerces a non-null argument into the type of a tool method parameter.
+     */
+    @FunctionalInterface
+    interface ArgumentCoercer {
 
-        return arguments;
+        Object coerce(Object argument);
     }
 
     static Object coerceArgument(Object argument, String parameterName, Class<?> parameterClass, Type parameterType) {
+        return coercerFor(parameterName, parameterClass, parameterType).coerce(argument);
+    }
+
+    static ArgumentCoercer coercerFor(String parameterName, Class<?> parameterClass, Type parameterType) {
         if (parameterClass == String.class) {
-            return argument.toString();
+            return Object::toString;
         }
 
         if (parameterClass.isEnum()) {
-            try {
-                @SuppressWarnings({"unchecked", "rawtypes"})
-                Class<Enum> enumClass = (Class<Enum>) parameterClass;
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Class<Enum> enumClass = (Class<Enum>) parameterClass;
+            return argument -> {
                 try {
-                    return Enum.valueOf(
-                            enumClass, Objects.requireNonNull(argument).toString());
-                } catch (IllegalArgumentException e) {
-                    // try to convert to uppercase as a last resort
-                    return Enum.valueOf(
-                            enumClass,
-                            Objects.requireNonNull(argument).toString().toUpperCase());
+                    try {
+                        return Enum.valueOf(
+                                enumClass, Objects.requireNonNull(argument).toString());
+                    } catch (IllegalArgumentException e) {
+                        // try to convert to uppercase as a last resort
+                        return Enum.valueOf(
+                                enumClass,
+                                Objects.requireNonNull(argument).toString().toUpperCase());
+                    }
+                } catch (Exception | Error e) {
+                    throw new IllegalArgumentException(
+                            String.format(
+                                    "Argument \"%s\" is not a valid enum value for %s: <%s>",
+                                    parameterName, parameterClass.getName(), argument),
+                            e);
                 }
-            } catch (Exception | Error e) {
-                throw new IllegalArgumentException(
-                        String.format(
-                                "Argument \"%s\" is not a valid enum value for %s: <%s>",
-                                parameterName, parameterClass.getName(), argument),
-                        e);
-            }
+            };
         }
 
         if (parameterClass == Boolean.class || parameterClass == boolean.class) {
-            if (argument instanceof Boolean) {
-                return argument;
-            }
-            throw new IllegalArgumentException(String.format(
-                    "Argument \"%s\" is not convertable to %s, got %s: <%s>",
-                    parameterName, parameterClass.getName(), argument.getClass().getName(), argument));
+            return argument -> {
+                if (argument instanceof Boolean) {
+                    return argument;
+                }
+                throw new IllegalArgumentException(String.format(
+                        "Argument \"%s\" is not convertable to %s, got %s: <%s>",
+                        parameterName, parameterClass.getName(), argument.getClass().getName(), argument));
+            };
         }
 
         if (parameterClass == Double.class || parameterClass == double.class) {
-            return getDoubleValue(argument, parameterName, parameterClass);
+            return argument -> getDoubleValue(argument, parameterName, parameterClass);
         }
 
         if (parameterClass == Float.class || parameterClass == float.class) {
-            double doubleValue = getDoubleValue(argument, parameterName, parameterClass);
-            checkBounds(doubleValue, parameterName, parameterClass, -Float.MIN_VALUE, Float.MAX_VALUE);
-            return (float) doubleValue;
+            return argument -> {
+                double doubleValue = getDoubleValue(argument, parameterName, parameterClass);
+                checkBounds(doubleValue, parameterName, parameterClass, -Float.MIN_VALUE, Float.MAX_VALUE);
+                return (float) doubleValue;
+            };
         }
 
         if (parameterClass == BigDecimal.class) {
-            return BigDecimal.valueOf(getDoubleValue(argument, parameterName, parameterClass));
+            return argument -> BigDecimal.valueOf(getDoubleValue(argument, parameterName, parameterClass));
         }
 
         if (parameterClass == Integer.class || parameterClass == int.class) {
-            return (int)
+            return argument -> (int)
                     getBoundedLongValue(argument, parameterName, parameterClass, Integer.MIN_VALUE, Integer.MAX_VALUE);
         }
 
         if (parameterClass == Long.class || parameterClass == long.class) {
-            return getBoundedLongValue(argument, parameterName, parameterClass, Long.MIN_VALUE, Long.MAX_VALUE);
+            return argument ->
+                    getBoundedLongValue(argument, parameterName, parameterClass, Long.MIN_VALUE, Long.MAX_VALUE);
         }
 
         if (parameterClass == Short.class || parameterClass == short.class) {
-            return (short)
+            return argument -> (short)
                     getBoundedLongValue(argument, parameterName, parameterClass, Short.MIN_VALUE, Short.MAX_VALUE);
         }
 
         if (parameterClass == Byte.class || parameterClass == byte.class) {
-            return (byte) getBoundedLongValue(argument, parameterName, parameterClass, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            return argument -> (byte)
+                    getBoundedLongValue(argument, parameterName, parameterClass, Byte.MIN_VALUE, Byte.MAX_VALUE);
         }
 
         if (parameterClass == BigInteger.class) {
-            return BigDecimal.valueOf(getNonFractionalDoubleValue(argument, parameterName, parameterClass))
+            return argument -> BigDecimal.valueOf(getNonFractionalDoubleValue(argument, parameterName, parameterClass))
                     .toBigInteger();
         }
 
         if (Collection.class.isAssignableFrom(parameterClass) || Map.class.isAssignableFrom(parameterClass)) {
             // Conversion to JSON and back is required when parameterType is a POJO
-            return Json.fromJson(Json.toJson(argument), parameterType);
+            return argument -> Json.fromJson(Json.toJson(argument), parameterType);
         }
 
         if (parameterClass == UUID.class) {
-            return UUID.fromString(argument.toString());
+            return argument -> UUID.fromString(argument.toString());
         }
 
-        if (argument instanceof String) {
-            return Json.fromJson(argument.toString(), parameterClass);
-        } else {
-            // Conversion to JSON and back is required when parameterClass is a POJO
-            return Json.fromJson(Json.toJson(argument), parameterClass);
-        }
+        return argument -> {
+            if (argument instanceof String) {
+                return Json.fromJson(argument.toString(), parameterClass);
+            } else {
+                // Conversion to JSON and back is required when parameterClass is a POJO
+                return Json.fromJson(Json.toJson(argument), parameterClass);
+            }
+        };
     }
 
     private static double getDoubleValue(Object argument, String parameterName, Class<?> parameterType) {
@@ -311,6 +459,7 @@ public class DefaultToolExecutor implements ToolExecutor {
         private Method methodToInvoke;
         private Boolean wrapToolArgumentsExceptions;
         private Boolean propagateToolExecutionExceptions;
+        private Boolean bindArgumentsWhileParsing;
 
         public Builder object(Object object) {
             this.object = object;
@@ -350,6 +499,19 @@ public class DefaultToolExecutor implements ToolExecutor {
             return this;
         }
 
+        /**
+         * If set to {@code true}, the arguments of a {@link ToolExecutionRequest} are bound to the parameters
+         * of the method while its JSON is parsed, instead of parsing the whole JSON into a {@link Map} first.
+         * Arguments that do not match any parameter are skipped without being parsed.
+         * When the JSON is malformed, the arguments are parsed the usual (lenient) way.
+         * <p>
+         * The default value is {@code false}.
+         */
+        public Builder bindArgumentsWhileParsing(Boolean bindArgumentsWhileParsing) {
+            this.bindArgumentsWhileParsing = bindArgumentsWhileParsing;
+            return this;
+        }
+
         public DefaultToolExecutor build() {
             return new DefaultToolExecutor(this);
         }
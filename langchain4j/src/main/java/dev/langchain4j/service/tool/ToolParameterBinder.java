@@ -0,0 +1,132 @@
+package dev.langchain4j.service.tool;
+
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.Internal;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolMemoryId;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binds the arguments of a {@link ToolExecutionRequest} to the parameters of a tool method.
+ * <p>
+ * The parameters of the method are inspected once, when the binder is created:
+ * their names, which of them receive the memory ID (annotated with {@link ToolMemoryId}),
+ * and how each argument is coerced into the type of its parameter.
+ */
+@Internal
+final class ToolParameterBinder {
+
+    /**
+     * Only used to read nested objects and arrays as {@link Map}s and {@link java.util.List}s,
+     * the same way {@link ToolExecutionRequestUtil#argumentsAsMap(String)} does.
+     */
+    private static final JsonFactory JSON_FACTORY = new ObjectMapper().getFactory();
+
+    private final String[] parameterNames;
+    private final boolean[] memoryIdParameters;
+    private final DefaultToolExecutor.ArgumentCoercer[] coercers;
+    private final Map<String, Integer> parameterIndexes;
+
+    ToolParameterBinder(Method method) {
+        Parameter[] parameters = method.getParameters();
+        this.parameterNames = new String[parameters.length];
+        this.memoryIdParameters = new boolean[parameters.length];
+        this.coercers = new DefaultToolExecutor.ArgumentCoercer[parameters.length];
+        this.parameterIndexes = new HashMap<>();
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            parameterNames[i] = parameter.getName();
+            if (parameter.isAnnotationPresent(ToolMemoryId.class)) {
+                memoryIdParameters[i] = true;
+                continue;
+            }
+            coercers[i] = DefaultToolExecutor.coercerFor(
+                    parameter.getName(), parameter.getType(), parameter.getParameterizedType());
+            parameterIndexes.putIfAbsent(parameter.getName(), i);
+        }
+    }
+
+    int parameterCount() {
+        return parameterNames.length;
+    }
+
+    String parameterName(int index) {
+        return parameterNames[index];
+    }
+
+    Object[] bind(Map<String, Object> argumentsMap, Object memoryId) {
+        Object[] arguments = new Object[parameterNames.length];
+        for (int i = 0; i < arguments.length; i++) {
+            if (memoryIdParameters[i]) {
+                arguments[i] = memoryId;
+                continue;
+            }
+            Object argument = argumentsMap.get(parameterNames[i]);
+            if (argument != null) {
+                arguments[i] = coercers[i].coerce(argument);
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * Binds the arguments while parsing the JSON object, without building a {@link Map} of all arguments first:
+     * scalar values are read directly from the parser, and values of unknown arguments are skipped.
+     * The values are coerced exactly like the values of the {@link Map} passed to {@link #bind(Map, Object)}.
+     *
+     * @return the arguments, or {@code null} if the JSON is not a plain JSON object
+     * (in which case {@link ToolExecutionRequestUtil#argumentsAsMap(String)} should be used, as it can repair it).
+     * @throws IOException if the JSON is malformed.
+     */
+    Object[] bind(String argumentsJson, Object memoryId) throws IOException {
+        if (isNullOrBlank(argumentsJson)) {
+            return bind(Map.of(), memoryId);
+        }
+
+        Object[] values = new Object[parameterNames.length];
+        try (JsonParser parser = JSON_FACTORY.createParser(argumentsJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Integer index = parameterIndexes.get(parser.currentName());
+                JsonToken token = parser.nextToken();
+                if (index == null) {
+                    parser.skipChildren();
+                } else {
+                    values[index] = readValue(parser, token);
+                }
+            }
+        }
+
+        Object[] arguments = new Object[values.length];
+        for (int i = 0; i < arguments.length; i++) {
+            if (memoryIdParameters[i]) {
+                arguments[i] = memoryId;
+            } else if (values[i] != null) {
+                arguments[i] = coercers[i].coerce(values[i]);
+            }
+        }
+        return arguments;
+    }
+
+    private static Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> parser.readValueAs(Object.class);
+        };
+    }
+}
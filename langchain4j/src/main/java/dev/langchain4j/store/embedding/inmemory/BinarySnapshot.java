@@ -0,0 +1,413 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary snapshot of an {@link InMemoryEmbeddingStore}. All numbers are little-endian.
+ * <pre>
+ * header   magic (int), version (int), dimension (int), count (int)
+ * norms    count doubles
+ * vectors  count * dimension floats, one row per entry
+ * records  count records: id (string), embedded object (see below)
+ * </pre>
+ * Strings are written as their UTF-8 length (int) followed by the UTF-8 bytes.
+ * An embedded object is either {@code 0} (byte) for {@code null},
+ * or {@code 1} (byte) for a {@link TextSegment}, followed by its text (string),
+ * the number of metadata entries (int) and, for each entry, its key (string), value type (byte) and value.
+ * <p>
+ * The fixed-size blocks come first, so that their offsets are known upfront:
+ * entries are written in a single pass, and the vectors can be memory-mapped when loading.
+ */
+class BinarySnapshot {
+
+    private static final int MAGIC = 0x534A344C; // "L4JS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private static final byte NULL = 0;
+    private static final byte TEXT_SEGMENT = 1;
+
+    private static final byte STRING = 0;
+    private static final byte UUID_VALUE = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DOUBLE = 5;
+
+    final int dimension;
+    final int count;
+    final double[] norms;
+    final FloatMatrix vectors;
+    final String[] ids;
+    final TextSegment[] embedded;
+
+    private BinarySnapshot(int dimension,
+                           int count,
+                           double[] norms,
+                           FloatMatrix vectors,
+                           String[] ids,
+                           TextSegment[] embedded) {
+        this.dimension = dimension;
+        this.count = count;
+        this.norms = norms;
+        this.vectors = vectors;
+        this.ids = ids;
+        this.embedded = embedded;
+    }
+
+    static BinarySnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.size() < HEADER_BYTES) {
+                throw illegalArgument("'%s' is not an InMemoryEmbeddingStore snapshot", path);
+            }
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw illegalArgument("'%s' is not an InMemoryEmbeddingStore snapshot", path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw illegalArgument("Unsupported snapshot version: %s", version);
+            }
+            int dimension = header.getInt();
+            int count = header.getInt();
+            if (dimension < 0 || count < 0 || count > Integer.MAX_VALUE / Double.BYTES) {
+                throw new IOException(String.format(
+                        "Snapshot '%s' is corrupt: invalid dimension (%s) or number of entries (%s)",
+                        path, dimension, count));
+            }
+
+            // the fixed-size blocks must fit in the file before they are allocated or mapped
+            long size = channel.size();
+            long vectorsPosition = HEADER_BYTES + (long) count * Double.BYTES;
+            long vectorBytes = (long) dimension * Float.BYTES;
+            if (vectorsPosition > size || (count > 0 && vectorBytes > (size - vectorsPosition) / count)) {
+                throw new IOException(String.format(
+                        "Snapshot '%s' is truncated: %s entries of dimension %s do not fit in %s bytes",
+                        path, count, dimension, size));
+            }
+            long recordsPosition = vectorsPosition + count * vectorBytes;
+
+            ByteBuffer normsBuffer = ByteBuffer.allocate(count * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, normsBuffer, HEADER_BYTES);
+            normsBuffer.flip();
+            double[] norms = new double[count];
+            normsBuffer.asDoubleBuffer().get(norms);
+
+            FloatMatrix vectors = count == 0 ? null : FloatMatrix.map(channel, vectorsPosition, dimension, count);
+
+            Input input = new Input(channel, recordsPosition);
+            String[] ids = new String[count];
+            TextSegment[] embedded = new TextSegment[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = input.readString();
+                embedded[i] = input.readEmbedded();
+            }
+
+            return new BinarySnapshot(dimension, count, norms, vectors, ids, embedded);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Snapshot is truncated");
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of a known number of entries in a single pass.
+     * Each block has its own buffer, which is flushed to its position in the file when full.
+     * <p>
+     * The snapshot is written to a temporary file in the same directory, which replaces the target file
+     * only once it is {@link #commit() committed}. The target file is never truncated or written in place:
+     * it may be the snapshot that the store being written was loaded from, and whose vectors are memory-mapped.
+     * If the writer is closed without being committed, the temporary file is deleted.
+     */
+    static class Writer implements Closeable {
+
+        private final Path path;
+        private final Path temporaryPath;
+        private final FileChannel channel;
+        private final int dimension;
+        private final Output norms;
+        private final Output vectors;
+        private final Output records;
+        private boolean committed;
+
+        Writer(Path path, int dimension, int count) throws IOException {
+            this.path = path.toAbsolutePath();
+            this.temporaryPath = this.path.resolveSibling(this.path.getFileName() + "." + UUID.randomUUID() + ".tmp");
+            this.channel = FileChannel.open(temporaryPath, CREATE_NEW, WRITE);
+            this.dimension = dimension;
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(dimension).putInt(count).flip();
+            try {
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+
+            long vectorsPosition = HEADER_BYTES + (long) count * Double.BYTES;
+            this.norms = new Output(channel, HEADER_BYTES);
+            this.vectors = new Output(channel, vectorsPosition);
+            this.records = new Output(channel, vectorsPosition + (long) count * dimension * Float.BYTES);
+        }
+
+        void write(String id, float[] vector, int offset, double norm, Object embedded) throws IOException {
+            norms.ensureRemaining(Double.BYTES);
+            norms.buffer.putDouble(norm);
+
+            vectors.writeFloats(vector, offset, dimension);
+
+            records.writeString(id);
+            if (embedded == null) {
+                records.writeByte(NULL);
+            } else if (embedded instanceof TextSegment) {
+                TextSegment segment = (TextSegment) embedded;
+                records.writeByte(TEXT_SEGMENT);
+                records.writeString(segment.text());
+                Map<String, Object> metadata = segment.metadata().toMap();
+                records.ensureRemaining(Integer.BYTES);
+                records.buffer.putInt(metadata.size());
+                for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+                    records.writeString(entry.getKey());
+                    records.writeValue(entry.getValue());
+                }
+            } else {
+                throw illegalArgument("Snapshots only support embedded objects of type %s, but found: %s",
+                        TextSegment.class.getName(), embedded.getClass().getName());
+            }
+        }
+
+        /**
+         * Flushes the snapshot and atomically replaces the target file with it.
+         * A store still reading the memory-mapped vectors of the replaced file keeps reading them,
+         * as the replaced file is only unlinked (on file systems that do not allow replacing a memory-mapped file,
+         * e.g., on Windows, this fails and the target file is left unchanged).
+         */
+        void commit() throws IOException {
+            norms.flush();
+            vectors.flush();
+            records.flush();
+            channel.close();
+            try {
+                Files.move(temporaryPath, path, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPath, path, REPLACE_EXISTING);
+            }
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (committed) {
+                return;
+            }
+            try {
+                channel.close();
+            } finally {
+                Files.deleteIfExists(temporaryPath);
+            }
+        }
+    }
+
+    private static class Output {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        Output(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void writeByte(byte value) throws IOException {
+            ensureRemaining(1);
+            buffer.put(value);
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(bytes.length);
+            if (bytes.length <= buffer.remaining()) {
+                buffer.put(bytes);
+            } else {
+                flush();
+                write(ByteBuffer.wrap(bytes));
+            }
+        }
+
+        void writeFloats(float[] values, int offset, int length) throws IOException {
+            while (length > 0) {
+                ensureRemaining(Float.BYTES);
+                int floats = Math.min(length, buffer.remaining() / Float.BYTES);
+                buffer.asFloatBuffer().put(values, offset, floats);
+                buffer.position(buffer.position() + floats * Float.BYTES);
+                offset += floats;
+                length -= floats;
+            }
+        }
+
+        void writeValue(Object value) throws IOException {
+            ensureRemaining(1 + Long.BYTES);
+            if (value instanceof String) {
+                buffer.put(STRING);
+                writeString((String) value);
+            } else if (value instanceof UUID) {
+                buffer.put(UUID_VALUE);
+                buffer.putLong(((UUID) value).getMostSignificantBits());
+                ensureRemaining(Long.BYTES);
+                buffer.putLong(((UUID) value).getLeastSignificantBits());
+            } else if (value instanceof Integer) {
+                buffer.put(INTEGER).putInt((Integer) value);
+            } else if (value instanceof Long) {
+                buffer.put(LONG).putLong((Long) value);
+            } else if (value instanceof Float) {
+                buffer.put(FLOAT).putFloat((Float) value);
+            } else if (value instanceof Double) {
+                buffer.put(DOUBLE).putDouble((Double) value);
+            } else {
+                throw illegalArgument("Unsupported metadata value type: %s", value.getClass().getName());
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            write(buffer);
+            buffer.clear();
+        }
+
+        private void write(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                position += channel.write(source, position);
+            }
+        }
+    }
+
+    /**
+     * Sequential, buffered reader of the records block.
+     */
+    private static class Input {
+
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        Input(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+            buffer.flip();
+        }
+
+        String readString() throws IOException {
+            ensureAvailable(Integer.BYTES);
+            int length = buffer.getInt();
+            ensureAvailable(length);
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        TextSegment readEmbedded() throws IOException {
+            ensureAvailable(1);
+            byte type = buffer.get();
+            if (type == NULL) {
+                return null;
+            }
+            if (type != TEXT_SEGMENT) {
+                throw illegalArgument("Unsupported embedded object type: %s", type);
+            }
+            String text = readString();
+            ensureAvailable(Integer.BYTES);
+            int size = buffer.getInt();
+            Map<String, Object> metadata = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                String key = readString();
+                metadata.put(key, readValue());
+            }
+            return TextSegment.from(text, Metadata.from(metadata));
+        }
+
+        private Object readValue() throws IOException {
+            ensureAvailable(1);
+            byte type = buffer.get();
+            switch (type) {
+                case STRING:
+                    return readString();
+                case UUID_VALUE:
+                    ensureAvailable(2 * Long.BYTES);
+                    return new UUID(buffer.getLong(), buffer.getLong());
+                case INTEGER:
+                    ensureAvailable(Integer.BYTES);
+                    return buffer.getInt();
+                case LONG:
+                    ensureAvailable(Long.BYTES);
+                    return buffer.getLong();
+                case FLOAT:
+                    ensureAvailable(Float.BYTES);
+                    return buffer.getFloat();
+                case DOUBLE:
+                    ensureAvailable(Double.BYTES);
+                    return buffer.getDouble();
+                default:
+                    throw illegalArgument("Unsupported metadata value type: %s", type);
+            }
+        }
+
+        private void ensureAvailable(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            if (bytes > buffer.capacity()) {
+                buffer = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN).put(buffer);
+            } else {
+                buffer.compact();
+            }
+            while (buffer.position() < bytes) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Snapshot is truncated");
+                }
+                position += read;
+            }
+            buffer.flip();
+        }
+    }
+}
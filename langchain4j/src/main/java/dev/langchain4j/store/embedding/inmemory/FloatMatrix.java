@@ -0,0 +1,183 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Row-major matrix of floats, split into fixed-size slabs so that it can grow without copying.
+ * A row never spans two slabs.
+ */
+abstract class FloatMatrix {
+
+    private static final int FLOATS_PER_SLAB = 1 << 20; // 4 MiB per slab
+
+    final int dimension;
+    final int rowsPerSlab;
+
+    private FloatMatrix(int dimension) {
+        this.dimension = dimension;
+        this.rowsPerSlab = Math.max(1, FLOATS_PER_SLAB / dimension);
+    }
+
+    static FloatMatrix create(int dimension, boolean offHeap) {
+        return offHeap ? new OffHeap(dimension) : new Heap(dimension);
+    }
+
+    /**
+     * Creates an off-heap matrix backed by the given region of a file, which holds {@code rows} rows
+     * of little-endian floats. Full slabs are memory-mapped read-only, so the rows are loaded lazily by the OS.
+     * A mapped slab is copied to memory before it is first written to, so the file is never modified.
+     * The last, partially filled slab is copied right away.
+     */
+    static FloatMatrix map(FileChannel channel, long position, int dimension, int rows) throws IOException {
+        OffHeap matrix = new OffHeap(dimension);
+        int rowsPerSlab = matrix.rowsPerSlab;
+        int slabCount = (rows + rowsPerSlab - 1) / rowsPerSlab;
+        FloatBuffer[] slabs = new FloatBuffer[slabCount];
+        long slabBytes = (long) rowsPerSlab * dimension * Float.BYTES;
+        for (int i = 0; i < slabCount; i++) {
+            long slabPosition = position + i * slabBytes;
+            if ((long) (i + 1) * rowsPerSlab <= rows) {
+                slabs[i] = channel.map(FileChannel.MapMode.READ_ONLY, slabPosition, slabBytes)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asFloatBuffer();
+            } else {
+                ByteBuffer slab = ByteBuffer.allocateDirect((int) slabBytes).order(ByteOrder.LITTLE_ENDIAN);
+                int remainingBytes = (rows - i * rowsPerSlab) * dimension * Float.BYTES;
+                slab.limit(remainingBytes);
+                while (slab.hasRemaining()) {
+                    if (channel.read(slab, slabPosition + slab.position()) < 0) {
+                        throw new IOException("Unexpected end of file");
+                    }
+                }
+                slab.clear();
+                slabs[i] = slab.asFloatBuffer();
+            }
+        }
+        matrix.slabs = slabs;
+        return matrix;
+    }
+
+    /**
+     * Makes sure rows {@code [0, rows)} can be written.
+     */
+    abstract void ensureCapacity(int rows);
+
+    abstract void write(int row, float[] vector);
+
+    abstract float[] read(int row);
+
+    /**
+     * Returns an array holding the given row, starting at {@link #rowOffset(int)}.
+     * This is either the slab itself or, when the slab is not backed by an array, {@code scratch}
+     * (of length {@link #dimension}) filled with a copy of the row.
+     */
+    abstract float[] rowData(int row, float[] scratch);
+
+    /**
+     * Returns the offset of the given row in the array returned by {@link #rowData(int, float[])}.
+     */
+    abstract int rowOffset(int row);
+
+    private static class Heap extends FloatMatrix {
+
+        private float[][] slabs = new float[0][];
+
+        Heap(int dimension) {
+            super(dimension);
+        }
+
+        @Override
+        void ensureCapacity(int rows) {
+            int requiredSlabs = (rows + rowsPerSlab - 1) / rowsPerSlab;
+            if (requiredSlabs > slabs.length) {
+                int oldLength = slabs.length;
+                slabs = Arrays.copyOf(slabs, requiredSlabs);
+                for (int i = oldLength; i < requiredSlabs; i++) {
+                    slabs[i] = new float[rowsPerSlab * dimension];
+                }
+            }
+        }
+
+        @Override
+        void write(int row, float[] vector) {
+            System.arraycopy(vector, 0, slabs[row / rowsPerSlab], (row % rowsPerSlab) * dimension, dimension);
+        }
+
+        @Override
+        float[] read(int row) {
+            float[] vector = new float[dimension];
+            System.arraycopy(slabs[row / rowsPerSlab], (row % rowsPerSlab) * dimension, vector, 0, dimension);
+            return vector;
+        }
+
+        @Override
+        float[] rowData(int row, float[] scratch) {
+            return slabs[row / rowsPerSlab];
+        }
+
+        @Override
+        int rowOffset(int row) {
+            return (row % rowsPerSlab) * dimension;
+        }
+    }
+
+    private static class OffHeap extends FloatMatrix {
+
+        private FloatBuffer[] slabs = new FloatBuffer[0];
+
+        OffHeap(int dimension) {
+            super(dimension);
+        }
+
+        @Override
+        void ensureCapacity(int rows) {
+            int requiredSlabs = (rows + rowsPerSlab - 1) / rowsPerSlab;
+            if (requiredSlabs > slabs.length) {
+                int oldLength = slabs.length;
+                slabs = Arrays.copyOf(slabs, requiredSlabs);
+                for (int i = oldLength; i < requiredSlabs; i++) {
+                    slabs[i] = allocateSlab();
+                }
+            }
+        }
+
+        private FloatBuffer allocateSlab() {
+            return ByteBuffer.allocateDirect(rowsPerSlab * dimension * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+        }
+
+        @Override
+        void write(int row, float[] vector) {
+            int slab = row / rowsPerSlab;
+            if (slabs[slab].isReadOnly()) {
+                slabs[slab] = allocateSlab().put(slabs[slab].duplicate().clear());
+            }
+            slabs[slab].put((row % rowsPerSlab) * dimension, vector);
+        }
+
+        @Override
+        float[] read(int row) {
+            float[] vector = new float[dimension];
+            slabs[row / rowsPerSlab].get((row % rowsPerSlab) * dimension, vector);
+            return vector;
+        }
+
+        @Override
+        float[] rowData(int row, float[] scratch) {
+            // bulk copy is a single memcpy, after which the row can be processed by the (vectorized) kernel
+            slabs[row / rowsPerSlab].get((row % rowsPerSlab) * dimension, scratch);
+            return scratch;
+        }
+
+        @Override
+        int rowOffset(int row) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityMetric;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Entries of an {@link InMemoryEmbeddingStore} stored column-wise:
+ * vectors are packed into a {@link FloatMatrix}, while ids and embedded objects are kept in parallel arrays.
+ * <p>
+ * A row is identified by its index. Rows of removed entries are marked as free (their id is {@code null})
+ * and are reused by subsequent additions, so the index of a live row never changes.
+ * <p>
+ * When quantization is enabled, a compressed copy of the vectors ({@link QuantizedVectors}) is scanned
+ * to select {@code maxResults * oversampling} candidates, which are then re-ranked using the exact vectors.
+ * <p>
+ * When a {@link MetadataIndex} is configured, filtered searches only visit the rows it returns as candidates.
+ */
+class FloatMatrixEntries<Embedded> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final boolean offHeap;
+    private final SimilarityKernel kernel;
+    private final SimilarityMetric metric;
+    private final PartitionedSearch partitionedSearch;
+    private final Quantization quantization;
+    private final int oversampling;
+    private final MetadataIndex metadataIndex;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FloatMatrix vectors;
+    private QuantizedVectors quantizedVectors;
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private Object[] embedded = new Object[INITIAL_CAPACITY];
+    private double[] norms = new double[INITIAL_CAPACITY];
+    private int[] freeRows = new int[INITIAL_CAPACITY];
+    private int freeRowCount;
+    private int rowCount;
+
+    FloatMatrixEntries(boolean offHeap,
+                       SimilarityKernel kernel,
+                       SimilarityMetric metric,
+                       PartitionedSearch partitionedSearch,
+                       Quantization quantization,
+                       int oversampling,
+                       MetadataIndex metadataIndex) {
+        this.offHeap = offHeap;
+        this.kernel = kernel;
+        this.metric = metric;
+        this.partitionedSearch = partitionedSearch;
+        this.quantization = quantization;
+        this.oversampling = oversampling;
+        this.metadataIndex = metadataIndex;
+    }
+
+    void addAll(List<InMemoryEmbeddingStore.Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            boolean encodingChanged = false;
+            for (InMemoryEmbeddingStore.Entry<Embedded> entry : entries) {
+                float[] vector = entry.embedding.vector();
+                if (vectors == null) {
+                    vectors = FloatMatrix.create(vector.length, offHeap);
+                    if (quantization != Quantization.NONE) {
+                        quantizedVectors = QuantizedVectors.create(quantization, vector.length);
+                    }
+                } else if (vectors.dimension != vector.length) {
+                    throw illegalArgument("Length of vector (%s) must be equal to the dimension of the store (%s)",
+                            vector.length, vectors.dimension);
+                }
+            }
+            if (quantizedVectors != null) {
+                for (InMemoryEmbeddingStore.Entry<Embedded> entry : entries) {
+                    encodingChanged |= quantizedVectors.adaptTo(entry.embedding.vector());
+                }
+            }
+            if (encodingChanged) {
+                requantize();
+            }
+
+            for (InMemoryEmbeddingStore.Entry<Embedded> entry : entries) {
+                float[] vector = entry.embedding.vector();
+                int row = allocateRow();
+                vectors.write(row, vector);
+                if (quantizedVectors != null) {
+                    quantizedVectors.write(row, vector);
+                }
+                ids[row] = entry.id;
+                embedded[row] = entry.embedded;
+                norms[row] = entry.norm;
+                if (metadataIndex != null) {
+                    metadataIndex.add(row, entry.embedded);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void removeIf(BiPredicate<String, Embedded> predicate) {
+        lock.writeLock().lock();
+        try {
+            for (int row = 0; row < rowCount; row++) {
+                if (ids[row] != null && predicate.test(ids[row], (Embedded) embedded[row])) {
+                    if (metadataIndex != null) {
+                        metadataIndex.remove(row, embedded[row]);
+                    }
+                    ids[row] = null;
+                    embedded[row] = null;
+                    releaseRow(row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            vectors = null;
+            quantizedVectors = null;
+            ids = new String[INITIAL_CAPACITY];
+            embedded = new Object[INITIAL_CAPACITY];
+            norms = new double[INITIAL_CAPACITY];
+            freeRows = new int[INITIAL_CAPACITY];
+            freeRowCount = 0;
+            rowCount = 0;
+            if (metadataIndex != null) {
+                metadataIndex.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    List<EmbeddingMatch<Embedded>> search(Embedding queryEmbedding,
+                                          int maxResults,
+                                          double minScore,
+                                          Filter filter,
+                                          Predicate<Embedded> predicate) {
+        lock.readLock().lock();
+        try {
+            if (vectors == null) {
+                return new ArrayList<>();
+            }
+            float[] query = queryEmbedding.vector();
+            if (query.length != vectors.dimension) {
+                throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        vectors.dimension, query.length);
+            }
+
+            double queryNorm = kernel.norm(query);
+            BitSet candidateRows = filter == null || metadataIndex == null ? null : metadataIndex.candidates(filter);
+
+            TopK topK = quantizedVectors == null
+                    ? exactSearch(query, queryNorm, maxResults, minScore, candidateRows, predicate)
+                    : quantizedSearch(query, queryNorm, maxResults, minScore, candidateRows, predicate);
+
+            double[] scores = new double[topK.size()];
+            int[] rows = topK.drainDescending(scores);
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(rows.length);
+            for (int i = 0; i < rows.length; i++) {
+                int row = rows[i];
+                Embedding embedding = Embedding.from(vectors.read(row));
+                matches.add(new EmbeddingMatch<>(scores[i], ids[row], embedding, (Embedded) embedded[row]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private TopK exactSearch(float[] query,
+                             double queryNorm,
+                             int maxResults,
+                             double minScore,
+                             BitSet candidateRows,
+                             Predicate<Embedded> predicate) {
+        return partitionedSearch.search(rowCount, maxResults, (from, to, topK) -> {
+            float[] scratch = new float[vectors.dimension];
+            for (int row = nextRow(candidateRows, from); row < to; row = nextRow(candidateRows, row + 1)) {
+                if (ids[row] == null || !predicate.test((Embedded) embedded[row])) {
+                    continue;
+                }
+                double score = score(row, scratch, query, queryNorm);
+                if (score >= minScore) {
+                    topK.add(row, score);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private TopK quantizedSearch(float[] query,
+                                 double queryNorm,
+                                 int maxResults,
+                                 double minScore,
+                                 BitSet candidateRows,
+                                 Predicate<Embedded> predicate) {
+        QuantizedVectors.Scorer scorer = quantizedVectors.scorer(query, queryNorm);
+        int maxCandidates = (int) Math.min(Integer.MAX_VALUE, (long) maxResults * oversampling);
+        TopK candidates = partitionedSearch.search(rowCount, maxCandidates, (from, to, topK) -> {
+            for (int row = nextRow(candidateRows, from); row < to; row = nextRow(candidateRows, row + 1)) {
+                if (ids[row] == null || !predicate.test((Embedded) embedded[row])) {
+                    continue;
+                }
+                topK.add(row, scorer.approximateSimilarity(row, norms[row]));
+            }
+        });
+
+        // approximate scores are only used to select candidates, minScore is applied to the exact ones
+        int[] rerankedRows = candidates.drainDescending(new double[candidates.size()]);
+        float[] scratch = new float[vectors.dimension];
+        TopK topK = new TopK(maxResults);
+        for (int row : rerankedRows) {
+            double score = score(row, scratch, query, queryNorm);
+            if (score >= minScore) {
+                topK.add(row, score);
+            }
+        }
+        return topK;
+    }
+
+    /**
+     * @return the first row starting from the given one that is a candidate (all rows are if there is no index),
+     * or {@link Integer#MAX_VALUE} if there is none
+     */
+    private static int nextRow(BitSet candidateRows, int row) {
+        if (candidateRows == null) {
+            return row;
+        }
+        int next = candidateRows.nextSetBit(row);
+        return next < 0 ? Integer.MAX_VALUE : next;
+    }
+
+    private double score(int row, float[] scratch, float[] query, double queryNorm) {
+        float[] rowData = vectors.rowData(row, scratch);
+        double cosineSimilarity = metric.cosineSimilarity(
+                kernel, rowData, vectors.rowOffset(row), norms[row], query, 0, queryNorm, vectors.dimension);
+        return RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+    }
+
+    void writeSnapshot(Path path) throws IOException {
+        lock.readLock().lock();
+        try {
+            int dimension = vectors == null ? 0 : vectors.dimension;
+            try (BinarySnapshot.Writer writer = new BinarySnapshot.Writer(path, dimension, rowCount - freeRowCount)) {
+                float[] scratch = new float[dimension];
+                for (int row = 0; row < rowCount; row++) {
+                    if (ids[row] != null) {
+                        float[] rowData = vectors.rowData(row, scratch);
+                        writer.write(ids[row], rowData, vectors.rowOffset(row), norms[row], embedded[row]);
+                    }
+                }
+                writer.commit();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the entries of a snapshot into this (empty) instance.
+     * In off-heap mode, the memory-mapped vectors of the snapshot are used as they are.
+     */
+    void load(BinarySnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            if (snapshot.count == 0) {
+                return;
+            }
+            int capacity = Math.max(snapshot.count, INITIAL_CAPACITY);
+            ids = Arrays.copyOf(snapshot.ids, capacity);
+            embedded = Arrays.copyOf(snapshot.embedded, capacity, Object[].class);
+            norms = Arrays.copyOf(snapshot.norms, capacity);
+            rowCount = snapshot.count;
+            if (metadataIndex != null) {
+                for (int row = 0; row < rowCount; row++) {
+                    metadataIndex.add(row, embedded[row]);
+                }
+            }
+
+            float[] scratch = new float[snapshot.dimension];
+            if (offHeap) {
+                vectors = snapshot.vectors;
+            } else {
+                vectors = FloatMatrix.create(snapshot.dimension, false);
+                vectors.ensureCapacity(rowCount);
+                for (int row = 0; row < rowCount; row++) {
+                    vectors.write(row, snapshot.vectors.rowData(row, scratch));
+                }
+            }
+
+            if (quantization != Quantization.NONE) {
+                quantizedVectors = QuantizedVectors.create(quantization, snapshot.dimension);
+                quantizedVectors.ensureCapacity(rowCount);
+                for (int row = 0; row < rowCount; row++) {
+                    quantizedVectors.adaptTo(rowVector(row, scratch));
+                }
+                requantize();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Materializes all live entries. Used for serialization and merging.
+     */
+    @SuppressWarnings("unchecked")
+    List<InMemoryEmbeddingStore.Entry<Embedded>> entries() {
+        lock.readLock().lock();
+        try {
+            List<InMemoryEmbeddingStore.Entry<Embedded>> entries = new ArrayList<>(rowCount - freeRowCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (ids[row] != null) {
+                    Embedding embedding = Embedding.from(vectors.read(row));
+                    entries.add(new InMemoryEmbeddingStore.Entry<>(
+                            ids[row], embedding, (Embedded) embedded[row], kernel));
+                }
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int allocateRow() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+        int row = rowCount++;
+        if (row == ids.length) {
+            int newCapacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, newCapacity);
+            embedded = Arrays.copyOf(embedded, newCapacity);
+            norms = Arrays.copyOf(norms, newCapacity);
+        }
+        vectors.ensureCapacity(rowCount);
+        if (quantizedVectors != null) {
+            quantizedVectors.ensureCapacity(rowCount);
+        }
+        return row;
+    }
+
+    private void requantize() {
+        float[] scratch = new float[vectors.dimension];
+        for (int row = 0; row < rowCount; row++) {
+            if (ids[row] != null) {
+                quantizedVectors.write(row, rowVector(row, scratch));
+            }
+        }
+    }
+
+    /**
+     * Returns {@code scratch} filled with the given row.
+     */
+    private float[] rowVector(int row, float[] scratch) {
+        float[] rowData = vectors.rowData(row, scratch);
+        if (rowData != scratch) {
+            System.arraycopy(rowData, vectors.rowOffset(row), scratch, 0, vectors.dimension);
+        }
+        return scratch;
+    }
+
+    private void releaseRow(int row) {
+        if (freeRowCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeRows.length + (freeRows.length >> 1));
+        }
+        freeRows[freeRowCount++] = row;
+    }
+}
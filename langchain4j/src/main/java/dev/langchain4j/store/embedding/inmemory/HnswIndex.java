@@ -0,0 +1,346 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.util.Comparator.comparingDouble;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityMetric;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * HNSW (Hierarchical Navigable Small World) graph over the entries of an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * See "Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs"
+ * by Yu. A. Malkov and D. A. Yashunin.
+ * <p>
+ * Removed entries are only marked as deleted: they are still used to navigate the graph,
+ * but are never returned. Once deleted nodes outnumber live ones, the graph is rebuilt from the live entries.
+ * <p>
+ * Filtered search traverses the graph until {@code ef} matching entries are found (or the graph is exhausted),
+ * so restrictive filters degrade gracefully towards a full scan instead of returning fewer results.
+ */
+class HnswIndex<Embedded> {
+
+    private static final Comparator<Candidate<?>> BY_SIMILARITY = comparingDouble(candidate -> candidate.similarity);
+
+    private final int maxConnections;
+    private final int maxConnectionsOnBottomLayer;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final SimilarityKernel kernel;
+    private final SimilarityMetric metric;
+    private final Random levelRandom;
+
+    private final Map<InMemoryEmbeddingStore.Entry<Embedded>, Node<Embedded>> nodes = new IdentityHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node<Embedded> entryPoint;
+    private int deletedNodes;
+
+    HnswIndex(HnswIndexConfig config, SimilarityKernel kernel, SimilarityMetric metric) {
+        this.maxConnections = config.m();
+        this.maxConnectionsOnBottomLayer = config.m() * 2;
+        this.efConstruction = config.efConstruction();
+        this.efSearch = config.efSearch();
+        this.levelMultiplier = 1 / Math.log(config.m());
+        this.kernel = kernel;
+        this.metric = metric;
+        this.levelRandom = config.seed() == null ? null : new Random(config.seed());
+    }
+
+    void addAll(Collection<InMemoryEmbeddingStore.Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (InMemoryEmbeddingStore.Entry<Embedded> entry : entries) {
+                insert(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeAll(Collection<InMemoryEmbeddingStore.Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (InMemoryEmbeddingStore.Entry<Embedded> entry : entries) {
+                Node<Embedded> node = nodes.remove(entry);
+                if (node != null) {
+                    node.deleted = true;
+                    deletedNodes++;
+                }
+            }
+            if (deletedNodes > nodes.size()) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            entryPoint = null;
+            deletedNodes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<EmbeddingMatch<Embedded>> search(Embedding queryEmbedding,
+                                          int maxResults,
+                                          double minScore,
+                                          Predicate<InMemoryEmbeddingStore.Entry<Embedded>> filter) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint == null) {
+                return new ArrayList<>();
+            }
+
+            float[] query = queryEmbedding.vector();
+            ensureSameDimension(query);
+            double queryNorm = kernel.norm(query);
+
+            Candidate<Embedded> closest = new Candidate<>(entryPoint, similarity(entryPoint, query, queryNorm));
+            for (int level = entryPoint.level; level > 0; level--) {
+                closest = searchLayer(query, queryNorm, closest, 1, level, node -> true).peek();
+            }
+
+            int ef = Math.max(efSearch, maxResults);
+            PriorityQueue<Candidate<Embedded>> found = searchLayer(query, queryNorm, closest, ef, 0,
+                    node -> !node.deleted && filter.test(node.entry));
+
+            List<Candidate<Embedded>> candidates = new ArrayList<>(found);
+            candidates.sort(BY_SIMILARITY.reversed());
+
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(Math.min(maxResults, candidates.size()));
+            for (Candidate<Embedded> candidate : candidates) {
+                double score = RelevanceScore.fromCosineSimilarity(candidate.similarity);
+                if (score < minScore || matches.size() == maxResults) {
+                    break;
+                }
+                InMemoryEmbeddingStore.Entry<Embedded> entry = candidate.node.entry;
+                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuild() {
+        List<InMemoryEmbeddingStore.Entry<Embedded>> live = new ArrayList<>(nodes.keySet());
+        nodes.clear();
+        entryPoint = null;
+        deletedNodes = 0;
+        for (InMemoryEmbeddingStore.Entry<Embedded> entry : live) {
+            insert(entry);
+        }
+    }
+
+    private void insert(InMemoryEmbeddingStore.Entry<Embedded> entry) {
+        float[] vector = entry.embedding.vector();
+        double norm = entry.norm;
+        if (entryPoint != null) {
+            ensureSameDimension(vector);
+        }
+
+        Node<Embedded> node = new Node<>(entry, randomLevel());
+        nodes.put(entry, node);
+
+        if (entryPoint == null) {
+            entryPoint = node;
+            return;
+        }
+
+        Candidate<Embedded> closest = new Candidate<>(entryPoint, similarity(entryPoint, vector, norm));
+        for (int level = entryPoint.level; level > node.level; level--) {
+            closest = searchLayer(vector, norm, closest, 1, level, n -> true).peek();
+        }
+
+        for (int level = Math.min(node.level, entryPoint.level); level >= 0; level--) {
+            PriorityQueue<Candidate<Embedded>> found =
+                    searchLayer(vector, norm, closest, efConstruction, level, n -> true);
+
+            List<Candidate<Embedded>> candidates = new ArrayList<>(found);
+            candidates.sort(BY_SIMILARITY.reversed());
+            closest = candidates.get(0);
+
+            List<Node<Embedded>> neighbours = selectNeighbours(candidates, maxConnections);
+            node.neighbours[level].addAll(neighbours);
+            for (Node<Embedded> neighbour : neighbours) {
+                connect(neighbour, node, level);
+            }
+        }
+
+        if (node.level > entryPoint.level) {
+            entryPoint = node;
+        }
+    }
+
+    private void connect(Node<Embedded> from, Node<Embedded> to, int level) {
+        List<Node<Embedded>> connections = from.neighbours[level];
+        connections.add(to);
+
+        int max = level == 0 ? maxConnectionsOnBottomLayer : maxConnections;
+        if (connections.size() > max) {
+            List<Candidate<Embedded>> candidates = new ArrayList<>(connections.size());
+            for (Node<Embedded> connection : connections) {
+                double similarity = similarity(connection, from.entry.embedding.vector(), from.entry.norm);
+                candidates.add(new Candidate<>(connection, similarity));
+            }
+            candidates.sort(BY_SIMILARITY.reversed());
+            from.neighbours[level] = selectNeighbours(candidates, max);
+        }
+    }
+
+    /**
+     * Selects neighbours using the heuristic from the HNSW paper (algorithm 4):
+     * a candidate is preferred if it is closer to the base node than to any already selected neighbour.
+     * This keeps links pointing in diverse directions, which is important for clustered data.
+     * Pruned candidates are used to fill the remaining slots.
+     *
+     * @param candidates candidates sorted by similarity to the base node, most similar first
+     */
+    private List<Node<Embedded>> selectNeighbours(List<Candidate<Embedded>> candidates, int max) {
+        List<Node<Embedded>> selected = new ArrayList<>(max + 1);
+        List<Node<Embedded>> pruned = new ArrayList<>();
+        for (Candidate<Embedded> candidate : candidates) {
+            if (selected.size() == max) {
+                break;
+            }
+            float[] vector = candidate.node.entry.embedding.vector();
+            double norm = candidate.node.entry.norm;
+            boolean closerToBase = true;
+            for (Node<Embedded> neighbour : selected) {
+                if (similarity(neighbour, vector, norm) > candidate.similarity) {
+                    closerToBase = false;
+                    break;
+                }
+            }
+            if (closerToBase) {
+                selected.add(candidate.node);
+            } else {
+                pruned.add(candidate.node);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    /**
+     * Greedy best-first search on a single layer (algorithm 2 from the HNSW paper).
+     * Nodes that are not accepted are still traversed, but are not included in the result.
+     *
+     * @return up to {@code ef} accepted candidates, the least similar one at the head of the queue
+     */
+    private PriorityQueue<Candidate<Embedded>> searchLayer(float[] query,
+                                                           double queryNorm,
+                                                           Candidate<Embedded> start,
+                                                           int ef,
+                                                           int level,
+                                                           Predicate<Node<Embedded>> accept) {
+        Set<Node<Embedded>> visited = new HashSet<>();
+        PriorityQueue<Candidate<Embedded>> candidates = new PriorityQueue<>(BY_SIMILARITY.reversed());
+        PriorityQueue<Candidate<Embedded>> found = new PriorityQueue<>(BY_SIMILARITY);
+
+        visited.add(start.node);
+        candidates.add(start);
+        if (accept.test(start.node)) {
+            found.add(start);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate<Embedded> current = candidates.poll();
+            if (found.size() >= ef && current.similarity < found.peek().similarity) {
+                break;
+            }
+            for (Node<Embedded> neighbour : current.node.neighbours[level]) {
+                if (!visited.add(neighbour)) {
+                    continue;
+                }
+                double similarity = similarity(neighbour, query, queryNorm);
+                if (found.size() < ef || similarity > found.peek().similarity) {
+                    Candidate<Embedded> candidate = new Candidate<>(neighbour, similarity);
+                    candidates.add(candidate);
+                    if (accept.test(neighbour)) {
+                        found.add(candidate);
+                        if (found.size() > ef) {
+                            found.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private int randomLevel() {
+        Random random = levelRandom == null ? ThreadLocalRandom.current() : levelRandom;
+        double uniform = 1.0 - random.nextDouble(); // (0, 1]
+        return (int) (-Math.log(uniform) * levelMultiplier);
+    }
+
+    private double similarity(Node<?> node, float[] vector, double norm) {
+        float[] nodeVector = node.entry.embedding.vector();
+        return metric.cosineSimilarity(kernel, nodeVector, 0, node.entry.norm, vector, 0, norm, vector.length);
+    }
+
+    private void ensureSameDimension(float[] vector) {
+        int dimension = entryPoint.entry.embedding.dimension();
+        if (vector.length != dimension) {
+            throw illegalArgument("Length of vector (%s) must be equal to the dimension of the store (%s)",
+                    vector.length, dimension);
+        }
+    }
+
+    private static class Node<Embedded> {
+
+        final InMemoryEmbeddingStore.Entry<Embedded> entry;
+        final int level;
+        final List<Node<Embedded>>[] neighbours;
+        boolean deleted;
+
+        @SuppressWarnings("unchecked")
+        Node(InMemoryEmbeddingStore.Entry<Embedded> entry, int level) {
+            this.entry = entry;
+            this.level = level;
+            this.neighbours = new List[level + 1];
+            for (int i = 0; i <= level; i++) {
+                this.neighbours[i] = new ArrayList<>();
+            }
+        }
+    }
+
+    private static class Candidate<Embedded> {
+
+        final Node<Embedded> node;
+        final double similarity;
+
+        Candidate(Node<Embedded> node, double similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+
+import java.util.Objects;
+
+/**
+ * Configuration of the HNSW (Hierarchical Navigable Small World) graph index
+ * that can be used by the {@link InMemoryEmbeddingStore} instead of the brute force search.
+ * <p>
+ * The HNSW index provides approximate nearest neighbour search with (typically) sub-linear query time,
+ * at the cost of additional memory for the graph and a slower {@code add} operation.
+ * The search is approximate: with the default parameters the recall is typically above 95%,
+ * increasing {@link #efSearch()} improves the recall at the cost of the query time.
+ *
+ * @see InMemoryEmbeddingStore.Builder#hnswIndex(HnswIndexConfig)
+ */
+public class HnswIndexConfig {
+
+    private static final int DEFAULT_M = 16;
+    private static final int DEFAULT_EF_CONSTRUCTION = 200;
+    private static final int DEFAULT_EF_SEARCH = 64;
+
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final Long seed;
+
+    private HnswIndexConfig(Builder builder) {
+        this.m = ensureGreaterThanZero(getOrDefault(builder.m, DEFAULT_M), "m");
+        ensureTrue(m > 1, "m must be greater than 1");
+        this.efConstruction = ensureGreaterThanZero(getOrDefault(builder.efConstruction, DEFAULT_EF_CONSTRUCTION), "efConstruction");
+        this.efSearch = ensureGreaterThanZero(getOrDefault(builder.efSearch, DEFAULT_EF_SEARCH), "efSearch");
+        this.seed = builder.seed;
+    }
+
+    /**
+     * @return The number of bidirectional links created for every new node during the construction.
+     * Nodes on the bottom layer can have up to {@code 2 * m} links.
+     */
+    public int m() {
+        return m;
+    }
+
+    /**
+     * @return The size of the dynamic candidate list used during the construction of the graph.
+     */
+    public int efConstruction() {
+        return efConstruction;
+    }
+
+    /**
+     * @return The size of the dynamic candidate list used during the search.
+     * The effective value is never lower than {@link dev.langchain4j.store.embedding.EmbeddingSearchRequest#maxResults()}.
+     */
+    public int efSearch() {
+        return efSearch;
+    }
+
+    /**
+     * @return The seed of the random generator that assigns new nodes to the layers of the graph,
+     * or {@code null} if the layers are random.
+     */
+    public Long seed() {
+        return seed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HnswIndexConfig that)) return false;
+        return m == that.m
+                && efConstruction == that.efConstruction
+                && efSearch == that.efSearch
+                && Objects.equals(seed, that.seed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(m, efConstruction, efSearch, seed);
+    }
+
+    @Override
+    public String toString() {
+        return "HnswIndexConfig {" +
+                " m = " + m +
+                ", efConstruction = " + efConstruction +
+                ", efSearch = " + efSearch +
+                ", seed = " + seed +
+                " }";
+    }
+
+    public static HnswIndexConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer m;
+        private Integer efConstruction;
+        private Integer efSearch;
+        private Long seed;
+
+        /**
+         * @param m The number of bidirectional links created for every new node. Default: 16.
+         *          Higher values improve the recall for high-dimensional embeddings, but increase memory usage.
+         * @return builder
+         */
+        public Builder m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        /**
+         * @param efConstruction The size of the dynamic candidate list used during the construction. Default: 200.
+         *                       Higher values produce a better graph, but slow down the {@code add} operation.
+         * @return builder
+         */
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * @param efSearch The size of the dynamic candidate list used during the search. Default: 64.
+         *                 Higher values improve the recall, but slow down the search.
+         * @return builder
+         */
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * @param seed The seed of the random generator that assigns new nodes to the layers of the graph.
+         *             Default: none, the layers are random.
+         *             With a seed, adding the same embeddings in the same order always builds the same graph,
+         *             so the search results are reproducible.
+         * @return builder
+         */
+        public Builder seed(Long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public HnswIndexConfig build() {
+            return new HnswIndexConfig(this);
+        }
+    }
+}
@@ -4,12 +4,13 @@ import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.spi.store.embedding.inmemory.InMemoryEmbeddingStoreJsonCodecFactory;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityMetric;
 import dev.langchain4j.store.embedding.filter.Filter;
 
 import java.io.IOException;
@@ -18,14 +19,20 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiPredicate;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -33,31 +40,93 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.util.Arrays.asList;
-import static java.util.Comparator.comparingDouble;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 /**
  * An {@link EmbeddingStore} that stores embeddings in memory.
  * <p>
- * Uses a brute force approach by iterating over all embeddings to find the best matches.
+ * By default, uses a brute force approach by iterating over all embeddings to find the best matches.
+ * Alternatively, an approximate nearest neighbour search backed by an HNSW graph can be enabled
+ * using {@link Builder#hnswIndex(HnswIndexConfig)}.
+ * <p>
+ * By default, each entry is kept as a separate object. For large stores, vectors can instead be packed
+ * into contiguous (on-heap or off-heap) slabs using {@link Builder#storageMode(StorageMode)},
+ * optionally with a compressed copy that speeds up the search, see {@link Builder#quantization(Quantization)}.
+ * <p>
+ * The brute force search can scan large stores in parallel, see {@link Builder#searchExecutor(Executor)}.
+ * <p>
+ * Norms of stored vectors are computed once, when entries are added. Vectors are compared using
+ * a {@link SimilarityKernel}, which is SIMD-accelerated when the Vector API is available.
  * <p>
  * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods.
  * <p>
  * It can also be recreated from JSON or a file using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods.
+ * <p>
+ * For large stores, the binary {@link #serializeToSnapshot(Path)} and {@link #fromSnapshot(Path)} methods
+ * are much faster and use much less memory.
  *
  * @param <Embedded> The class of the object that has been embedded.
  *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
  */
 public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
 
+    private static final int DEFAULT_PARALLEL_SEARCH_THRESHOLD = 10_000;
+
     final CopyOnWriteArrayList<Entry<Embedded>> entries;
+    private final transient HnswIndex<Embedded> hnswIndex;
+    private final transient FloatMatrixEntries<Embedded> matrixEntries;
+    private final transient SimilarityKernel similarityKernel;
+    private final transient SimilarityMetric similarityMetric;
+    private final transient PartitionedSearch partitionedSearch;
 
     public InMemoryEmbeddingStore() {
-        this.entries = new CopyOnWriteArrayList<>();
+        this(new ArrayList<>());
     }
 
     private InMemoryEmbeddingStore(Collection<Entry<Embedded>> entries) {
         this.entries = new CopyOnWriteArrayList<>(entries);
+        this.hnswIndex = null;
+        this.matrixEntries = null;
+        this.similarityKernel = SimilarityKernel.defaultKernel();
+        this.similarityMetric = SimilarityMetric.COSINE;
+        this.partitionedSearch = PartitionedSearch.SEQUENTIAL;
+    }
+
+    private InMemoryEmbeddingStore(Builder builder) {
+        StorageMode storageMode = getOrDefault(builder.storageMode, StorageMode.ENTRIES);
+        if (builder.hnswIndex != null && storageMode != StorageMode.ENTRIES) {
+            throw illegalArgument("HNSW index can only be used with %s storage mode", StorageMode.ENTRIES);
+        }
+        Quantization quantization = getOrDefault(builder.quantization, Quantization.NONE);
+        if (quantization != Quantization.NONE && storageMode == StorageMode.ENTRIES) {
+            throw illegalArgument("Quantization can only be used with %s or %s storage mode",
+                    StorageMode.HEAP_MATRIX, StorageMode.OFF_HEAP_MATRIX);
+        }
+        int oversampling = ensureGreaterThanZero(
+                getOrDefault(builder.oversampling, quantization.defaultOversampling()), "oversampling");
+        if (!isNullOrEmpty(builder.indexedMetadataKeys) && storageMode == StorageMode.ENTRIES) {
+            throw illegalArgument("Metadata index can only be used with %s or %s storage mode",
+                    StorageMode.HEAP_MATRIX, StorageMode.OFF_HEAP_MATRIX);
+        }
+        this.entries = new CopyOnWriteArrayList<>();
+        this.similarityKernel = getOrDefault(builder.similarityKernel, SimilarityKernel::defaultKernel);
+        this.similarityMetric = getOrDefault(builder.similarityMetric, SimilarityMetric.COSINE);
+        this.partitionedSearch = builder.searchExecutor == null && builder.parallelSearchThreshold == null
+                ? PartitionedSearch.SEQUENTIAL
+                : new PartitionedSearch(
+                        getOrDefault(builder.searchExecutor, ForkJoinPool::commonPool),
+                        ensureGreaterThanZero(
+                                getOrDefault(builder.parallelSearchThreshold, DEFAULT_PARALLEL_SEARCH_THRESHOLD),
+                                "parallelSearchThreshold"));
+        this.hnswIndex = builder.hnswIndex == null
+                ? null
+                : new HnswIndex<>(builder.hnswIndex, similarityKernel, similarityMetric);
+        this.matrixEntries = storageMode == StorageMode.ENTRIES
+                ? null
+                : new FloatMatrixEntries<>(storageMode == StorageMode.OFF_HEAP_MATRIX, similarityKernel, similarityMetric,
+                        partitionedSearch, quantization, oversampling,
+                        isNullOrEmpty(builder.indexedMetadataKeys) ? null : new MetadataIndex(builder.indexedMetadataKeys));
     }
 
     @Override
@@ -80,14 +149,14 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     public void add(String id, Embedding embedding, Embedded embedded) {
-        entries.add(new Entry<>(id, embedding, embedded));
+        add(singletonList(new Entry<>(id, embedding, embedded, similarityKernel)));
     }
 
     @Override
     public List<String> addAll(List<Embedding> embeddings) {
 
         List<Entry<Embedded>> newEntries = embeddings.stream()
-                .map(embedding -> new Entry<Embedded>(randomUUID(), embedding))
+                .map(embedding -> new Entry<Embedded>(randomUUID(), embedding, null, similarityKernel))
                 .collect(toList());
 
         return add(newEntries);
@@ -102,14 +171,21 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         List<Entry<Embedded>> newEntries = new ArrayList<>(ids.size());
 
         for (int i = 0; i < ids.size(); i++) {
-            newEntries.add(new Entry<>(ids.get(i), embeddings.get(i), embedded.get(i)));
+            newEntries.add(new Entry<>(ids.get(i), embeddings.get(i), embedded.get(i), similarityKernel));
         }
         add(newEntries);
     }
 
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
-        entries.addAll(newEntries);
+        if (matrixEntries != null) {
+            matrixEntries.addAll(newEntries);
+        } else {
+            entries.addAll(newEntries);
+        }
+        if (hnswIndex != null) {
+            hnswIndex.addAll(newEntries);
+        }
 
         return newEntries.stream()
                 .map(entry -> entry.id)
@@ -120,17 +196,17 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
 
-        entries.removeIf(entry -> ids.contains(entry.id));
+        removeIf((id, embedded) -> ids.contains(id));
     }
 
     @Override
     public void removeAll(Filter filter) {
         ensureNotNull(filter, "filter");
 
-        entries.removeIf(entry -> {
-            if (entry.embedded instanceof TextSegment) {
-                return filter.test(((TextSegment) entry.embedded).metadata());
-            } else if (entry.embedded == null) {
+        removeIf((id, embedded) -> {
+            if (embedded instanceof TextSegment) {
+                return filter.test(((TextSegment) embedded).metadata());
+            } else if (embedded == null) {
                 return false;
             } else {
                 throw new UnsupportedOperationException("Not supported yet.");
@@ -141,44 +217,99 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     @Override
     public void removeAll() {
         entries.clear();
+        if (matrixEntries != null) {
+            matrixEntries.clear();
+        }
+        if (hnswIndex != null) {
+            hnswIndex.clear();
+        }
+    }
+
+    private void removeIf(BiPredicate<String, Embedded> predicate) {
+        if (matrixEntries != null) {
+            matrixEntries.removeIf(predicate);
+            return;
+        }
+        List<Entry<Embedded>> removed = new ArrayList<>();
+        entries.removeIf(entry -> predicate.test(entry.id, entry.embedded) && removed.add(entry));
+        if (hnswIndex != null) {
+            hnswIndex.removeAll(removed);
+        }
     }
 
     @Override
     public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
-        Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
-
         Filter filter = embeddingSearchRequest.filter();
 
-        for (Entry<Embedded> entry : entries) {
+        if (hnswIndex != null) {
+            return new EmbeddingSearchResult<>(hnswIndex.search(
+                    embeddingSearchRequest.queryEmbedding(),
+                    embeddingSearchRequest.maxResults(),
+                    embeddingSearchRequest.minScore(),
+                    entry -> matches(filter, entry.embedded)));
+        }
+
+        if (matrixEntries != null) {
+            return new EmbeddingSearchResult<>(matrixEntries.search(
+                    embeddingSearchRequest.queryEmbedding(),
+                    embeddingSearchRequest.maxResults(),
+                    embeddingSearchRequest.minScore(),
+                    filter,
+                    embedded -> matches(filter, embedded)));
+        }
 
-            if (filter != null && entry.embedded instanceof TextSegment) {
-                Metadata metadata = ((TextSegment) entry.embedded).metadata();
-                if (!filter.test(metadata)) {
+        float[] query = embeddingSearchRequest.queryEmbedding().vector();
+        double queryNorm = similarityKernel.norm(query);
+        double minScore = embeddingSearchRequest.minScore();
+
+        Object[] snapshot = entries.toArray();
+        int maxResults = embeddingSearchRequest.maxResults();
+        TopK topK = partitionedSearch.search(snapshot.length, maxResults, (from, to, chunkTopK) -> {
+            for (int i = from; i < to; i++) {
+                @SuppressWarnings("unchecked")
+                Entry<Embedded> entry = (Entry<Embedded>) snapshot[i];
+
+                if (!matches(filter, entry.embedded)) {
                     continue;
                 }
-            }
 
-            double cosineSimilarity = CosineSimilarity.between(entry.embedding, embeddingSearchRequest.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-            if (score >= embeddingSearchRequest.minScore()) {
-                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
-                if (matches.size() > embeddingSearchRequest.maxResults()) {
-                    matches.poll();
+                float[] vector = entry.embedding.vector();
+                if (vector.length != query.length) {
+                    throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                            vector.length, query.length);
+                }
+                double cosineSimilarity = similarityMetric.cosineSimilarity(
+                        similarityKernel, vector, 0, entry.norm, query, 0, queryNorm, query.length);
+                double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+                if (score >= minScore) {
+                    chunkTopK.add(i, score);
                 }
             }
-        }
+        });
 
-        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(matches);
-        result.sort(comparator);
-        Collections.reverse(result);
+        double[] scores = new double[topK.size()];
+        int[] indexes = topK.drainDescending(scores);
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(indexes.length);
+        for (int i = 0; i < indexes.length; i++) {
+            @SuppressWarnings("unchecked")
+            Entry<Embedded> entry = (Entry<Embedded>) snapshot[indexes[i]];
+            result.add(new EmbeddingMatch<>(scores[i], entry.id, entry.embedding, entry.embedded));
+        }
 
         return new EmbeddingSearchResult<>(result);
     }
 
+    private static boolean matches(Filter filter, Object embedded) {
+        if (filter != null && embedded instanceof TextSegment) {
+            Metadata metadata = ((TextSegment) embedded).metadata();
+            return filter.test(metadata);
+        }
+        return true;
+    }
+
     public String serializeToJson() {
-        return loadCodec().toJson(this);
+        return loadCodec().toJson(matrixEntries == null ? this : new InMemoryEmbeddingStore<>(allEntries()));
     }
 
     public void serializeToFile(Path filePath) {
@@ -211,6 +342,88 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return fromFile(Paths.get(filePath));
     }
 
+    /**
+     * Writes a compact binary snapshot of this store to the given file.
+     * Unlike {@link #serializeToFile(Path)}, the entries are streamed to the file,
+     * without building the whole content in memory first.
+     * Only {@link TextSegment} (or {@code null}) embedded objects are supported.
+     * <p>
+     * The snapshot is first written to a temporary file in the same directory,
+     * which then atomically replaces the given file.
+     * So the given file is never left partially written, and it may be the snapshot this store was loaded from.
+     *
+     * @see #fromSnapshot(Path)
+     */
+    public void serializeToSnapshot(Path filePath) {
+        try {
+            if (matrixEntries != null) {
+                matrixEntries.writeSnapshot(filePath);
+                return;
+            }
+            Object[] snapshot = entries.toArray();
+            int dimension = snapshot.length == 0 ? 0 : ((Entry<?>) snapshot[0]).embedding.dimension();
+            try (BinarySnapshot.Writer writer = new BinarySnapshot.Writer(filePath, dimension, snapshot.length)) {
+                for (Object element : snapshot) {
+                    Entry<?> entry = (Entry<?>) element;
+                    if (entry.embedding.dimension() != dimension) {
+                        throw illegalArgument("All embeddings must have the same dimension (%s), but found: %s",
+                                dimension, entry.embedding.dimension());
+                    }
+                    writer.write(entry.id, entry.embedding.vector(), 0, entry.norm, entry.embedded);
+                }
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void serializeToSnapshot(String filePath) {
+        serializeToSnapshot(Paths.get(filePath));
+    }
+
+    /**
+     * Loads a store from a snapshot written by {@link #serializeToSnapshot(Path)}.
+     * The store uses {@link StorageMode#OFF_HEAP_MATRIX}: vectors are memory-mapped from the file,
+     * so they are neither copied nor parsed, and are paged in by the OS when first searched.
+     * As long as the store is used, it keeps reading the vectors from the file,
+     * which must therefore not be modified in place (e.g., truncated or overwritten) meanwhile.
+     * It can be replaced, though: {@link #serializeToSnapshot(Path)} replaces the file with a new one,
+     * so the store can be saved back to the snapshot it was loaded from.
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromSnapshot(Path filePath) {
+        return fromSnapshot(filePath, builder().storageMode(StorageMode.OFF_HEAP_MATRIX));
+    }
+
+    public static InMemoryEmbeddingStore<TextSegment> fromSnapshot(String filePath) {
+        return fromSnapshot(Paths.get(filePath));
+    }
+
+    /**
+     * Loads a snapshot written by {@link #serializeToSnapshot(Path)} into a new store configured by the given builder.
+     * Vectors are memory-mapped only with {@link StorageMode#OFF_HEAP_MATRIX}, other storage modes copy them.
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromSnapshot(Path filePath, Builder builder) {
+        ensureNotNull(builder, "builder");
+        try {
+            BinarySnapshot snapshot = BinarySnapshot.read(filePath);
+            InMemoryEmbeddingStore<TextSegment> store = builder.build();
+            if (store.matrixEntries != null) {
+                store.matrixEntries.load(snapshot);
+                return store;
+            }
+            List<Entry<TextSegment>> entries = new ArrayList<>(snapshot.count);
+            for (int i = 0; i < snapshot.count; i++) {
+                Embedding embedding = Embedding.from(snapshot.vectors.read(i));
+                entries.add(new Entry<>(snapshot.ids[i], embedding, snapshot.embedded[i], store.similarityKernel));
+            }
+            store.add(entries);
+            return store;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Merges given {@code InMemoryEmbeddingStore}s into a single {@code InMemoryEmbeddingStore},
      * copying all entries from each store.
@@ -219,7 +432,10 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         ensureNotNull(stores, "stores");
         List<Entry<Embedded>> entries = new ArrayList<>();
         for (InMemoryEmbeddingStore<Embedded> store : stores) {
-            entries.addAll(store.entries);
+            for (Entry<Embedded> entry : store.allEntries()) {
+                // the merged store uses the default kernel, whose norms may differ from the ones of the given store
+                entries.add(new Entry<>(entry.id, entry.embedding, entry.embedded));
+            }
         }
         return new InMemoryEmbeddingStore<>(entries);
     }
@@ -233,20 +449,184 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return merge(asList(first, second));
     }
 
+    List<Entry<Embedded>> allEntries() {
+        return matrixEntries == null ? entries : matrixEntries.entries();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private HnswIndexConfig hnswIndex;
+        private StorageMode storageMode;
+        private SimilarityKernel similarityKernel;
+        private SimilarityMetric similarityMetric;
+        private Executor searchExecutor;
+        private Integer parallelSearchThreshold;
+        private Quantization quantization;
+        private Integer oversampling;
+        private Set<String> indexedMetadataKeys;
+
+        /**
+         * @param hnswIndex The configuration of the HNSW graph index.
+         *                  When set, {@link InMemoryEmbeddingStore#search(EmbeddingSearchRequest)} performs an approximate
+         *                  nearest neighbour search over the graph instead of a brute force scan.
+         *                  Adding embeddings becomes slower, as each new entry is linked into the graph.
+         *                  If not provided, the brute force search is used.
+         * @return builder
+         */
+        public Builder hnswIndex(HnswIndexConfig hnswIndex) {
+            this.hnswIndex = hnswIndex;
+            return this;
+        }
+
+        /**
+         * @param storageMode How the entries are kept in memory.
+         *                    {@link StorageMode#HEAP_MATRIX} and {@link StorageMode#OFF_HEAP_MATRIX}
+         *                    pack all vectors into contiguous slabs, which reduces the heap overhead per entry
+         *                    and speeds up the brute force search for large stores.
+         *                    They cannot be combined with {@link #hnswIndex(HnswIndexConfig)}.
+         *                    Default: {@link StorageMode#ENTRIES}.
+         * @return builder
+         */
+        public Builder storageMode(StorageMode storageMode) {
+            this.storageMode = storageMode;
+            return this;
+        }
+
+        /**
+         * @param similarityKernel The kernel used to compare vectors.
+         *                         Default: {@link SimilarityKernel#defaultKernel()}, which uses SIMD instructions
+         *                         when the JVM is started with {@code --add-modules jdk.incubator.vector}.
+         * @return builder
+         */
+        public Builder similarityKernel(SimilarityKernel similarityKernel) {
+            this.similarityKernel = similarityKernel;
+            return this;
+        }
+
+        /**
+         * @param similarityMetric How the cosine similarity is computed.
+         *                         {@link SimilarityMetric#DOT_PRODUCT} and {@link SimilarityMetric#EUCLIDEAN}
+         *                         are faster, but return correct scores only if all embeddings
+         *                         (including query embeddings) are normalized to unit length.
+         *                         Default: {@link SimilarityMetric#COSINE}.
+         * @return builder
+         */
+        public Builder similarityMetric(SimilarityMetric similarityMetric) {
+            this.similarityMetric = similarityMetric;
+            return this;
+        }
+
+        /**
+         * @param searchExecutor The executor used to scan large stores in parallel.
+         *                       When set, the brute force search splits stores with at least
+         *                       {@link #parallelSearchThreshold(Integer)} entries into chunks,
+         *                       which are scanned concurrently. The results are identical to a sequential scan.
+         *                       Not used with {@link #hnswIndex(HnswIndexConfig)}.
+         *                       Default: {@link ForkJoinPool#commonPool()} if a parallel search threshold is set,
+         *                       otherwise the search is always sequential.
+         * @return builder
+         */
+        public Builder searchExecutor(Executor searchExecutor) {
+            this.searchExecutor = searchExecutor;
+            return this;
+        }
+
+        /**
+         * @param parallelSearchThreshold The minimum number of entries for which the brute force search
+         *                                is performed in parallel on the {@link #searchExecutor(Executor)}.
+         *                                Smaller stores are scanned on the calling thread.
+         *                                Default: 10000 if a search executor is set,
+         *                                otherwise the search is always sequential.
+         * @return builder
+         */
+        public Builder parallelSearchThreshold(Integer parallelSearchThreshold) {
+            this.parallelSearchThreshold = parallelSearchThreshold;
+            return this;
+        }
+
+        /**
+         * @param quantization Whether a compressed copy of the vectors is used to select search candidates,
+         *                     which are then re-ranked using the exact vectors.
+         *                     {@link Quantization#INT8} and {@link Quantization#BINARY} speed up the search
+         *                     at the cost of some recall. Combined with {@link StorageMode#OFF_HEAP_MATRIX},
+         *                     they also reduce the heap usage, as only the compressed vectors are kept on the heap.
+         *                     Requires {@link StorageMode#HEAP_MATRIX} or {@link StorageMode#OFF_HEAP_MATRIX}.
+         *                     Default: {@link Quantization#NONE}.
+         * @return builder
+         */
+        public Builder quantization(Quantization quantization) {
+            this.quantization = quantization;
+            return this;
+        }
+
+        /**
+         * @param oversampling How many candidates per requested result are selected using the compressed vectors
+         *                     before re-ranking. Higher values improve recall, but make the search slower.
+         *                     Only used with {@link #quantization(Quantization)}.
+         *                     Default: 3 for {@link Quantization#INT8}, 10 for {@link Quantization#BINARY}.
+         * @return builder
+         */
+        public Builder oversampling(Integer oversampling) {
+            this.oversampling = oversampling;
+            return this;
+        }
+
+        /**
+         * @param indexedMetadataKeys The {@link Metadata} keys to index.
+         *                            A filtered search first looks up the entries matching the filter
+         *                            in the index and only scores those, so its cost scales with the number
+         *                            of matching entries rather than with the size of the store.
+         *                            Equality filters ({@code isEqualTo}, {@code isIn} and their negations)
+         *                            and range filters on numbers can use the index.
+         *                            Requires {@link StorageMode#HEAP_MATRIX} or {@link StorageMode#OFF_HEAP_MATRIX}.
+         *                            Default: no keys are indexed.
+         * @return builder
+         */
+        public Builder indexedMetadataKeys(Collection<String> indexedMetadataKeys) {
+            this.indexedMetadataKeys = indexedMetadataKeys == null ? null : new LinkedHashSet<>(indexedMetadataKeys);
+            return this;
+        }
+
+        /**
+         * @see #indexedMetadataKeys(Collection)
+         */
+        public Builder indexedMetadataKeys(String... indexedMetadataKeys) {
+            return indexedMetadataKeys(asList(indexedMetadataKeys));
+        }
+
+        public <Embedded> InMemoryEmbeddingStore<Embedded> build() {
+            return new InMemoryEmbeddingStore<>(this);
+        }
+    }
+
     static class Entry<Embedded> {
 
         String id;
         Embedding embedding;
         Embedded embedded;
+        transient double norm;
 
         Entry(String id, Embedding embedding) {
             this(id, embedding, null);
         }
 
         Entry(String id, Embedding embedding, Embedded embedded) {
+            this(id, embedding, embedded, SimilarityKernel.defaultKernel());
+        }
+
+        /**
+         * The norm is cached with the given kernel, which must be the kernel of the store holding this entry,
+         * so that it is consistent with the norms that store computes for queries.
+         */
+        Entry(String id, Embedding embedding, Embedded embedded, SimilarityKernel kernel) {
             this.id = ensureNotBlank(id, "id");
             this.embedding = ensureNotNull(embedding, "embedding");
             this.embedded = embedded;
+            this.norm = kernel.norm(embedding.vector());
         }
 
         @Override
@@ -0,0 +1,472 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotIn;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Not;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Indexes the values of selected metadata keys of the rows of a {@link FloatMatrixEntries}:
+ * an inverted index (value to rows) for equality filters, and a sorted index for range filters on numbers.
+ * <p>
+ * A {@link Filter} is compiled into a bitset of candidate rows before any vector is scored.
+ * The bitset is a superset of the matching rows: parts of the filter that cannot be answered by the index
+ * (unindexed keys, {@link dev.langchain4j.store.embedding.filter.comparison.ContainsString}, etc.)
+ * simply do not narrow it down. The filter is therefore still evaluated on each candidate.
+ * <p>
+ * Rows are added and removed under the write lock of the owner, and candidates are computed under its read lock.
+ */
+class MetadataIndex {
+
+    private final Map<String, KeyIndex> keyIndexes = new LinkedHashMap<>();
+    private final BitSet liveRows = new BitSet();
+
+    /**
+     * Rows whose embedded object is not a {@link TextSegment}. They match every filter.
+     */
+    private final BitSet rowsWithoutMetadata = new BitSet();
+
+    MetadataIndex(Collection<String> keys) {
+        for (String key : keys) {
+            keyIndexes.put(key, new KeyIndex());
+        }
+    }
+
+    void add(int row, Object embedded) {
+        liveRows.set(row);
+        if (!(embedded instanceof TextSegment)) {
+            rowsWithoutMetadata.set(row);
+            return;
+        }
+        Map<String, Object> metadata = ((TextSegment) embedded).metadata().toMap();
+        keyIndexes.forEach((key, index) -> {
+            Object value = metadata.get(key);
+            if (value != null) {
+                index.add(row, value);
+            }
+        });
+    }
+
+    void remove(int row, Object embedded) {
+        liveRows.clear(row);
+        if (!(embedded instanceof TextSegment)) {
+            rowsWithoutMetadata.clear(row);
+            return;
+        }
+        Map<String, Object> metadata = ((TextSegment) embedded).metadata().toMap();
+        keyIndexes.forEach((key, index) -> {
+            Object value = metadata.get(key);
+            if (value != null) {
+                index.remove(row, value);
+            }
+        });
+    }
+
+    void clear() {
+        keyIndexes.values().forEach(KeyIndex::clear);
+        liveRows.clear();
+        rowsWithoutMetadata.clear();
+    }
+
+    /**
+     * @return the rows that may match the given filter,
+     * or {@code null} if the filter cannot be narrowed down using the index
+     */
+    BitSet candidates(Filter filter) {
+        Candidates candidates = compile(filter);
+        if (candidates == null) {
+            return null;
+        }
+        BitSet rows = candidates.rows;
+        rows.or(rowsWithoutMetadata);
+        return rows;
+    }
+
+    private Candidates compile(Filter filter) {
+        if (filter instanceof And) {
+            Candidates left = compile(((And) filter).left());
+            Candidates right = compile(((And) filter).right());
+            if (left == null || right == null) {
+                // one side narrows down the candidates, but the other one still has to be evaluated
+                Candidates known = left == null ? right : left;
+                return known == null ? null : known.inexact();
+            }
+            left.rows.and(right.rows);
+            return new Candidates(left.rows, left.exact && right.exact);
+        } else if (filter instanceof Or) {
+            Candidates left = compile(((Or) filter).left());
+            Candidates right = compile(((Or) filter).right());
+            if (left == null || right == null) {
+                return null;
+            }
+            left.rows.or(right.rows);
+            return new Candidates(left.rows, left.exact && right.exact);
+        } else if (filter instanceof Not) {
+            Candidates expression = compile(((Not) filter).expression());
+            // only the complement of an exact set is a superset of the matching rows
+            return expression == null || !expression.exact ? null : complement(expression.rows);
+        } else if (filter instanceof IsEqualTo) {
+            IsEqualTo isEqualTo = (IsEqualTo) filter;
+            KeyIndex index = keyIndexes.get(isEqualTo.key());
+            return index == null ? null : new Candidates(index.equalTo(isEqualTo.comparisonValue()), true);
+        } else if (filter instanceof IsNotEqualTo) {
+            IsNotEqualTo isNotEqualTo = (IsNotEqualTo) filter;
+            KeyIndex index = keyIndexes.get(isNotEqualTo.key());
+            return index == null ? null : complement(index.equalTo(isNotEqualTo.comparisonValue()));
+        } else if (filter instanceof IsIn) {
+            IsIn isIn = (IsIn) filter;
+            KeyIndex index = keyIndexes.get(isIn.key());
+            return index == null || !index.canCompare(isIn.comparisonValues())
+                    ? null
+                    : new Candidates(index.in(isIn.comparisonValues()), true);
+        } else if (filter instanceof IsNotIn) {
+            IsNotIn isNotIn = (IsNotIn) filter;
+            KeyIndex index = keyIndexes.get(isNotIn.key());
+            return index == null || !index.canCompare(isNotIn.comparisonValues())
+                    ? null
+                    : complement(index.in(isNotIn.comparisonValues()));
+        } else if (filter instanceof IsGreaterThan) {
+            IsGreaterThan isGreaterThan = (IsGreaterThan) filter;
+            return range(isGreaterThan.key(), isGreaterThan.comparisonValue(), null);
+        } else if (filter instanceof IsGreaterThanOrEqualTo) {
+            IsGreaterThanOrEqualTo isGreaterThanOrEqualTo = (IsGreaterThanOrEqualTo) filter;
+            return range(isGreaterThanOrEqualTo.key(), isGreaterThanOrEqualTo.comparisonValue(), null);
+        } else if (filter instanceof IsLessThan) {
+            IsLessThan isLessThan = (IsLessThan) filter;
+            return range(isLessThan.key(), null, isLessThan.comparisonValue());
+        } else if (filter instanceof IsLessThanOrEqualTo) {
+            IsLessThanOrEqualTo isLessThanOrEqualTo = (IsLessThanOrEqualTo) filter;
+            return range(isLessThanOrEqualTo.key(), null, isLessThanOrEqualTo.comparisonValue());
+        }
+        return null;
+    }
+
+    /**
+     * Range filters are answered with inclusive bounds, so the result is not exact.
+     * Bounds and indexed numbers are both converted from their decimal values, as range filters compare them,
+     * and this conversion preserves their order.
+     */
+    private Candidates range(String key, Object min, Object max) {
+        KeyIndex index = keyIndexes.get(key);
+        if (index == null || (min != null && !(min instanceof Number)) || (max != null && !(max instanceof Number))) {
+            return null;
+        }
+        double from = min == null ? Double.NEGATIVE_INFINITY : Math.nextDown(decimalValue((Number) min));
+        double to = max == null ? Double.POSITIVE_INFINITY : Math.nextUp(decimalValue((Number) max));
+        return new Candidates(index.numbers.between(from, to), false);
+    }
+
+    /**
+     * @return the double closest to the decimal value of the number, e.g., {@code 0.1} for {@code 0.1f},
+     * whose {@link Number#doubleValue()} is {@code 0.10000000149011612}
+     */
+    private static double decimalValue(Number number) {
+        return new BigDecimal(number.toString()).doubleValue();
+    }
+
+    private Candidates complement(BitSet rows) {
+        BitSet complement = (BitSet) liveRows.clone();
+        complement.andNot(rows);
+        return new Candidates(complement, true);
+    }
+
+    private static class Candidates {
+
+        final BitSet rows;
+
+        /**
+         * Whether {@link #rows} are exactly the matching rows, rather than a superset of them.
+         */
+        final boolean exact;
+
+        Candidates(BitSet rows, boolean exact) {
+            this.rows = rows;
+            this.exact = exact;
+        }
+
+        Candidates inexact() {
+            return new Candidates(rows, false);
+        }
+    }
+
+    private static class KeyIndex {
+
+        private final Map<Object, Postings> postings = new HashMap<>();
+        private final NumericIndex numbers = new NumericIndex();
+        private int numberCount;
+        private int floatCount;
+        private int stringCount;
+
+        void add(int row, Object value) {
+            postings.computeIfAbsent(normalize(value), ignored -> new Postings()).add(row);
+            if (value instanceof Number) {
+                numbers.add(row, decimalValue((Number) value));
+                numberCount++;
+                if (value instanceof Float) {
+                    floatCount++;
+                }
+            } else if (value instanceof String) {
+                stringCount++;
+            }
+        }
+
+        void remove(int row, Object value) {
+            Object normalized = normalize(value);
+            Postings rows = postings.get(normalized);
+            if (rows != null && rows.remove(row)) {
+                postings.remove(normalized);
+            }
+            if (value instanceof Number) {
+                numbers.remove(row);
+                numberCount--;
+                if (value instanceof Float) {
+                    floatCount--;
+                }
+            } else if (value instanceof String) {
+                stringCount--;
+            }
+        }
+
+        void clear() {
+            postings.clear();
+            numbers.clear();
+            numberCount = 0;
+            floatCount = 0;
+            stringCount = 0;
+        }
+
+        /**
+         * {@link IsIn} and {@link IsNotIn} compare numbers as {@link BigDecimal#valueOf(double)},
+         * so a {@link Float} is widened to a {@link Double} first
+         * (e.g., {@code 0.1f} becomes {@code 0.10000000149011612}),
+         * while the postings are keyed by decimal representation, as {@link IsEqualTo} compares numbers.
+         * Both agree, unless floats are compared with numbers of other types.
+         * <p>
+         * They also match strings against {@link UUID}s with {@link UUID#fromString(String)},
+         * which accepts other spellings (e.g., uppercase) than the one the postings are looked up with.
+         *
+         * @return whether the given values can be looked up in the postings with the semantics of {@link IsIn}
+         */
+        boolean canCompare(Collection<?> values) {
+            boolean floats = floatCount > 0;
+            boolean otherNumbers = numberCount > floatCount;
+            boolean comparesNumbers = false;
+            for (Object value : values) {
+                if (value instanceof UUID && stringCount > 0) {
+                    return false;
+                }
+                if (value instanceof Float) {
+                    floats = true;
+                    comparesNumbers = true;
+                } else if (value instanceof Number) {
+                    otherNumbers = true;
+                    comparesNumbers = true;
+                }
+            }
+            return !comparesNumbers || !(floats && otherNumbers);
+        }
+
+        BitSet equalTo(Object value) {
+            BitSet rows = new BitSet();
+            orInto(rows, value);
+            return rows;
+        }
+
+        BitSet in(Collection<?> values) {
+            BitSet rows = new BitSet();
+            for (Object value : values) {
+                orInto(rows, value);
+            }
+            return rows;
+        }
+
+        private void orInto(BitSet target, Object value) {
+            Postings rows = postings.get(normalize(value));
+            if (rows != null) {
+                rows.orInto(target);
+            }
+            if (value instanceof UUID) {
+                // UUIDs are also equal to their string representation
+                Postings strings = postings.get(value.toString());
+                if (strings != null) {
+                    strings.orInto(target);
+                }
+            }
+        }
+
+        /**
+         * Numbers of different types are equal if their decimal values are equal, see
+         * {@link dev.langchain4j.store.embedding.filter.comparison.IsEqualTo#test(Object)}.
+         */
+        private static Object normalize(Object value) {
+            if (value instanceof Number) {
+                return new BigDecimal(value.toString()).stripTrailingZeros();
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Rows containing a value. Kept as a sorted array while small, and as a bitset once it grows,
+     * so that values occurring in few rows (e.g. ids) don't cost a bitset as large as the store each.
+     */
+    private static class Postings {
+
+        private static final int MAX_ARRAY_SIZE = 256;
+
+        private int[] rows = new int[4];
+        private int size;
+        private BitSet bits;
+
+        void add(int row) {
+            if (bits != null) {
+                bits.set(row);
+                return;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                bits = new BitSet();
+                for (int i = 0; i < size; i++) {
+                    bits.set(rows[i]);
+                }
+                bits.set(row);
+                rows = null;
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            int index = Arrays.binarySearch(rows, 0, size, row);
+            if (index < 0) {
+                index = -index - 1;
+                System.arraycopy(rows, index, rows, index + 1, size - index);
+                rows[index] = row;
+                size++;
+            }
+        }
+
+        /**
+         * @return {@code true} if no rows are left
+         */
+        boolean remove(int row) {
+            if (bits != null) {
+                bits.clear(row);
+                return bits.isEmpty();
+            }
+            int index = Arrays.binarySearch(rows, 0, size, row);
+            if (index >= 0) {
+                System.arraycopy(rows, index + 1, rows, index, size - index - 1);
+                size--;
+            }
+            return size == 0;
+        }
+
+        void orInto(BitSet target) {
+            if (bits != null) {
+                target.or(bits);
+            } else {
+                for (int i = 0; i < size; i++) {
+                    target.set(rows[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Numeric values sorted by value, so that a range is found with two binary searches.
+     * Additions and removals only mark the index as unsorted, it is re-sorted on the next range query.
+     */
+    private static class NumericIndex {
+
+        private double[] valueByRow = new double[0];
+        private final BitSet rowsWithValue = new BitSet();
+
+        private boolean sorted = true;
+        private double[] sortedValues = new double[0];
+        private int[] sortedRows = new int[0];
+
+        void add(int row, double value) {
+            if (row >= valueByRow.length) {
+                valueByRow = Arrays.copyOf(valueByRow, Math.max(row + 1, valueByRow.length + (valueByRow.length >> 1)));
+            }
+            valueByRow[row] = value;
+            rowsWithValue.set(row);
+            sorted = false;
+        }
+
+        void remove(int row) {
+            rowsWithValue.clear(row);
+            sorted = false;
+        }
+
+        void clear() {
+            valueByRow = new double[0];
+            rowsWithValue.clear();
+            sorted = true;
+            sortedValues = new double[0];
+            sortedRows = new int[0];
+        }
+
+        /**
+         * Called concurrently by searches, hence synchronized: the lazy sort mutates the index.
+         */
+        synchronized BitSet between(double from, double to) {
+            if (!sorted) {
+                sort();
+            }
+            BitSet rows = new BitSet();
+            for (int i = lowerBound(from); i < sortedValues.length && sortedValues[i] <= to; i++) {
+                rows.set(sortedRows[i]);
+            }
+            return rows;
+        }
+
+        private void sort() {
+            int count = rowsWithValue.cardinality();
+            Integer[] order = new Integer[count];
+            int i = 0;
+            for (int row = rowsWithValue.nextSetBit(0); row >= 0; row = rowsWithValue.nextSetBit(row + 1)) {
+                order[i++] = row;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(valueByRow[a], valueByRow[b]));
+            sortedValues = new double[count];
+            sortedRows = new int[count];
+            for (i = 0; i < count; i++) {
+                sortedRows[i] = order[i];
+                sortedValues[i] = valueByRow[order[i]];
+            }
+            sorted = true;
+        }
+
+        private int lowerBound(double value) {
+            int low = 0;
+            int high = sortedValues.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sortedValues[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
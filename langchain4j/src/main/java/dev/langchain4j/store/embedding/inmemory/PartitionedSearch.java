@@ -0,0 +1,89 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Brute force top-k search over rows {@code [0, rowCount)}.
+ * <p>
+ * Small stores are scanned on the calling thread. Stores with at least {@code threshold} rows are split
+ * into contiguous chunks that are scanned concurrently on the {@link Executor}, one {@link TopK} per chunk.
+ * The chunk heaps are then merged. Since {@link TopK} breaks ties by row, the result does not depend
+ * on how the rows were partitioned and is identical to a sequential scan.
+ */
+class PartitionedSearch {
+
+    static final PartitionedSearch SEQUENTIAL = new PartitionedSearch(null, Integer.MAX_VALUE);
+
+    /**
+     * Below this size, the cost of scheduling a chunk outweighs the benefit of scanning it concurrently.
+     */
+    private static final int MIN_CHUNK_SIZE = 2048;
+
+    private final Executor executor;
+    private final int threshold;
+    private final int parallelism;
+
+    PartitionedSearch(Executor executor, int threshold) {
+        this.executor = executor;
+        this.threshold = threshold;
+        this.parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Scores the rows {@code [from, to)}, adding the ones that should be considered to {@code topK}.
+     * Called concurrently for disjoint ranges, so implementations must not share mutable state between calls.
+     */
+    interface RowScorer {
+
+        void score(int from, int to, TopK topK);
+    }
+
+    TopK search(int rowCount, int maxResults, RowScorer scorer) {
+        int chunks = executor == null || rowCount < threshold
+                ? 1
+                : Math.min(parallelism, (rowCount + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+        if (chunks <= 1) {
+            TopK topK = new TopK(maxResults);
+            scorer.score(0, rowCount, topK);
+            return topK;
+        }
+
+        int chunkSize = (rowCount + chunks - 1) / chunks;
+        List<CompletableFuture<TopK>> futures = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < rowCount; from += chunkSize) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(from + chunkSize, rowCount);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                TopK topK = new TopK(maxResults);
+                scorer.score(chunkFrom, chunkTo, topK);
+                return topK;
+            }, executor));
+        }
+
+        // the calling thread scans the first chunk instead of just waiting
+        TopK result = new TopK(maxResults);
+        scorer.score(0, Math.min(chunkSize, rowCount), result);
+
+        for (CompletableFuture<TopK> future : futures) {
+            try {
+                result.addAll(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * Defines whether an {@link InMemoryEmbeddingStore} keeps a compressed copy of its vectors,
+ * which is scanned instead of the full-precision vectors to select candidates.
+ * The candidates are then re-ranked using the full-precision vectors, so scores are always exact.
+ * <p>
+ * Quantization requires {@link StorageMode#HEAP_MATRIX} or {@link StorageMode#OFF_HEAP_MATRIX}.
+ * With {@link StorageMode#OFF_HEAP_MATRIX}, only the compressed vectors are kept on the Java heap.
+ *
+ * @see InMemoryEmbeddingStore.Builder#quantization(Quantization)
+ * @see InMemoryEmbeddingStore.Builder#oversampling(Integer)
+ */
+public enum Quantization {
+
+    /**
+     * Vectors are not quantized, the search scans the full-precision vectors. This is the default.
+     */
+    NONE(1),
+
+    /**
+     * Each dimension is mapped onto 256 levels (one byte) between the minimum and maximum value
+     * observed in that dimension. Uses 4 times less memory than {@code float} vectors.
+     */
+    INT8(3),
+
+    /**
+     * Only the sign of each dimension is kept (one bit), and candidates are ranked by Hamming distance.
+     * Uses 32 times less memory than {@code float} vectors, but needs a higher oversampling
+     * to reach a good recall. Works best with embeddings whose dimensions are centered around zero.
+     */
+    BINARY(10);
+
+    private final int defaultOversampling;
+
+    Quantization(int defaultOversampling) {
+        this.defaultOversampling = defaultOversampling;
+    }
+
+    int defaultOversampling() {
+        return defaultOversampling;
+    }
+}
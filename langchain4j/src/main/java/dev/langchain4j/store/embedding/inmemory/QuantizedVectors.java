@@ -0,0 +1,244 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Compressed copy of the rows of a {@link FloatMatrix}, used to quickly select candidates
+ * that are then re-ranked using the full-precision vectors.
+ * Like {@link FloatMatrix}, rows are split into fixed-size slabs so that it can grow without copying.
+ */
+abstract class QuantizedVectors {
+
+    private static final int BYTES_PER_SLAB = 1 << 20; // 1 MiB per slab
+
+    final int dimension;
+
+    private QuantizedVectors(int dimension) {
+        this.dimension = dimension;
+    }
+
+    static QuantizedVectors create(Quantization quantization, int dimension) {
+        switch (quantization) {
+            case INT8:
+                return new Int8(dimension);
+            case BINARY:
+                return new Binary(dimension);
+            default:
+                throw new IllegalArgumentException("Unsupported quantization: " + quantization);
+        }
+    }
+
+    /**
+     * Makes sure rows {@code [0, rows)} can be written.
+     */
+    abstract void ensureCapacity(int rows);
+
+    /**
+     * Adapts the encoding so that the given vector can be represented.
+     *
+     * @return {@code true} if the encoding has changed, in which case all rows written so far must be written again
+     */
+    abstract boolean adaptTo(float[] vector);
+
+    abstract void write(int row, float[] vector);
+
+    /**
+     * @return the number of bytes used per row
+     */
+    abstract int bytesPerRow();
+
+    /**
+     * Prepares the scoring of rows against the given query.
+     */
+    abstract Scorer scorer(float[] query, double queryNorm);
+
+    interface Scorer {
+
+        /**
+         * Returns an approximation of the cosine similarity between the query and the given row.
+         * Only meant to rank the rows, it is not guaranteed to be within {@code [-1, 1]}.
+         */
+        double approximateSimilarity(int row, double rowNorm);
+    }
+
+    /**
+     * Scalar quantization: each dimension is linearly mapped onto the range {@code [0, 255]}
+     * between the minimum and maximum value observed in that dimension.
+     */
+    private static class Int8 extends QuantizedVectors {
+
+        /**
+         * When a value falls outside the current range, the range is widened with some headroom,
+         * so that re-encoding all rows becomes increasingly rare as the store grows.
+         */
+        private static final float HEADROOM = 0.1f;
+        private final int rowsPerSlab;
+        private final int maxQuantizedWeight;
+        private final float[] min;
+        private final float[] max;
+        private final float[] step;
+        private boolean initialized;
+        private byte[][] slabs = new byte[0][];
+
+        Int8(int dimension) {
+            super(dimension);
+            this.rowsPerSlab = Math.max(1, BYTES_PER_SLAB / dimension);
+            // the sum of dimension * (weight * code) products must not overflow an int
+            this.maxQuantizedWeight = Math.min(Short.MAX_VALUE, Integer.MAX_VALUE / (255 * dimension));
+            this.min = new float[dimension];
+            this.max = new float[dimension];
+            this.step = new float[dimension];
+        }
+
+        @Override
+        void ensureCapacity(int rows) {
+            int requiredSlabs = (rows + rowsPerSlab - 1) / rowsPerSlab;
+            if (requiredSlabs > slabs.length) {
+                int oldLength = slabs.length;
+                slabs = Arrays.copyOf(slabs, requiredSlabs);
+                for (int i = oldLength; i < requiredSlabs; i++) {
+                    slabs[i] = new byte[rowsPerSlab * dimension];
+                }
+            }
+        }
+
+        @Override
+        boolean adaptTo(float[] vector) {
+            if (!initialized) {
+                System.arraycopy(vector, 0, min, 0, dimension);
+                System.arraycopy(vector, 0, max, 0, dimension);
+                initialized = true;
+                return true;
+            }
+            boolean changed = false;
+            for (int i = 0; i < dimension; i++) {
+                float value = vector[i];
+                if (value < min[i]) {
+                    min[i] = value - HEADROOM * (max[i] - value);
+                    changed = true;
+                } else if (value > max[i]) {
+                    max[i] = value + HEADROOM * (value - min[i]);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                for (int i = 0; i < dimension; i++) {
+                    step[i] = (max[i] - min[i]) / 255;
+                }
+            }
+            return changed;
+        }
+
+        @Override
+        void write(int row, float[] vector) {
+            byte[] slab = slabs[row / rowsPerSlab];
+            int offset = (row % rowsPerSlab) * dimension;
+            for (int i = 0; i < dimension; i++) {
+                int code = step[i] == 0 ? 0 : Math.round((vector[i] - min[i]) / step[i]);
+                slab[offset + i] = (byte) Math.max(0, Math.min(255, code));
+            }
+        }
+
+        @Override
+        int bytesPerRow() {
+            return dimension;
+        }
+
+        @Override
+        Scorer scorer(float[] query, double queryNorm) {
+            // query · (min + step * code) = query · min + (query * step) · code
+            // (query * step) is itself quantized to integers, so that the scan only needs integer arithmetic
+            float[] weights = new float[dimension];
+            float maxWeight = 0;
+            double constant = 0;
+            for (int i = 0; i < dimension; i++) {
+                weights[i] = query[i] * step[i];
+                maxWeight = Math.max(maxWeight, Math.abs(weights[i]));
+                constant += query[i] * min[i];
+            }
+            double weightScale = maxWeight == 0 ? 0 : maxWeight / maxQuantizedWeight;
+            int[] quantizedWeights = new int[dimension];
+            for (int i = 0; i < dimension; i++) {
+                quantizedWeights[i] = weightScale == 0 ? 0 : (int) Math.round(weights[i] / weightScale);
+            }
+            double offset = constant;
+            return (row, rowNorm) -> {
+                byte[] slab = slabs[row / rowsPerSlab];
+                int rowOffset = (row % rowsPerSlab) * dimension;
+                int sum = 0;
+                for (int i = 0; i < dimension; i++) {
+                    sum += quantizedWeights[i] * (slab[rowOffset + i] & 0xFF);
+                }
+                double dotProduct = offset + sum * weightScale;
+                return dotProduct / Math.max(rowNorm * queryNorm, 1e-8);
+            };
+        }
+    }
+
+    /**
+     * Binary quantization: only the sign of each dimension is kept, packed 64 dimensions per {@code long}.
+     */
+    private static class Binary extends QuantizedVectors {
+
+        private final int wordsPerRow;
+        private final int rowsPerSlab;
+        private long[][] slabs = new long[0][];
+
+        Binary(int dimension) {
+            super(dimension);
+            this.wordsPerRow = (dimension + Long.SIZE - 1) / Long.SIZE;
+            this.rowsPerSlab = Math.max(1, BYTES_PER_SLAB / Long.BYTES / wordsPerRow);
+        }
+
+        @Override
+        void ensureCapacity(int rows) {
+            int requiredSlabs = (rows + rowsPerSlab - 1) / rowsPerSlab;
+            if (requiredSlabs > slabs.length) {
+                int oldLength = slabs.length;
+                slabs = Arrays.copyOf(slabs, requiredSlabs);
+                for (int i = oldLength; i < requiredSlabs; i++) {
+                    slabs[i] = new long[rowsPerSlab * wordsPerRow];
+                }
+            }
+        }
+
+        @Override
+        boolean adaptTo(float[] vector) {
+            return false;
+        }
+
+        @Override
+        void write(int row, float[] vector) {
+            encode(vector, slabs[row / rowsPerSlab], (row % rowsPerSlab) * wordsPerRow);
+        }
+
+        @Override
+        int bytesPerRow() {
+            return wordsPerRow * Long.BYTES;
+        }
+
+        @Override
+        Scorer scorer(float[] query, double queryNorm) {
+            long[] queryBits = new long[wordsPerRow];
+            encode(query, queryBits, 0);
+            return (row, rowNorm) -> {
+                long[] slab = slabs[row / rowsPerSlab];
+                int rowOffset = (row % rowsPerSlab) * wordsPerRow;
+                int hammingDistance = 0;
+                for (int i = 0; i < wordsPerRow; i++) {
+                    hammingDistance += Long.bitCount(queryBits[i] ^ slab[rowOffset + i]);
+                }
+                return 1 - 2.0 * hammingDistance / dimension;
+            };
+        }
+
+        private void encode(float[] vector, long[] target, int offset) {
+            Arrays.fill(target, offset, offset + wordsPerRow, 0L);
+            for (int i = 0; i < dimension; i++) {
+                if (vector[i] > 0) {
+                    target[offset + (i >>> 6)] |= 1L << (i & 63);
+                }
+            }
+        }
+    }
+}
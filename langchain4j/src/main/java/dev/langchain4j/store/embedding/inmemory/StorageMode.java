@@ -0,0 +1,30 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * Defines how an {@link InMemoryEmbeddingStore} keeps its entries in memory.
+ *
+ * @see InMemoryEmbeddingStore.Builder#storageMode(StorageMode)
+ */
+public enum StorageMode {
+
+    /**
+     * Each entry is kept as a separate object holding its id, {@link dev.langchain4j.data.embedding.Embedding}
+     * and embedded object. This is the default mode.
+     */
+    ENTRIES,
+
+    /**
+     * Vectors of all entries are packed row by row into large {@code float[]} slabs on the Java heap,
+     * while ids and embedded objects are kept in parallel arrays.
+     * This avoids an {@code Embedding} and a {@code float[]} object per entry
+     * and lets the search stream over contiguous memory.
+     */
+    HEAP_MATRIX,
+
+    /**
+     * Same as {@link #HEAP_MATRIX}, but the vector slabs are allocated outside the Java heap
+     * (as direct {@link java.nio.ByteBuffer}s), so they are neither scanned nor copied by the garbage collector.
+     * The off-heap memory is released when the store becomes unreachable and is garbage collected.
+     */
+    OFF_HEAP_MATRIX
+}
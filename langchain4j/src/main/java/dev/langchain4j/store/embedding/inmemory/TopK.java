@@ -0,0 +1,117 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Bounded min-heap of (row, score) pairs that keeps the {@code k} highest scores seen so far,
+ * without allocating an object per candidate.
+ * <p>
+ * Equal scores are ordered by row (the lower row ranks higher), so the content of the heap
+ * does not depend on the order in which the rows were added.
+ */
+class TopK {
+
+    private static final int MAX_INITIAL_CAPACITY = 64;
+
+    private final int k;
+    private int[] rows;
+    private double[] scores;
+    private int size;
+
+    TopK(int k) {
+        this.k = k;
+        this.rows = new int[Math.min(k, MAX_INITIAL_CAPACITY)];
+        this.scores = new double[rows.length];
+    }
+
+    void add(int row, double score) {
+        if (size < k) {
+            if (size == rows.length) {
+                int newCapacity = (int) Math.min(k, 2L * size);
+                rows = Arrays.copyOf(rows, newCapacity);
+                scores = Arrays.copyOf(scores, newCapacity);
+            }
+            rows[size] = row;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (ranksHigher(row, score, 0)) {
+            rows[0] = row;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Adds all pairs of the given heap to this heap.
+     */
+    void addAll(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.rows[i], other.scores[i]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the rows ordered from the highest to the lowest score and empties the heap.
+     * The score of {@code rows[i]} is written into {@code scoresTarget[i]}.
+     */
+    int[] drainDescending(double[] scoresTarget) {
+        int count = size;
+        int[] result = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            result[i] = rows[0];
+            scoresTarget[i] = scores[0];
+            size--;
+            rows[0] = rows[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!ranksHigher(rows[parent], scores[parent], i)) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && ranksHigher(rows[left], scores[left], right)) {
+                smallest = right;
+            }
+            if (!ranksHigher(rows[i], scores[i], smallest)) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private boolean ranksHigher(int row, double score, int i) {
+        return score > scores[i] || (score == scores[i] && row < rows[i]);
+    }
+
+    private void swap(int i, int j) {
+        int row = rows[i];
+        rows[i] = rows[j];
+        rows[j] = row;
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
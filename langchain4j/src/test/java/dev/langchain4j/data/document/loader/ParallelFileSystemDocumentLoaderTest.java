@@ -0,0 +1,177 @@
+package dev.langchain4j.data.document.loader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParallelFileSystemDocumentLoaderTest implements WithAssertions {
+
+    @TempDir
+    Path directory;
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @BeforeEach
+    void createFiles() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            Files.write(directory.resolve(String.format("file-%02d.txt", i)), ("content " + i).getBytes(UTF_8));
+        }
+        Files.createDirectory(directory.resolve("subdirectory"));
+        Files.write(directory.resolve("subdirectory/nested.txt"), "nested".getBytes(UTF_8));
+        Files.write(directory.resolve("subdirectory/nested.md"), "nested markdown".getBytes(UTF_8));
+        Files.write(directory.resolve("blank.txt"), "   ".getBytes(UTF_8));
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_load_documents_in_the_order_of_the_files() throws IOException {
+
+        // given
+        ParallelFileSystemDocumentLoader loader = ParallelFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .executor(executor)
+                .concurrency(4)
+                .build();
+
+        List<String> expectedFileNames;
+        try (Stream<Path> files = Files.list(directory)) {
+            expectedFileNames = files.filter(Files::isRegularFile)
+                    .map(file -> file.getFileName().toString())
+                    .filter(fileName -> !fileName.equals("blank.txt"))
+                    .collect(toList());
+        }
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.loadDocuments(directory)) {
+            documents = stream.collect(toList());
+        }
+
+        // then
+        assertThat(documents)
+                .extracting(document -> document.metadata().getString(Document.FILE_NAME))
+                .containsExactlyElementsOf(expectedFileNames);
+        assertThat(documents).extracting(Document::text).contains("content 0", "content 19");
+    }
+
+    @Test
+    void should_recursively_load_matching_documents() {
+
+        // given
+        ParallelFileSystemDocumentLoader loader = ParallelFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .pathMatcher(FileSystems.getDefault().getPathMatcher("glob:**.txt"))
+                .recursive(true)
+                .executor(executor)
+                .build();
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.loadDocuments(directory.toString())) {
+            documents = stream.collect(toList());
+        }
+
+        // then
+        assertThat(documents).hasSize(21);
+        assertThat(documents).extracting(Document::text).contains("nested").doesNotContain("nested markdown");
+    }
+
+    @Test
+    void should_report_failures_without_stopping() {
+
+        // given
+        DocumentParser parser = inputStream -> {
+            String text = new TextDocumentParser().parse(inputStream).text();
+            if (text.endsWith("7")) {
+                throw new IllegalStateException("cannot parse " + text);
+            }
+            return Document.from(text);
+        };
+
+        Map<Path, Exception> failures = new ConcurrentHashMap<>();
+        ParallelFileSystemDocumentLoader loader = ParallelFileSystemDocumentLoader.builder()
+                .documentParser(parser)
+                .executor(executor)
+                .failureListener(failures::put)
+                .build();
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.loadDocuments(directory)) {
+            documents = stream.collect(toList());
+        }
+
+        // then
+        assertThat(documents).hasSize(18);
+        assertThat(failures).containsOnlyKeys(directory.resolve("file-07.txt"), directory.resolve("file-17.txt"));
+        assertThat(failures.get(directory.resolve("file-07.txt"))).hasRootCauseMessage("cannot parse content 7");
+    }
+
+    @Test
+    void should_not_load_more_files_than_concurrency_ahead_of_the_consumer() {
+
+        // given
+        AtomicInteger parsed = new AtomicInteger();
+        DocumentParser parser = inputStream -> {
+            parsed.incrementAndGet();
+            return new TextDocumentParser().parse(inputStream);
+        };
+
+        ParallelFileSystemDocumentLoader loader = ParallelFileSystemDocumentLoader.builder()
+                .documentParser(parser)
+                .executor(executor)
+                .concurrency(3)
+                .build();
+
+        // when
+        List<Document> consumed = new ArrayList<>();
+        try (Stream<Document> stream = loader.loadDocuments(directory)) {
+            Iterator<Document> iterator = stream.iterator();
+            consumed.add(iterator.next());
+            consumed.add(iterator.next());
+        }
+
+        // then
+        assertThat(consumed).hasSize(2);
+        assertThat(parsed.get()).isLessThanOrEqualTo(2 + 1 + 3); // consumed + blank + concurrency
+    }
+
+    @Test
+    void should_fail_when_path_is_not_a_directory() {
+
+        // given
+        ParallelFileSystemDocumentLoader loader = ParallelFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> loader.loadDocuments(directory.resolve("file-01.txt")))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageEndingWith("is not a directory");
+    }
+}
@@ -2,18 +2,26 @@ package dev.langchain4j.data.document.splitter;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_3_5_TURBO;
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class DocumentBySentenceSplitterTest {
 
@@ -174,4 +182,120 @@ class DocumentBySentenceSplitterTest {
                 textSegment(s18, metadata("index", "10").put("document", "0"))
         );
     }
+
+    @Test
+    void should_split_concurrently_with_the_same_splitter() throws Exception {
+
+        String[] fruits = {"apples", "pears", "plums", "cherries", "peaches"};
+        DocumentBySentenceSplitter splitter = new DocumentBySentenceSplitter(30, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String text = format("I like %s. You like %s.", fruits[i % 5], fruits[(i + 1) % 5]);
+                futures.add(executor.submit(() -> splitter.split(text)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get()).containsExactly(
+                        format("I like %s.", fruits[i % 5]),
+                        format("You like %s.", fruits[(i + 1) % 5]));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_split_all_documents_in_parallel_in_the_order_of_the_documents() {
+
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            documents.add(Document.from(
+                    format("This is a first sentence of %s. This is a second sentence of %s.", i, i),
+                    metadata("document", String.valueOf(i))
+            ));
+        }
+
+        DocumentBySentenceSplitter splitter = new DocumentBySentenceSplitter(40, 0);
+        List<TextSegment> expected = documents.stream()
+                .flatMap(document -> splitter.split(document).stream())
+                .collect(toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<TextSegment> segments = splitter.splitAll(documents, executor, 4);
+
+            assertThat(segments).hasSize(100).containsExactlyElementsOf(expected);
+            assertThat(segments.get(99)).isEqualTo(
+                    textSegment("This is a second sentence of 49.", metadata("index", "1").put("document", "49")));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(splitter.splitAll(documents)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void should_split_all_documents_on_the_calling_thread_by_default() {
+
+        // given
+        List<Thread> estimatingThreads = new CopyOnWriteArrayList<>();
+        TokenCountEstimator estimator = new TokenCountEstimator() {
+
+            @Override
+            public int estimateTokenCountInText(String text) {
+                estimatingThreads.add(Thread.currentThread());
+                return text.length();
+            }
+
+            @Override
+            public int estimateTokenCountInMessage(ChatMessage message) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        DocumentBySentenceSplitter splitter = new DocumentBySentenceSplitter(100, 0, estimator);
+
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            documents.add(Document.from(format("This is sentence %s. This is another one.", i)));
+        }
+
+        // when
+        List<TextSegment> segments = splitter.splitAll(documents);
+
+        // then
+        assertThat(segments).hasSize(20);
+        assertThat(estimatingThreads).isNotEmpty().containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    void should_propagate_failure_when_splitting_all_documents_in_parallel() {
+
+        DocumentSplitter failingSubSplitter = document -> {
+            throw new IllegalStateException("cannot split '" + document.text() + "'");
+        };
+        DocumentBySentenceSplitter splitter = new DocumentBySentenceSplitter(20, 0, null, failingSubSplitter);
+
+        List<Document> documents = List.of(
+                Document.from("Short sentence.", metadata("document", "0")),
+                Document.from("This sentence does not fit into a segment.", metadata("document", "1")),
+                Document.from("Short sentence.", metadata("document", "2"))
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThatThrownBy(() -> splitter.splitAll(documents, executor, 3))
+                    .isExactlyInstanceOf(IllegalStateException.class)
+                    .hasMessage("cannot split 'This sentence does not fit into a segment.'");
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
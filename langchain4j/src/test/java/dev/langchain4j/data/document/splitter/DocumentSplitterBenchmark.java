@@ -0,0 +1,107 @@
+package dev.langchain4j.data.document.splitter;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Splits a 5 MB document (the terms of use from {@code src/test/resources}, repeated)
+ * into segments of at most 300 tokens, counted with {@link OpenAiTokenCountEstimator}.
+ * <p>
+ * {@link #recursiveSplitter()} measures {@link DocumentSplitters#recursive(int, int, TokenCountEstimator)}.
+ * {@link #packWords(Blackhole)} packs the words of the document into segments with a {@link SegmentBuilder},
+ * the same way {@link HierarchicalDocumentSplitter} does, to compare the incremental size tracking
+ * with recomputing the size of the whole segment after each word.
+ * <p>
+ * Run {@link #main(String[])} with the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class DocumentSplitterBenchmark {
+
+    private static final int DOCUMENT_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_SEGMENT_SIZE_IN_TOKENS = 300;
+
+    TokenCountEstimator tokenCountEstimator = new OpenAiTokenCountEstimator(GPT_4_O_MINI);
+    Document document;
+    String[] words;
+
+    @Setup
+    public void setUp() throws IOException {
+        String text;
+        try (InputStream inputStream = getClass().getResourceAsStream("/miles-of-smiles-terms-of-use.txt")) {
+            text = new String(inputStream.readAllBytes(), UTF_8);
+        }
+        StringBuilder sb = new StringBuilder(DOCUMENT_SIZE + text.length());
+        while (sb.length() < DOCUMENT_SIZE) {
+            sb.append(text).append("\n\n");
+        }
+        document = Document.from(sb.toString());
+        words = new DocumentByWordSplitter(MAX_SEGMENT_SIZE_IN_TOKENS, 0).split(document.text());
+    }
+
+    @Benchmark
+    public List<?> recursiveSplitter() {
+        DocumentSplitter splitter = DocumentSplitters.recursive(MAX_SEGMENT_SIZE_IN_TOKENS, 30, tokenCountEstimator);
+        return splitter.split(document);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SizeTracking {
+
+        @Param({"incremental", "exact"})
+        String sizeTracking;
+    }
+
+    @Benchmark
+    public void packWords(SizeTracking sizeTracking, Blackhole blackhole) {
+        SegmentBuilder segmentBuilder = new SegmentBuilder(
+                MAX_SEGMENT_SIZE_IN_TOKENS,
+                tokenCountEstimator::estimateTokenCountInText,
+                " ",
+                sizeTracking.sizeTracking.equals("incremental"));
+        for (String word : words) {
+            int wordSize = segmentBuilder.sizeOf(word);
+            if (!segmentBuilder.hasSpaceFor(wordSize)) {
+                blackhole.consume(segmentBuilder.toString());
+                segmentBuilder.reset();
+            }
+            segmentBuilder.append(word, wordSize);
+        }
+        blackhole.consume(segmentBuilder.toString());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(DocumentSplitterBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -1,5 +1,7 @@
 package dev.langchain4j.data.document.splitter;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +67,70 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void incremental_by_words() {
+        SegmentBuilder builder = new SegmentBuilder(10, text -> text.split(" ").length, " ; ", true);
+
+        builder.append("one fish");
+
+        assertThat(builder.getSize()).isEqualTo(2);
+        assertThat(builder.hasSpaceFor("two fish")).isTrue();
+
+        builder.prepend("two fish");
+        assertThat(builder.getSize()).isEqualTo(5);
+
+        builder.append("rabbit rabbit rabbit");
+        assertThat(builder.getSize()).isEqualTo(9);
+
+        assertThat(builder.hasSpaceFor("two more")).isFalse();
+
+        assertThat(builder.toString()).isEqualTo("two fish ; one fish ; rabbit rabbit rabbit");
+    }
+
+    @Test
+    void incremental_should_recompute_size_only_when_sum_of_sizes_does_not_fit() {
+        List<String> sizedTexts = new ArrayList<>();
+        // a single word or separator counts as one, but separators between words count as nothing
+        SegmentBuilder builder = new SegmentBuilder(5, text -> {
+            sizedTexts.add(text);
+            return text.length() == 1 ? 1 : (text.length() + 1) / 2;
+        }, " ", true);
+        sizedTexts.clear();
+
+        builder.append("a", 1);
+        builder.append("b", 1);
+        assertThat(builder.hasSpaceFor(1)).isTrue(); // 1 + 1 + 1 + 1 + 1 <= 5
+        builder.append("c", 1);
+        assertThat(sizedTexts).isEmpty();
+
+        assertThat(builder.hasSpaceFor(1)).isTrue(); // 5 + 1 + 1 > 5, but "a b c" is 3
+        assertThat(sizedTexts).containsExactly("a b c");
+
+        builder.append("d", 1);
+        assertThat(builder.getSize()).isEqualTo(4);
+        assertThat(builder.toString()).isEqualTo("a b c d");
+    }
+
+    @Test
+    void incremental_should_make_same_decisions_as_exact_for_characters() {
+        String[] words = "The quick brown fox jumps over the lazy dog and keeps running far away".split(" ");
+        for (int maxSegmentSize : new int[] {5, 10, 17, 30}) {
+            assertThat(pack(words, new SegmentBuilder(maxSegmentSize, String::length, " ", true)))
+                    .isEqualTo(pack(words, new SegmentBuilder(maxSegmentSize, String::length, " ")));
+        }
+    }
+
+    private static List<String> pack(String[] words, SegmentBuilder builder) {
+        List<String> segments = new ArrayList<>();
+        for (String word : words) {
+            if (!builder.hasSpaceFor(word)) {
+                segments.add(builder.toString());
+                builder.reset();
+            }
+            builder.append(word);
+        }
+        segments.add(builder.toString());
+        return segments;
+    }
 }
@@ -0,0 +1,60 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-memory {@link AppendableChatMemoryStore}, to test the incremental writes of chat memories.
+ */
+class AppendableInMemoryChatMemoryStore implements AppendableChatMemoryStore {
+
+    private final Map<Object, List<ChatMessage>> messagesByMemoryId = new ConcurrentHashMap<>();
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        return new ArrayList<>(messagesByMemoryId.getOrDefault(memoryId, List.of()));
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        messagesByMemoryId.put(memoryId, new ArrayList<>(messages));
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        messagesByMemoryId.remove(memoryId);
+    }
+
+    @Override
+    public void appendMessages(Object memoryId, List<ChatMessage> messages) {
+        messagesByMemoryId
+                .computeIfAbsent(memoryId, ignored -> new ArrayList<>())
+                .addAll(messages);
+    }
+
+    @Override
+    public void evictOldest(Object memoryId, int count) {
+        List<ChatMessage> messages = messagesByMemoryId.getOrDefault(memoryId, new ArrayList<>());
+        int evicted = 0;
+        Iterator<ChatMessage> iterator = messages.iterator();
+        while (evicted < count && iterator.hasNext()) {
+            if (!(iterator.next() instanceof SystemMessage)) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+    }
+
+    @Override
+    public void replaceSystemMessage(Object memoryId, SystemMessage systemMessage) {
+        List<ChatMessage> messages = messagesByMemoryId.computeIfAbsent(memoryId, ignored -> new ArrayList<>());
+        SystemMessage.findFirst(messages).ifPresent(messages::remove);
+        messages.add(systemMessage);
+    }
+}
@@ -6,10 +6,14 @@ import static dev.langchain4j.data.message.UserMessage.userMessage;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.util.List;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -408,4 +412,75 @@ class MessageWindowChatMemoryTest implements WithAssertions {
         // then orphan toolExecutionResultMessage1 and toolExecutionResultMessage2 are evicted together with aiMessage
         assertThat(chatMemory.messages()).containsExactly(systemMessage, aiMessage2);
     }
+
+    @Test
+    void should_keep_the_same_messages_in_appendable_and_non_appendable_stores() {
+
+        // given
+        ChatMemoryStore appendableStore = new AppendableInMemoryChatMemoryStore();
+        ChatMemoryStore nonAppendableStore = new InMemoryChatMemoryStore();
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .maxMessages(3)
+                .chatMemoryStore(appendableStore)
+                .build();
+        ChatMemory referenceChatMemory = MessageWindowChatMemory.builder()
+                .maxMessages(3)
+                .chatMemoryStore(nonAppendableStore)
+                .build();
+
+        ToolExecutionRequest toolExecutionRequest = ToolExecutionRequest.builder()
+                .id("1")
+                .name("calculator")
+                .arguments("{}")
+                .build();
+        List<ChatMessage> messages = List.of(
+                userMessage("hello"),
+                systemMessage("be polite"),
+                aiMessage("hi"),
+                userMessage("2 + 2?"),
+                AiMessage.from(toolExecutionRequest),
+                ToolExecutionResultMessage.from(toolExecutionRequest, "4"),
+                systemMessage("be concise"),
+                aiMessage("4"),
+                userMessage("thanks"));
+
+        for (ChatMessage message : messages) {
+
+            // when
+            chatMemory.add(message);
+            referenceChatMemory.add(message);
+
+            // then
+            assertThat(appendableStore.getMessages(chatMemory.id()))
+                    .isEqualTo(nonAppendableStore.getMessages(referenceChatMemory.id()));
+            assertThat(chatMemory.messages()).isEqualTo(referenceChatMemory.messages());
+        }
+    }
+
+    @Test
+    void should_trim_an_appendable_store_holding_more_messages_than_the_window() {
+
+        // given
+        ChatMemoryStore store = new AppendableInMemoryChatMemoryStore();
+        store.updateMessages(
+                "id", List.of(userMessage("one"), aiMessage("two"), userMessage("three"), aiMessage("four")));
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .id("id")
+                .maxMessages(2)
+                .chatMemoryStore(store)
+                .build();
+
+        // when
+        chatMemory.add(userMessage("five"));
+
+        // then
+        assertThat(store.getMessages("id")).containsExactly(aiMessage("four"), userMessage("five"));
+
+        // when
+        chatMemory.add(aiMessage("six"));
+
+        // then
+        assertThat(store.getMessages("id")).containsExactly(userMessage("five"), aiMessage("six"));
+        assertThat(chatMemory.messages()).containsExactly(userMessage("five"), aiMessage("six"));
+    }
 }
@@ -18,6 +18,11 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiChatModelName;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -611,4 +616,112 @@ class TokenWindowChatMemoryTest implements WithAssertions {
                 OpenAiTokenCountEstimator(OpenAiChatModelName.GPT_3_5_TURBO));
         chatMemory.add(systemMessageWithTokens(10));
     }
+
+    @Test
+    void should_estimate_each_message_only_once() {
+
+        // given
+        CountingTokenCountEstimator estimator = new CountingTokenCountEstimator();
+        ChatMemory chatMemory = TokenWindowChatMemory.withMaxTokens(EXTRA_TOKENS_PER_REQUEST + 30, estimator);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            chatMemory.add(userMessageWithTokens(10));
+            chatMemory.messages();
+        }
+
+        // then
+        assertThat(chatMemory.messages()).hasSize(3);
+        assertThat(estimator.estimatedMessages).hasValue(20);
+        assertThat(estimator.estimatedMessageLists).hasValue(1);
+    }
+
+    @Test
+    void should_estimate_only_new_messages_when_store_is_changed_externally() {
+
+        // given
+        CountingTokenCountEstimator estimator = new CountingTokenCountEstimator();
+        ChatMemoryStore store = new InMemoryChatMemoryStore();
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(EXTRA_TOKENS_PER_REQUEST + 30, estimator)
+                .chatMemoryStore(store)
+                .build();
+
+        UserMessage first = userMessageWithTokens(10);
+        UserMessage second = userMessageWithTokens(10);
+        chatMemory.add(first);
+        chatMemory.add(second);
+
+        // when
+        UserMessage third = userMessageWithTokens(20);
+        List<ChatMessage> messages = new ArrayList<>(store.getMessages(chatMemory.id()));
+        messages.add(third);
+        store.updateMessages(chatMemory.id(), messages);
+
+        // then
+        assertThat(chatMemory.messages()).containsExactly(second, third);
+        assertThat(estimator.estimatedMessages).hasValue(3);
+    }
+
+    @Test
+    void should_keep_the_same_messages_in_appendable_and_non_appendable_stores() {
+
+        // given
+        ChatMemoryStore appendableStore = new AppendableInMemoryChatMemoryStore();
+        ChatMemoryStore nonAppendableStore = new InMemoryChatMemoryStore();
+        int maxTokens = EXTRA_TOKENS_PER_REQUEST + 40;
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(maxTokens, TOKEN_COUNT_ESTIMATOR)
+                .chatMemoryStore(appendableStore)
+                .build();
+        ChatMemory referenceChatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(maxTokens, TOKEN_COUNT_ESTIMATOR)
+                .chatMemoryStore(nonAppendableStore)
+                .build();
+
+        List<ChatMessage> messages = List.of(
+                userMessageWithTokens(10),
+                systemMessageWithTokens(10),
+                aiMessageWithTokens(10),
+                userMessageWithTokens(15),
+                systemMessageWithTokens(5),
+                aiMessageWithTokens(20),
+                userMessageWithTokens(50),
+                aiMessageWithTokens(5));
+
+        for (ChatMessage message : messages) {
+
+            // when
+            chatMemory.add(message);
+            referenceChatMemory.add(message);
+
+            // then
+            assertThat(appendableStore.getMessages(chatMemory.id()))
+                    .isEqualTo(nonAppendableStore.getMessages(referenceChatMemory.id()));
+            assertThat(chatMemory.messages()).isEqualTo(referenceChatMemory.messages());
+        }
+    }
+
+    private static class CountingTokenCountEstimator implements TokenCountEstimator {
+
+        private final AtomicInteger estimatedMessages = new AtomicInteger();
+        private final AtomicInteger estimatedMessageLists = new AtomicInteger();
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInText(text);
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            estimatedMessages.incrementAndGet();
+            return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessage(message);
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            estimatedMessageLists.incrementAndGet();
+            return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessages(messages);
+        }
+    }
 }
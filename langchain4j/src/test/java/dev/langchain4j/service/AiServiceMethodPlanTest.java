@@ -0,0 +1,128 @@
+package dev.langchain4j.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.Content;
+import dev.langchain4j.data.message.ImageContent;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class AiServiceMethodPlanTest {
+
+    interface Assistant {
+
+        String single(String it);
+
+        String vAnnotation(@V("customName") String name, @V("age") int age);
+
+        String vIt(@V("it") String special);
+
+        @SystemMessage("You are {{role}}")
+        @UserMessage("Hello {{name}}, {{it}}")
+        Result<String> annotated(
+                @MemoryId int memoryId, @UserName String userName, @V("name") String name, @V("it") String it);
+
+        String userMessageParameter(@UserMessage Object message, @V("it") String it);
+
+        @UserMessage("Describe")
+        String withContent(@UserMessage Content content, @V("x") String x);
+
+        String withMemoryIdOnly(@MemoryId String memoryId, @V("x") String x);
+    }
+
+    private static final ServiceOutputParser SERVICE_OUTPUT_PARSER = new ServiceOutputParser();
+
+    static Stream<Arguments> should_resolve_template_variables_like_InternalReflectionVariableResolver() {
+        return Stream.of(
+                Arguments.of("single", "Hi {{it}}", new Object[] {"VALUE"}),
+                Arguments.of("single", "Hi {{arg0}}", new Object[] {new String[] {"a", "b"}}),
+                Arguments.of("vAnnotation", "Hello {{customName}} {{age}}", new Object[] {"Sam", 23}),
+                Arguments.of("vIt", "Hi {{it}}", new Object[] {"special"}),
+                Arguments.of("annotated", "Hello {{name}}, {{it}}", new Object[] {1, "Klaus", "Sam", "it"}),
+                Arguments.of("userMessageParameter", "{{it}}", new Object[] {"message", "it"}));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void should_resolve_template_variables_like_InternalReflectionVariableResolver(
+            String methodName, String template, Object[] args) {
+
+        // given
+        Method method = method(methodName);
+        AiServiceMethodPlan plan = new AiServiceMethodPlan(method, false, SERVICE_OUTPUT_PARSER);
+
+        // when
+        var variables = plan.templateVariables(template, args);
+
+        // then
+        assertThat(variables)
+                .isEqualTo(InternalReflectionVariableResolver.findTemplateVariables(template, method, args));
+    }
+
+    @Test
+    void should_fail_when_it_cannot_be_resolved() {
+
+        // given
+        AiServiceMethodPlan plan = new AiServiceMethodPlan(method("withMemoryIdOnly"), false, SERVICE_OUTPUT_PARSER);
+
+        // when-then
+        assertThatThrownBy(() -> plan.templateVariables("{{it}}", new Object[] {"id", "x"}))
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+    }
+
+    @Test
+    void should_precompute_annotated_templates_and_parameter_roles() {
+
+        // given
+        AiServiceMethodPlan plan = new AiServiceMethodPlan(method("annotated"), false, SERVICE_OUTPUT_PARSER);
+        Object[] args = {7, "Klaus", "Sam", "friend"};
+
+        // then
+        assertThat(plan.returnsResult()).isTrue();
+        assertThat(plan.streaming()).isFalse();
+        assertThat(plan.moderated()).isFalse();
+        assertThat(plan.memoryId(args)).contains(7);
+        assertThat(plan.userName(args)).contains("Klaus");
+        assertThat(plan.systemMessageTemplate()).isEqualTo("You are {{role}}");
+        assertThat(plan.userMessageTemplate(args)).isEqualTo("Hello {{name}}, {{it}}");
+        assertThat(plan.userMessagePromptTemplate().template()).isEqualTo("Hello {{name}}, {{it}}");
+        assertThat(plan.contents(args)).hasValueSatisfying(contents -> assertThat(contents).containsOnlyNulls());
+        assertThat(plan.jsonSchema()).isSameAs(plan.jsonSchema());
+    }
+
+    @Test
+    void should_resolve_user_message_from_arguments() {
+
+        // given
+        AiServiceMethodPlan single = new AiServiceMethodPlan(method("single"), false, SERVICE_OUTPUT_PARSER);
+        AiServiceMethodPlan parameter =
+                new AiServiceMethodPlan(method("userMessageParameter"), false, SERVICE_OUTPUT_PARSER);
+        AiServiceMethodPlan content = new AiServiceMethodPlan(method("withContent"), false, SERVICE_OUTPUT_PARSER);
+        ImageContent image = ImageContent.from("https://example.com/cat.png");
+
+        // then
+        assertThat(single.userMessageTemplate(new Object[] {"Hi"})).isEqualTo("Hi");
+        assertThat(single.memoryId(new Object[] {"Hi"})).isEmpty();
+        assertThat(parameter.userMessageTemplate(new Object[] {42, "x"})).isEqualTo("42");
+        assertThat(content.userMessageTemplate(new Object[] {image, "x"})).isEqualTo("Describe");
+        assertThat(content.contents(new Object[] {image, "x"})).contains(Arrays.asList(null, image));
+        assertThat(parameter.contents(new Object[] {List.of(image), "x"})).contains(List.of(image));
+        assertThat(single.contents(new Object[] {"Hi"})).isEmpty();
+    }
+
+    private static Method method(String name) {
+        return Stream.of(Assistant.class.getMethods())
+                .filter(method -> method.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,160 @@
+package dev.langchain4j.service.guardrail;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.guardrail.OutputGuardrail;
+import dev.langchain4j.guardrail.OutputGuardrailException;
+import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.PartialOutputGuardrailRequest;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.TokenStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+class AiServiceStreamingGuardrailTests {
+
+    private static final String RESPONSE = "Hello world. The answer is 3.14!\nHow are you?";
+
+    private final List<String> partialResponses = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<ChatResponse> completeResponse = new CompletableFuture<>();
+
+    @Test
+    void should_pass_on_each_sentence_as_soon_as_it_is_validated() throws Exception {
+
+        // given
+        RecordingGuardrail guardrail = new RecordingGuardrail(partialResponses, null);
+        Assistant assistant = Assistant.create(guardrail);
+
+        // when
+        stream(assistant);
+
+        // then
+        assertThat(completeResponse.get(10, SECONDS).aiMessage().text()).isEqualTo(RESPONSE);
+        assertThat(partialResponses).containsExactly("Hello world.", " The answer is 3.14!\n", "How are you?");
+        assertThat(guardrail.responsesSoFar)
+                .containsExactly("Hello world.", "Hello world. The answer is 3.14!\n", RESPONSE);
+        // each sentence was passed on before the next one was validated
+        assertThat(guardrail.partialResponseCounts).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void should_abort_the_response_when_a_sentence_is_not_valid() {
+
+        // given
+        RecordingGuardrail guardrail = new RecordingGuardrail(partialResponses, "answer");
+        Assistant assistant = Assistant.create(guardrail);
+
+        // when
+        stream(assistant);
+
+        // then
+        assertThatThrownBy(() -> completeResponse.get(10, SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .cause()
+                .isExactlyInstanceOf(OutputGuardrailException.class)
+                .hasMessageContaining("Forbidden word: answer");
+        assertThat(partialResponses).containsExactly("Hello world.");
+        assertThat(guardrail.responsesSoFar).containsExactly("Hello world.", "Hello world. The answer is 3.14!\n");
+    }
+
+    @Test
+    void should_buffer_the_response_when_a_guardrail_needs_the_complete_response() throws Exception {
+
+        // given
+        RecordingGuardrail streamingGuardrail = new RecordingGuardrail(partialResponses, null);
+        OutputGuardrail completeResponseGuardrail = new OutputGuardrail() {
+            @Override
+            public OutputGuardrailResult validate(AiMessage responseFromLLM) {
+                return successWith(responseFromLLM.text().toUpperCase());
+            }
+        };
+        Assistant assistant = Assistant.create(streamingGuardrail, completeResponseGuardrail);
+
+        // when
+        stream(assistant);
+
+        // then
+        assertThat(completeResponse.get(10, SECONDS).aiMessage().text()).isEqualTo(RESPONSE.toUpperCase());
+        assertThat(partialResponses).containsExactly("Hello world.", " The answer is 3.14!\n", "How are you?");
+        // sentences were still validated while streaming, but only passed on once the response was complete
+        assertThat(streamingGuardrail.partialResponseCounts).containsExactly(0, 0, 0);
+    }
+
+    @Test
+    void should_abort_a_buffered_response_before_it_is_complete() {
+
+        // given
+        RecordingGuardrail streamingGuardrail = new RecordingGuardrail(partialResponses, "Hello");
+        OutputGuardrail completeResponseGuardrail = new OutputGuardrail() {
+            @Override
+            public OutputGuardrailResult validate(AiMessage responseFromLLM) {
+                throw new IllegalStateException("should not be called");
+            }
+        };
+        Assistant assistant = Assistant.create(streamingGuardrail, completeResponseGuardrail);
+
+        // when
+        stream(assistant);
+
+        // then
+        assertThatThrownBy(() -> completeResponse.get(10, SECONDS))
+                .cause()
+                .isExactlyInstanceOf(OutputGuardrailException.class)
+                .hasMessageContaining("Forbidden word: Hello");
+        assertThat(partialResponses).isEmpty();
+        assertThat(streamingGuardrail.responsesSoFar).containsExactly("Hello world.");
+    }
+
+    private void stream(Assistant assistant) {
+        assistant
+                .chat("Hi")
+                .onPartialResponse(partialResponses::add)
+                .onCompleteResponse(completeResponse::complete)
+                .onError(completeResponse::completeExceptionally)
+                .start();
+    }
+
+    interface Assistant {
+
+        TokenStream chat(String message);
+
+        static Assistant create(OutputGuardrail... guardrails) {
+            return AiServices.builder(Assistant.class)
+                    .streamingChatModel(StreamingChatModelMock.thatAlwaysStreams(RESPONSE))
+                    .outputGuardrails(guardrails)
+                    .build();
+        }
+    }
+
+    static class RecordingGuardrail implements StreamingOutputGuardrail {
+
+        private final List<String> partialResponses;
+        private final String forbiddenWord;
+        final List<String> responsesSoFar = new CopyOnWriteArrayList<>();
+        final List<Integer> partialResponseCounts = new CopyOnWriteArrayList<>();
+
+        RecordingGuardrail(List<String> partialResponses, String forbiddenWord) {
+            this.partialResponses = partialResponses;
+            this.forbiddenWord = forbiddenWord;
+        }
+
+        @Override
+        public OutputGuardrailResult validatePartialResponse(PartialOutputGuardrailRequest request) {
+            responsesSoFar.add(request.responseSoFar());
+            partialResponseCounts.add(partialResponses.size());
+            if (forbiddenWord != null && request.partialResponse().contains(forbiddenWord)) {
+                return failure("Forbidden word: " + forbiddenWord);
+            }
+            return success();
+        }
+    }
+}
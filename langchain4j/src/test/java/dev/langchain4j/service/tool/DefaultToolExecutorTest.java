@@ -9,6 +9,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import dev.langchain4j.agent.tool.Tool;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolMemoryId;
+import dev.langchain4j.exception.ToolArgumentsException;
+import dev.langchain4j.exception.ToolExecutionException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -576,4 +578,197 @@ class DefaultToolExecutorTest implements WithAssertions {
         // then
         assertThat(toolResult).isEqualTo(errorMessage);
     }
+
+    static class BindingTools {
+
+        @Tool
+        String describe(@ToolMemoryId String memoryId, String name, int age, ExampleEnum category, List<Person> friends) {
+            return memoryId + ":" + name + ":" + age + ":" + category + ":" + friends;
+        }
+
+        @Tool
+        static long twice(long value) {
+            return value * 2;
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            value = {
+                "true|{\"arg1\": \"Klaus\", \"unknown\": {\"a\": [1, 2]}, \"arg2\": 42.0, \"arg3\": \"b\", \"arg4\": [{\"name\": \"Peter\", \"age\": 43}]}",
+                "false|{\"arg1\": \"Klaus\", \"unknown\": {\"a\": [1, 2]}, \"arg2\": 42.0, \"arg3\": \"b\", \"arg4\": [{\"name\": \"Peter\", \"age\": 43}]}",
+                "true|\"{\\\"arg1\\\": \\\"Klaus\\\", \\\"arg2\\\": 42, \\\"arg3\\\": \\\"B\\\", \\\"arg4\\\": [{\\\"name\\\": \\\"Peter\\\", \\\"age\\\": 43},]}\"",
+            },
+            delimiter = '|')
+    void should_bind_arguments_the_same_way_with_and_without_parsing_into_map(
+            boolean bindArgumentsWhileParsing, String arguments) throws NoSuchMethodException {
+
+        // given
+        Method method = BindingTools.class.getDeclaredMethod(
+                "describe", String.class, String.class, int.class, ExampleEnum.class, List.class);
+        DefaultToolExecutor toolExecutor = DefaultToolExecutor.builder()
+                .object(new BindingTools())
+                .originalMethod(method)
+                .methodToInvoke(method)
+                .bindArgumentsWhileParsing(bindArgumentsWhileParsing)
+                .build();
+
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name("describe")
+                .arguments(arguments)
+                .build();
+
+        // when
+        String result = toolExecutor.execute(request, "user-1");
+
+        // then
+        assertThat(result).isEqualTo("user-1:Klaus:42:B:[Person[name=Peter, age=43]]");
+    }
+
+    @Test
+    void should_fail_binding_invalid_argument_while_parsing() throws NoSuchMethodException {
+
+        // given
+        Method method = BindingTools.class.getDeclaredMethod(
+                "describe", String.class, String.class, int.class, ExampleEnum.class, List.class);
+        DefaultToolExecutor toolExecutor = DefaultToolExecutor.builder()
+                .object(new BindingTools())
+                .originalMethod(method)
+                .methodToInvoke(method)
+                .bindArgumentsWhileParsing(true)
+                .wrapToolArgumentsExceptions(true)
+                .build();
+
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name("describe")
+                .arguments("{\"arg2\": 42.5}")
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> toolExecutor.execute(request, "user-1"))
+                .isExactlyInstanceOf(ToolArgumentsException.class)
+                .hasRootCauseMessage("Argument \"arg2\" has non-integer value for int: <42.5>");
+    }
+
+    @Test
+    void should_execute_static_tool_method() throws NoSuchMethodException {
+
+        // given
+        ToolExecutor toolExecutor =
+                new DefaultToolExecutor(new BindingTools(), BindingTools.class.getDeclaredMethod("twice", long.class));
+
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name("twice")
+                .arguments("{\"arg0\": 21}")
+                .build();
+
+        // when
+        String result = toolExecutor.execute(request, "default");
+
+        // then
+        assertThat(result).isEqualTo("42");
+    }
+
+    @Test
+    void should_fail_when_primitive_argument_is_missing() throws NoSuchMethodException {
+
+        // given
+        ToolExecutor toolExecutor =
+                new DefaultToolExecutor(new BindingTools(), BindingTools.class.getDeclaredMethod("twice", long.class));
+
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name("twice")
+                .arguments("{}")
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> toolExecutor.execute(request, "default"))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Argument \"arg0\" is missing, but is required for long");
+    }
+
+    @Test
+    void should_not_treat_argument_type_mismatch_as_tool_exception() throws NoSuchMethodException {
+
+        // given
+        Method method = BindingTools.class.getDeclaredMethod(
+                "describe", String.class, String.class, int.class, ExampleEnum.class, List.class);
+        ToolExecutor toolExecutor = DefaultToolExecutor.builder()
+                .object(new BindingTools())
+                .originalMethod(method)
+                .methodToInvoke(method)
+                .propagateToolExecutionExceptions(true)
+                .build();
+
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name("describe")
+                .arguments("{\"arg1\": \"Klaus\", \"arg2\": 42}")
+                .build();
+
+        // when-then
+        // the memory ID does not match the type of the @ToolMemoryId parameter
+        assertThatThrownBy(() -> toolExecutor.execute(request, 1))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("argument type mismatch: argument \"arg0\" of type java.lang.Integer "
+                        + "cannot be passed as java.lang.String");
+    }
+
+    @Test
+    void should_widen_primitive_arguments_like_reflection() throws NoSuchMethodException {
+
+        // given
+        class Tools {
+
+            @Tool
+            double half(@ToolMemoryId double value) {
+                return value / 2;
+            }
+        }
+
+        ToolExecutor toolExecutor =
+                new DefaultToolExecutor(new Tools(), Tools.class.getDeclaredMethod("half", double.class));
+
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name("half")
+                .arguments("{}")
+                .build();
+
+        // when
+        String result = toolExecutor.execute(request, 21);
+
+        // then
+        assertThat(result).isEqualTo("10.5");
+    }
+
+    @Test
+    void should_propagate_exception_thrown_by_tool_method() throws NoSuchMethodException {
+
+        // given
+        class Tools {
+
+            @Tool
+            private void tool() {
+                throw new IllegalStateException("something went wrong...");
+            }
+        }
+
+        Method method = Tools.class.getDeclaredMethod("tool");
+        ToolExecutor toolExecutor = DefaultToolExecutor.builder()
+                .object(new Tools())
+                .originalMethod(method)
+                .methodToInvoke(method)
+                .propagateToolExecutionExceptions(true)
+                .build();
+
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name("tool")
+                .arguments("{}")
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> toolExecutor.execute(request, "default"))
+                .isExactlyInstanceOf(ToolExecutionException.class)
+                .hasCauseExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("something went wrong...");
+    }
 }
@@ -0,0 +1,256 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests if {@link InMemoryEmbeddingStore} works correctly after being written to a binary snapshot and loaded back.
+ */
+class InMemoryEmbeddingStoreSnapshotTest extends EmbeddingStoreWithFilteringIT {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        Path filePath = temporaryDirectory.resolve("embedding-store-" + UUID.randomUUID() + ".bin");
+        embeddingStore.serializeToSnapshot(filePath);
+        embeddingStore = InMemoryEmbeddingStore.fromSnapshot(filePath);
+        return embeddingStore;
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    void should_write_and_load_snapshot(StorageMode storageMode) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> originalStore = InMemoryEmbeddingStore.builder()
+                .storageMode(storageMode)
+                .build();
+        Metadata metadata = new Metadata()
+                .put("string", "ünïcödé")
+                .put("uuid", UUID.randomUUID())
+                .put("integer", 1)
+                .put("long", Long.MAX_VALUE)
+                .put("float", 1.5f)
+                .put("double", Math.PI);
+
+        // more entries than fit into a single slab, so that both mapped and copied slabs are used
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 6_000; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding(random, 384));
+            segments.add(i % 2 == 0 ? TextSegment.from("text " + i, metadata) : null);
+        }
+        originalStore.addAll(ids, embeddings, segments);
+        originalStore.removeAll(asList("id-0", "id-1"));
+
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+
+        // when
+        originalStore.serializeToSnapshot(filePath);
+        InMemoryEmbeddingStore<TextSegment> loadedStore = InMemoryEmbeddingStore.fromSnapshot(filePath);
+        InMemoryEmbeddingStore<TextSegment> loadedIntoEntries =
+                InMemoryEmbeddingStore.fromSnapshot(filePath, InMemoryEmbeddingStore.builder());
+
+        // then
+        assertThat(loadedStore.allEntries()).containsExactlyInAnyOrderElementsOf(originalStore.allEntries());
+        assertThat(loadedIntoEntries.entries).containsExactlyInAnyOrderElementsOf(originalStore.allEntries());
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(5_999))
+                .maxResults(10)
+                .build();
+        assertThat(loadedStore.search(request).matches()).isEqualTo(originalStore.search(request).matches());
+    }
+
+    @Test
+    void should_add_and_remove_entries_after_loading_snapshot() throws IOException {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> originalStore = new InMemoryEmbeddingStore<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 3_000; i++) {
+            originalStore.add("id-" + i, randomEmbedding(random, 384));
+        }
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        originalStore.serializeToSnapshot(filePath.toString());
+        byte[] snapshotBytes = Files.readAllBytes(filePath);
+
+        InMemoryEmbeddingStore<TextSegment> loadedStore = InMemoryEmbeddingStore.fromSnapshot(filePath.toString());
+        Embedding embedding = randomEmbedding(random, 384);
+
+        // when
+        loadedStore.removeAll(asList("id-0"));
+        loadedStore.add("new", embedding); // reuses the row of "id-0", which is memory-mapped
+
+        // then
+        List<EmbeddingMatch<TextSegment>> matches = loadedStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(1)
+                .build()).matches();
+        assertThat(matches.get(0).embeddingId()).isEqualTo("new");
+        assertThat(matches.get(0).embedding()).isEqualTo(embedding);
+        assertThat(Files.readAllBytes(filePath)).isEqualTo(snapshotBytes);
+    }
+
+    @Test
+    void should_save_store_back_to_the_snapshot_it_was_loaded_from() throws IOException {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> originalStore = new InMemoryEmbeddingStore<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 6_000; i++) {
+            originalStore.add("id-" + i, randomEmbedding(random, 384), TextSegment.from("text " + i));
+        }
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        originalStore.serializeToSnapshot(filePath);
+
+        InMemoryEmbeddingStore<TextSegment> loadedStore = InMemoryEmbeddingStore.fromSnapshot(filePath);
+        Embedding embedding = randomEmbedding(random, 384);
+        loadedStore.add("new", embedding, TextSegment.from("new text"));
+
+        // when
+        loadedStore.serializeToSnapshot(filePath);
+
+        // then
+        InMemoryEmbeddingStore<TextSegment> reloadedStore = InMemoryEmbeddingStore.fromSnapshot(filePath);
+        assertThat(reloadedStore.allEntries()).containsExactlyInAnyOrderElementsOf(loadedStore.allEntries());
+
+        // the loaded store still reads its vectors from the replaced snapshot
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(10)
+                .build();
+        assertThat(loadedStore.search(request).matches()).isEqualTo(reloadedStore.search(request).matches());
+        assertThat(loadedStore.allEntries()).hasSize(6_001);
+
+        try (Stream<Path> files = Files.list(temporaryDirectory)) {
+            assertThat(files).noneMatch(file -> file.toString().endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    void should_fail_to_load_invalid_snapshot() throws IOException {
+
+        Path filePath = temporaryDirectory.resolve("embedding-store.json");
+        new InMemoryEmbeddingStore<TextSegment>().serializeToFile(filePath);
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.fromSnapshot(filePath))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'%s' is not an InMemoryEmbeddingStore snapshot", filePath);
+
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.fromSnapshot(temporaryDirectory.resolve("missing/store.bin")))
+                .withCauseInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    void should_fail_to_load_snapshot_with_corrupt_header() throws IOException {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add("id", Embedding.from(new float[] {1, 2}), TextSegment.from("text"));
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        store.serializeToSnapshot(filePath);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // when-then
+        Files.write(filePath, withHeader(snapshot, 2, -1));
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.fromSnapshot(filePath))
+                .cause()
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("Snapshot '%s' is corrupt: invalid dimension (2) or number of entries (-1)", filePath);
+
+        Files.write(filePath, withHeader(snapshot, 2, Integer.MAX_VALUE / Double.BYTES));
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.fromSnapshot(filePath))
+                .cause()
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("Snapshot '%s' is truncated: %s entries of dimension 2 do not fit in %s bytes",
+                        filePath, Integer.MAX_VALUE / Double.BYTES, snapshot.length);
+
+        Files.write(filePath, withHeader(snapshot, Integer.MAX_VALUE, 1));
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.fromSnapshot(filePath))
+                .cause()
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("Snapshot '%s' is truncated: 1 entries of dimension %s do not fit in %s bytes",
+                        filePath, Integer.MAX_VALUE, snapshot.length);
+    }
+
+    private static byte[] withHeader(byte[] snapshot, int dimension, int count) {
+        byte[] copy = snapshot.clone();
+        ByteBuffer.wrap(copy).order(ByteOrder.LITTLE_ENDIAN).putInt(8, dimension).putInt(12, count);
+        return copy;
+    }
+
+    @Test
+    void should_fail_to_write_unsupported_embedded_objects() throws IOException {
+
+        InMemoryEmbeddingStore<String> store = new InMemoryEmbeddingStore<>();
+        store.add(Embedding.from(new float[] {1, 2}), "not a text segment");
+
+        assertThatThrownBy(() -> store.serializeToSnapshot(temporaryDirectory.resolve("embedding-store.bin")))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Snapshots only support embedded objects of type dev.langchain4j.data.segment.TextSegment, "
+                        + "but found: java.lang.String");
+
+        // neither the snapshot nor its temporary file is left behind
+        assertThat(temporaryDirectory.resolve("embedding-store.bin")).doesNotExist();
+        try (Stream<Path> files = Files.list(temporaryDirectory)) {
+            assertThat(files).noneMatch(file -> file.toString().endsWith(".tmp"));
+        }
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,160 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryEmbeddingStoreWithHnswIndexTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.builder()
+            .hnswIndex(HnswIndexConfig.defaultConfig())
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_find_approximately_the_same_matches_as_brute_force_search() {
+
+        // given
+        InMemoryEmbeddingStore<String> bruteForceStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<String> hnswStore = InMemoryEmbeddingStore.builder()
+                .hnswIndex(HnswIndexConfig.builder()
+                        .m(16)
+                        .efConstruction(100)
+                        .efSearch(100)
+                        .seed(42L)
+                        .build())
+                .build();
+
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding(random, 32));
+        }
+        List<String> embedded = new ArrayList<>(ids);
+        bruteForceStore.addAll(ids, embeddings, embedded);
+        hnswStore.addAll(ids, embeddings, embedded);
+
+        // when
+        int found = 0;
+        int expected = 0;
+        for (int i = 0; i < 50; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random, 32))
+                    .maxResults(10)
+                    .build();
+            Set<String> exact = ids(bruteForceStore.search(request).matches());
+            Set<String> approximate = ids(hnswStore.search(request).matches());
+            approximate.retainAll(exact);
+            found += approximate.size();
+            expected += exact.size();
+        }
+
+        // then
+        assertThat((double) found / expected).isGreaterThan(0.95);
+    }
+
+    @Test
+    void should_not_find_removed_entries() {
+
+        // given
+        InMemoryEmbeddingStore<String> store = InMemoryEmbeddingStore.builder()
+                .hnswIndex(HnswIndexConfig.builder().m(4).seed(42L).build())
+                .build();
+
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding(random, 16));
+        }
+        store.addAll(ids, embeddings, new ArrayList<>(ids));
+
+        // when
+        List<String> removedIds = ids.stream().filter(id -> id.hashCode() % 3 != 0).collect(toList());
+        store.removeAll(removedIds);
+
+        // then
+        List<EmbeddingMatch<String>> matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(1))
+                        .maxResults(300)
+                        .build())
+                .matches();
+        assertThat(ids(matches))
+                .hasSize(ids.size() - removedIds.size())
+                .doesNotContainAnyElementsOf(removedIds);
+    }
+
+    @Test
+    void should_build_the_same_graph_with_the_same_seed() {
+
+        // given
+        HnswIndexConfig config = HnswIndexConfig.builder().m(4).efSearch(10).seed(7L).build();
+        InMemoryEmbeddingStore<String> store = InMemoryEmbeddingStore.builder().hnswIndex(config).build();
+        InMemoryEmbeddingStore<String> sameStore = InMemoryEmbeddingStore.builder().hnswIndex(config).build();
+
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding(random, 16));
+        }
+        store.addAll(ids, embeddings, new ArrayList<>(ids));
+        sameStore.addAll(ids, embeddings, new ArrayList<>(ids));
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 16))
+                .maxResults(10)
+                .build();
+
+        // then
+        assertThat(store.search(request).matches()).isEqualTo(sameStore.search(request).matches());
+    }
+
+    private static Set<String> ids(List<? extends EmbeddingMatch<?>> matches) {
+        return matches.stream().map(EmbeddingMatch::embeddingId).collect(toSet());
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
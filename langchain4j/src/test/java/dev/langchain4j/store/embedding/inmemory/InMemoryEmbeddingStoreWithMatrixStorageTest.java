@@ -0,0 +1,214 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.SimilarityMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryEmbeddingStoreWithMatrixStorageTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.builder()
+            .storageMode(StorageMode.HEAP_MATRIX)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @ParameterizedTest
+    @EnumSource(value = StorageMode.class, names = {"HEAP_MATRIX", "OFF_HEAP_MATRIX"})
+    void should_find_the_same_matches_as_entries_storage(StorageMode storageMode) {
+
+        // given
+        InMemoryEmbeddingStore<String> entriesStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<String> matrixStore = InMemoryEmbeddingStore.builder()
+                .storageMode(storageMode)
+                .build();
+
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding(random, 384));
+        }
+        entriesStore.addAll(ids, embeddings, ids);
+        matrixStore.addAll(ids, embeddings, ids);
+
+        List<String> removedIds = ids.subList(100, 200);
+        entriesStore.removeAll(removedIds);
+        matrixStore.removeAll(removedIds);
+        matrixStore.add("reused-row", embeddings.get(150), "reused-row");
+        entriesStore.add("reused-row", embeddings.get(150), "reused-row");
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(150))
+                .maxResults(20)
+                .build();
+        List<EmbeddingMatch<String>> expected = entriesStore.search(request).matches();
+        List<EmbeddingMatch<String>> actual = matrixStore.search(request).matches();
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get(0).embeddingId()).isEqualTo("reused-row");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SimilarityMetric.class, names = {"DOT_PRODUCT", "EUCLIDEAN"})
+    void should_find_the_same_matches_as_cosine_metric_for_normalized_embeddings(SimilarityMetric metric) {
+
+        // given
+        InMemoryEmbeddingStore<String> cosineStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<String> metricStore = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .similarityMetric(metric)
+                .build();
+
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Embedding embedding = randomEmbedding(random, 384);
+            embedding.normalize();
+            ids.add("id-" + i);
+            embeddings.add(embedding);
+        }
+        cosineStore.addAll(ids, embeddings, ids);
+        metricStore.addAll(ids, embeddings, ids);
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(42))
+                .maxResults(20)
+                .build();
+        List<EmbeddingMatch<String>> expected = cosineStore.search(request).matches();
+        List<EmbeddingMatch<String>> actual = metricStore.search(request).matches();
+
+        // then
+        assertThat(actual).extracting(EmbeddingMatch::embeddingId)
+                .containsExactlyElementsOf(expected.stream().map(EmbeddingMatch::embeddingId).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).score()).isCloseTo(expected.get(i).score(), within(1e-6));
+        }
+    }
+
+    @Test
+    void should_serialize_to_and_deserialize_from_json() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.OFF_HEAP_MATRIX)
+                .build();
+        TextSegment segment = TextSegment.from("first", Metadata.from("key", "value"));
+        store.add("1", embeddingModel.embed(segment).content(), segment);
+
+        // when
+        InMemoryEmbeddingStore<TextSegment> deserialized = InMemoryEmbeddingStore.fromJson(store.serializeToJson());
+
+        // then
+        assertThat(deserialized.entries).hasSize(1);
+        assertThat(deserialized.entries.get(0).id).isEqualTo("1");
+        assertThat(deserialized.entries.get(0).embedded).isEqualTo(segment);
+        assertThat(deserialized.entries.get(0).embedding).isEqualTo(embeddingModel.embed(segment).content());
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    void should_calculate_the_norms_of_the_entries_with_the_configured_kernel(StorageMode storageMode) {
+
+        // given a kernel whose dot products, and therefore norms, are scaled:
+        // cosine similarities are only correct if the entry and query norms are calculated with it
+        SimilarityKernel scaledKernel = new SimilarityKernel() {
+
+            @Override
+            public double dotProduct(float[] a, int aOffset, float[] b, int bOffset, int length) {
+                return 4 * SimilarityKernel.scalar().dotProduct(a, aOffset, b, bOffset, length);
+            }
+
+            @Override
+            public double squaredEuclideanDistance(float[] a, int aOffset, float[] b, int bOffset, int length) {
+                return SimilarityKernel.scalar().squaredEuclideanDistance(a, aOffset, b, bOffset, length);
+            }
+        };
+        InMemoryEmbeddingStore<String> store = InMemoryEmbeddingStore.builder()
+                .storageMode(storageMode)
+                .similarityKernel(scaledKernel)
+                .build();
+        Embedding embedding = randomEmbedding(new Random(42), 384);
+        store.add(embedding);
+
+        // when
+        List<EmbeddingMatch<String>> matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding)
+                        .build())
+                .matches();
+
+        // then
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).score()).isCloseTo(1, within(1e-6));
+    }
+
+    @Test
+    void should_fail_to_add_embedding_of_different_dimension() {
+
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .build();
+        store.add(Embedding.from(new float[] {1, 2, 3}));
+
+        assertThatThrownBy(() -> store.add(Embedding.from(new float[] {1, 2})))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Length of vector (2) must be equal to the dimension of the store (3)");
+    }
+
+    @Test
+    void should_fail_to_combine_matrix_storage_with_hnsw_index() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder()
+                        .storageMode(StorageMode.HEAP_MATRIX)
+                        .hnswIndex(HnswIndexConfig.defaultConfig())
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("HNSW index can only be used with ENTRIES storage mode");
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,299 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.store.embedding.filter.Filter.and;
+import static dev.langchain4j.store.embedding.filter.Filter.not;
+import static dev.langchain4j.store.embedding.filter.Filter.or;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryEmbeddingStoreWithMetadataIndexTest extends EmbeddingStoreWithFilteringIT {
+
+    private static final UUID TENANT_UUID = UUID.randomUUID();
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.builder()
+            .storageMode(StorageMode.HEAP_MATRIX)
+            .indexedMetadataKeys("key", "key2", "name", "age", "city")
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    static Stream<Filter> should_find_the_same_matches_as_without_index() {
+        return Stream.of(
+                metadataKey("tenant").isEqualTo("tenant-7"),
+                metadataKey("tenant").isEqualTo(TENANT_UUID),
+                metadataKey("tenant").isNotEqualTo("tenant-7"),
+                metadataKey("tenant").isIn("tenant-1", "tenant-2"),
+                metadataKey("tenant").isNotIn("tenant-1", "tenant-2"),
+                metadataKey("year").isEqualTo(2020L),
+                metadataKey("year").isEqualTo(2020.0),
+                metadataKey("year").isIn(2001, 2002.0f),
+                metadataKey("year").isGreaterThan(2010),
+                metadataKey("year").isGreaterThanOrEqualTo(2010.0),
+                metadataKey("year").isLessThan(2010L),
+                metadataKey("year").isLessThanOrEqualTo(2010),
+                and(metadataKey("tenant").isEqualTo("tenant-3"), metadataKey("year").isGreaterThan(2005)),
+                and(metadataKey("tenant").isEqualTo("tenant-3"), metadataKey("text").containsString("1")),
+                or(metadataKey("tenant").isEqualTo("tenant-3"), metadataKey("year").isLessThan(2003)),
+                or(metadataKey("tenant").isEqualTo("tenant-3"), metadataKey("text").containsString("1")),
+                not(metadataKey("tenant").isEqualTo("tenant-3")),
+                not(metadataKey("year").isGreaterThan(2010)),
+                not(and(metadataKey("tenant").isIn("tenant-3", "tenant-4"), metadataKey("year").isEqualTo(2020))));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void should_find_the_same_matches_as_without_index(Filter filter) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> storeWithoutIndex = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .build();
+        InMemoryEmbeddingStore<TextSegment> storeWithIndex = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .indexedMetadataKeys("tenant", "year")
+                .build();
+
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Metadata metadata = new Metadata().put("text", "text " + i);
+            if (i % 10 != 0) {
+                metadata.put("tenant", i % 7 == 0 ? TENANT_UUID.toString() : "tenant-" + random.nextInt(10));
+            }
+            if (i % 11 != 0) {
+                if (i % 2 == 0) {
+                    metadata.put("year", 2000 + random.nextInt(25));
+                } else {
+                    metadata.put("year", 2000.0 + random.nextInt(25));
+                }
+            }
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding(random, 32));
+            segments.add(i % 100 == 0 ? null : TextSegment.from("text " + i, metadata));
+        }
+        storeWithoutIndex.addAll(ids, embeddings, segments);
+        storeWithIndex.addAll(ids, embeddings, segments);
+
+        List<String> removedIds = ids.subList(500, 700);
+        storeWithoutIndex.removeAll(removedIds);
+        storeWithIndex.removeAll(removedIds);
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 32))
+                .filter(filter)
+                .maxResults(2_000)
+                .build();
+
+        // then
+        assertThat(storeWithIndex.search(request).matches())
+                .isNotEmpty()
+                .isEqualTo(storeWithoutIndex.search(request).matches());
+    }
+
+    static Stream<Filter> should_find_the_same_matches_as_without_index_when_mixing_floats_and_doubles() {
+        return Stream.of(
+                metadataKey("score").isIn(0.1),
+                metadataKey("score").isIn(0.1f),
+                metadataKey("score").isIn((double) 0.1f),
+                metadataKey("score").isIn(0.1f, 0.5),
+                metadataKey("score").isNotIn(0.1),
+                metadataKey("score").isNotIn(0.1f),
+                not(metadataKey("score").isIn(0.1)),
+                not(metadataKey("score").isIn(0.1f)),
+                metadataKey("score").isEqualTo(0.1),
+                metadataKey("score").isEqualTo(0.1f));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void should_find_the_same_matches_as_without_index_when_mixing_floats_and_doubles(Filter filter) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> storeWithoutIndex = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .build();
+        InMemoryEmbeddingStore<TextSegment> storeWithIndex = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .indexedMetadataKeys("score")
+                .build();
+
+        Random random = new Random(42);
+        List<Number> scores = asList(0.1f, 0.1, (double) 0.1f, 0.5f, 0.5);
+        for (int i = 0; i < scores.size(); i++) {
+            Metadata metadata = new Metadata();
+            if (scores.get(i) instanceof Float) {
+                metadata.put("score", (Float) scores.get(i));
+            } else {
+                metadata.put("score", (Double) scores.get(i));
+            }
+            Embedding embedding = randomEmbedding(random, 32);
+            TextSegment segment = TextSegment.from("text " + i, metadata);
+            storeWithoutIndex.add("id-" + i, embedding, segment);
+            storeWithIndex.add("id-" + i, embedding, segment);
+        }
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 32))
+                .filter(filter)
+                .maxResults(10)
+                .build();
+
+        // then
+        assertThat(storeWithIndex.search(request).matches())
+                .isNotEmpty()
+                .isEqualTo(storeWithoutIndex.search(request).matches());
+    }
+
+    static Stream<Filter> should_find_the_same_matches_as_without_index_when_comparing_float_ranges() {
+        return Stream.of(
+                metadataKey("price").isLessThanOrEqualTo(0.1),
+                metadataKey("price").isLessThanOrEqualTo(0.1f),
+                metadataKey("price").isGreaterThanOrEqualTo(0.1),
+                metadataKey("price").isGreaterThan(0.1),
+                metadataKey("price").isLessThan(0.2),
+                metadataKey("price").isGreaterThanOrEqualTo(0.2),
+                metadataKey("price").isLessThanOrEqualTo(0.3));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void should_find_the_same_matches_as_without_index_when_comparing_float_ranges(Filter filter) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> storeWithoutIndex = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .build();
+        InMemoryEmbeddingStore<TextSegment> storeWithIndex = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .indexedMetadataKeys("price")
+                .build();
+
+        Random random = new Random(42);
+        List<Float> prices = asList(0.1f, 0.2f, 0.3f);
+        for (int i = 0; i < prices.size(); i++) {
+            Metadata metadata = new Metadata().put("price", prices.get(i));
+            Embedding embedding = randomEmbedding(random, 32);
+            TextSegment segment = TextSegment.from("text " + i, metadata);
+            storeWithoutIndex.add("id-" + i, embedding, segment);
+            storeWithIndex.add("id-" + i, embedding, segment);
+        }
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 32))
+                .filter(filter)
+                .maxResults(10)
+                .build();
+
+        // then
+        assertThat(storeWithIndex.search(request).matches())
+                .isNotEmpty()
+                .isEqualTo(storeWithoutIndex.search(request).matches());
+    }
+
+    private static final UUID USER_ID = UUID.fromString("3f2504e0-4f89-41d3-9a0c-0305e82c3301");
+
+    static Stream<Filter> should_find_the_same_matches_as_without_index_when_comparing_uuids_with_strings() {
+        return Stream.of(
+                metadataKey("userId").isIn(USER_ID),
+                metadataKey("userId").isNotIn(USER_ID),
+                not(metadataKey("userId").isIn(USER_ID)),
+                metadataKey("userId").isEqualTo(USER_ID),
+                metadataKey("userId").isNotEqualTo(USER_ID));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void should_find_the_same_matches_as_without_index_when_comparing_uuids_with_strings(Filter filter) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> storeWithoutIndex = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .build();
+        InMemoryEmbeddingStore<TextSegment> storeWithIndex = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .indexedMetadataKeys("userId")
+                .build();
+
+        Random random = new Random(42);
+        List<String> userIds = asList(
+                USER_ID.toString(), USER_ID.toString().toUpperCase(), UUID.randomUUID().toString());
+        for (int i = 0; i < userIds.size(); i++) {
+            Metadata metadata = new Metadata().put("userId", userIds.get(i));
+            Embedding embedding = randomEmbedding(random, 32);
+            TextSegment segment = TextSegment.from("text " + i, metadata);
+            storeWithoutIndex.add("id-" + i, embedding, segment);
+            storeWithIndex.add("id-" + i, embedding, segment);
+        }
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 32))
+                .filter(filter)
+                .maxResults(10)
+                .build();
+
+        // then
+        assertThat(storeWithIndex.search(request).matches())
+                .isNotEmpty()
+                .isEqualTo(storeWithoutIndex.search(request).matches());
+    }
+
+    @Test
+    void should_fail_to_use_metadata_index_with_entries_storage() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder()
+                        .indexedMetadataKeys(asList("tenant"))
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Metadata index can only be used with HEAP_MATRIX or OFF_HEAP_MATRIX storage mode");
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
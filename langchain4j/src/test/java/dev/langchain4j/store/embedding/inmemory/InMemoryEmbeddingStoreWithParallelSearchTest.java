@@ -0,0 +1,174 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryEmbeddingStoreWithParallelSearchTest extends EmbeddingStoreWithFilteringIT {
+
+    ExecutorService executor = new ForkJoinPool(4);
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.builder()
+            .searchExecutor(executor)
+            .parallelSearchThreshold(1)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    void should_find_the_same_matches_as_sequential_search(StorageMode storageMode) {
+
+        // given
+        AtomicInteger tasks = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(4) {
+
+            @Override
+            public void execute(Runnable task) {
+                tasks.incrementAndGet();
+                super.execute(task);
+            }
+        };
+        InMemoryEmbeddingStore<String> sequentialStore = InMemoryEmbeddingStore.builder()
+                .storageMode(storageMode)
+                .build();
+        InMemoryEmbeddingStore<String> parallelStore = InMemoryEmbeddingStore.builder()
+                .storageMode(storageMode)
+                .searchExecutor(pool)
+                .parallelSearchThreshold(10_000)
+                .build();
+
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add("id-" + i);
+            // duplicates (in different chunks) make sure that ties are resolved the same way
+            boolean duplicate = i > 0 && i % 5_000 == 0;
+            embeddings.add(duplicate ? embeddings.get(0) : randomEmbedding(random, 64));
+        }
+        sequentialStore.addAll(ids, embeddings, ids);
+        parallelStore.addAll(ids, embeddings, ids);
+
+        // when
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(0))
+                .maxResults(50)
+                .build();
+        List<EmbeddingMatch<String>> expected = sequentialStore.search(request).matches();
+        List<EmbeddingMatch<String>> actual = parallelStore.search(request).matches();
+
+        pool.shutdown();
+
+        // then
+        assertThat(tasks).hasValue(3);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.subList(0, 4)).extracting(EmbeddingMatch::embeddingId)
+                .containsExactly("id-0", "id-5000", "id-10000", "id-15000");
+    }
+
+    @Test
+    void should_search_sequentially_below_threshold() {
+
+        // given
+        AtomicInteger tasks = new AtomicInteger();
+        InMemoryEmbeddingStore<String> store = InMemoryEmbeddingStore.builder()
+                .searchExecutor(task -> {
+                    tasks.incrementAndGet();
+                    executor.execute(task);
+                })
+                .parallelSearchThreshold(100_000)
+                .build();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            store.add(randomEmbedding(random, 8));
+        }
+
+        // when
+        store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, 8))
+                .build());
+
+        // then
+        assertThat(tasks).hasValue(0);
+    }
+
+    @Test
+    void should_propagate_exception_thrown_in_parallel_chunk() {
+
+        // given
+        InMemoryEmbeddingStore<String> store = InMemoryEmbeddingStore.builder()
+                .searchExecutor(executor)
+                .parallelSearchThreshold(1)
+                .build();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            store.add(randomEmbedding(random, 8));
+        }
+        store.add(randomEmbedding(random, 4));
+
+        // when-then
+        assertThatThrownBy(() -> store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(randomEmbedding(random, 8))
+                        .build()))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Length of vector a (4) must be equal to the length of vector b (8)");
+    }
+
+    @Test
+    void should_fail_when_parallel_search_threshold_is_not_positive() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder()
+                        .parallelSearchThreshold(0)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("parallelSearchThreshold must be greater than zero, but is: 0");
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,144 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static dev.langchain4j.store.embedding.inmemory.QuantizationBenchmark.clusteredEmbeddings;
+import static dev.langchain4j.store.embedding.inmemory.QuantizationBenchmark.ids;
+import static dev.langchain4j.store.embedding.inmemory.QuantizationBenchmark.perturb;
+import static dev.langchain4j.store.embedding.inmemory.QuantizationBenchmark.recall;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryEmbeddingStoreWithQuantizationTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.builder()
+            .storageMode(StorageMode.OFF_HEAP_MATRIX)
+            .quantization(Quantization.INT8)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @ParameterizedTest
+    @EnumSource(value = Quantization.class, names = {"INT8", "BINARY"})
+    void should_find_nearest_neighbours_with_high_recall_and_exact_scores(Quantization quantization) {
+
+        // given
+        InMemoryEmbeddingStore<String> exactStore = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .build();
+        InMemoryEmbeddingStore<String> quantizedStore = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.OFF_HEAP_MATRIX)
+                .quantization(quantization)
+                .build();
+
+        Random random = new Random(42);
+        List<Embedding> embeddings = clusteredEmbeddings(random, 5_000, 128);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < embeddings.size(); i++) {
+            ids.add("id-" + i);
+        }
+        // added in several batches, so that the quantization ranges have to be widened
+        for (int from = 0; from < embeddings.size(); from += 500) {
+            List<String> batchIds = ids.subList(from, from + 500);
+            List<Embedding> batchEmbeddings = embeddings.subList(from, from + 500);
+            exactStore.addAll(batchIds, batchEmbeddings, batchIds);
+            quantizedStore.addAll(batchIds, batchEmbeddings, batchIds);
+        }
+
+        // when
+        List<Set<String>> expected = new ArrayList<>();
+        List<Set<String>> actual = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(perturb(random, embeddings.get(random.nextInt(embeddings.size())), 0.2f))
+                    .maxResults(10)
+                    .build();
+            List<EmbeddingMatch<String>> exactMatches = exactStore.search(request).matches();
+            List<EmbeddingMatch<String>> quantizedMatches = quantizedStore.search(request).matches();
+            expected.add(ids(exactMatches));
+            actual.add(ids(quantizedMatches));
+
+            // then
+            assertThat(quantizedMatches.get(0)).isEqualTo(exactMatches.get(0));
+        }
+
+        // then
+        assertThat(recall(expected, actual)).isGreaterThan(0.95);
+    }
+
+    @Test
+    void should_apply_min_score_to_exact_scores() {
+
+        // given
+        InMemoryEmbeddingStore<String> store = InMemoryEmbeddingStore.builder()
+                .storageMode(StorageMode.HEAP_MATRIX)
+                .quantization(Quantization.BINARY)
+                .oversampling(1)
+                .build();
+        store.add("1", Embedding.from(new float[] {1, 0.1f}), "1");
+        store.add("2", Embedding.from(new float[] {1, 0.5f}), "2");
+        store.add("3", Embedding.from(new float[] {-1, -1}), "3");
+
+        // when
+        List<EmbeddingMatch<String>> matches = store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] {1, 0.5f}))
+                .maxResults(3)
+                .minScore(0.95)
+                .build()).matches();
+
+        // then
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactly("2", "1");
+    }
+
+    @Test
+    void should_fail_to_use_quantization_with_entries_storage() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder()
+                        .quantization(Quantization.INT8)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Quantization can only be used with HEAP_MATRIX or OFF_HEAP_MATRIX storage mode");
+    }
+
+    @Test
+    void should_fail_when_oversampling_is_not_positive() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder()
+                        .storageMode(StorageMode.HEAP_MATRIX)
+                        .quantization(Quantization.INT8)
+                        .oversampling(0)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("oversampling must be greater than zero, but is: 0");
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,124 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Reports, for each {@link Quantization}, the recall@k against an exact search,
+ * the memory used per vector on the Java heap and the average search latency.
+ * <p>
+ * The data set consists of clusters of random vectors, queries are perturbed copies of stored vectors.
+ * Run {@link #main(String[])} with the test classpath of this module, optionally passing
+ * the number of vectors, the dimension, k and the oversampling.
+ */
+public class QuantizationBenchmark {
+
+    public static void main(String[] args) {
+        int vectors = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int dimension = args.length > 1 ? Integer.parseInt(args[1]) : 384;
+        int k = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        Integer oversampling = args.length > 3 ? Integer.valueOf(args[3]) : null;
+        int queries = 200;
+
+        Random random = new Random(42);
+        List<Embedding> embeddings = clusteredEmbeddings(random, vectors, dimension);
+        List<String> ids = new ArrayList<>(vectors);
+        for (int i = 0; i < vectors; i++) {
+            ids.add(String.valueOf(i));
+        }
+        List<Embedding> queryEmbeddings = new ArrayList<>(queries);
+        for (int i = 0; i < queries; i++) {
+            queryEmbeddings.add(perturb(random, embeddings.get(random.nextInt(vectors)), 0.2f));
+        }
+
+        System.out.printf("%d vectors, %d dimensions, k = %d%n", vectors, dimension, k);
+        System.out.printf("%-8s %-12s %-14s %-14s %-12s%n",
+                "mode", "recall@" + k, "heap/vector", "heap saved", "latency");
+
+        List<Set<String>> expected = null;
+        for (Quantization quantization : Quantization.values()) {
+            InMemoryEmbeddingStore<String> store = InMemoryEmbeddingStore.builder()
+                    .storageMode(quantization == Quantization.NONE ? StorageMode.HEAP_MATRIX : StorageMode.OFF_HEAP_MATRIX)
+                    .quantization(quantization)
+                    .oversampling(quantization == Quantization.NONE ? null : oversampling)
+                    .build();
+            store.addAll(ids, embeddings, ids);
+
+            search(store, queryEmbeddings, k); // warm-up
+            long start = System.nanoTime();
+            List<Set<String>> actual = search(store, queryEmbeddings, k);
+            long latencyMicros = (System.nanoTime() - start) / queries / 1_000;
+
+            if (expected == null) {
+                expected = actual;
+            }
+            int floatBytes = dimension * Float.BYTES;
+            int heapBytes = quantization == Quantization.NONE
+                    ? floatBytes
+                    : QuantizedVectors.create(quantization, dimension).bytesPerRow();
+            System.out.printf("%-8s %-12.4f %-14s %-14s %-12s%n",
+                    quantization,
+                    recall(expected, actual),
+                    heapBytes + " B",
+                    String.format("%.1f MiB", (floatBytes - heapBytes) * (double) vectors / (1 << 20)),
+                    latencyMicros + " us");
+        }
+    }
+
+    static List<Set<String>> search(InMemoryEmbeddingStore<String> store, List<Embedding> queries, int k) {
+        List<Set<String>> results = new ArrayList<>(queries.size());
+        for (Embedding query : queries) {
+            results.add(ids(store.search(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(k)
+                    .build()).matches()));
+        }
+        return results;
+    }
+
+    static double recall(List<Set<String>> expected, List<Set<String>> actual) {
+        int found = 0;
+        int total = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            Set<String> intersection = new HashSet<>(expected.get(i));
+            intersection.retainAll(actual.get(i));
+            found += intersection.size();
+            total += expected.get(i).size();
+        }
+        return total == 0 ? 1 : (double) found / total;
+    }
+
+    static Set<String> ids(List<EmbeddingMatch<String>> matches) {
+        return matches.stream().map(EmbeddingMatch::embeddingId).collect(toSet());
+    }
+
+    static List<Embedding> clusteredEmbeddings(Random random, int count, int dimension) {
+        int clusters = Math.max(1, count / 100);
+        List<Embedding> centroids = new ArrayList<>(clusters);
+        for (int i = 0; i < clusters; i++) {
+            centroids.add(perturb(random, Embedding.from(new float[dimension]), 1f));
+        }
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            embeddings.add(perturb(random, centroids.get(random.nextInt(clusters)), 0.5f));
+        }
+        return embeddings;
+    }
+
+    static Embedding perturb(Random random, Embedding embedding, float stdDev) {
+        float[] vector = embedding.vector().clone();
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] += (float) random.nextGaussian() * stdDev;
+        }
+        return Embedding.from(vector);
+    }
+}